@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.eclipse.jdt.core.compiler.batch.BatchCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the batch compiler on the corpus written to disk, the way a build tool invokes ecj in process: each
+ * invocation sets up its own name environment on the class library and reads the sources from disk. No class files
+ * are written (<code>-d none</code>).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class BatchCompilerBenchmark {
+	private Path directory;
+	private String[] arguments;
+
+	@Setup
+	public void setup() throws IOException {
+		this.directory = Files.createTempDirectory("jdt-benchmark"); //$NON-NLS-1$
+		Corpus.load().writeTo(this.directory);
+		this.arguments = new String[] { "--release", Corpus.VERSION, "-proc:none", "-nowarn", "-d", "none", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+				"-classpath", Corpus.classPath(), this.directory.toString() }; //$NON-NLS-1$
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(this.directory)) {
+			for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator)
+				Files.delete(file);
+		}
+	}
+
+	@Benchmark
+	public boolean compile() {
+		StringWriter errors = new StringWriter();
+		boolean success = BatchCompiler.compile(this.arguments, new PrintWriter(new StringWriter()),
+				new PrintWriter(errors), null);
+		if (!success)
+			throw new IllegalStateException(errors.toString());
+		return success;
+	}
+}
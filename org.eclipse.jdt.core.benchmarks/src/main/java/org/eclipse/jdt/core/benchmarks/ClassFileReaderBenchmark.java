@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Decodes the class files of the <code>java.lang</code> and <code>java.util</code> packages of the running VM.
+ * The bytes are read once, only {@link ClassFileReader} is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassFileReaderBenchmark {
+	private static final String[] PACKAGES = { "modules/java.base/java/lang", "modules/java.base/java/util" };
+
+	@Param({ "false", "true" })
+	public boolean fullyInitialize;
+
+	private char[][] fileNames;
+	private byte[][] contents;
+
+	@Setup
+	public void setup() throws IOException {
+		FileSystem jrt = FileSystems.getFileSystem(URI.create("jrt:/"));
+		List<Path> classFiles = new ArrayList<>();
+		for (String packageName : PACKAGES) {
+			try (Stream<Path> files = Files.list(jrt.getPath(packageName))) {
+				files.filter(file -> file.toString().endsWith(".class")).sorted().forEach(classFiles::add);
+			}
+		}
+		this.fileNames = new char[classFiles.size()][];
+		this.contents = new byte[classFiles.size()][];
+		for (int i = 0; i < this.contents.length; i++) {
+			this.fileNames[i] = classFiles.get(i).toString().toCharArray();
+			this.contents[i] = Files.readAllBytes(classFiles.get(i));
+		}
+	}
+
+	@Benchmark
+	public void read(Blackhole blackhole) throws ClassFormatException {
+		for (int i = 0; i < this.contents.length; i++)
+			blackhole.consume(new ClassFileReader(this.contents[i], this.fileNames[i], this.fullyInitialize));
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.codegen.CodeStream;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Generates the class files of the corpus, i.e. the byte code written by {@link CodeStream} and the class file
+ * structures around it.
+ * <p>
+ * The corpus is parsed, resolved and analysed before each invocation, so only the code generation is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodeStreamBenchmark {
+	private Corpus corpus;
+	private CompilerOptions options;
+	private FileSystem environment;
+	private AnalysingCompiler compiler;
+	private CompilationUnitDeclaration[] units;
+
+	/**
+	 * Runs the phases of a compilation which come before the code generation, on all the units at once.
+	 */
+	private static class AnalysingCompiler extends Compiler {
+		AnalysingCompiler(FileSystem environment, CompilerOptions options) {
+			super(environment, DefaultErrorHandlingPolicies.proceedWithAllProblems(), options, result -> { /* none */ },
+					new DefaultProblemFactory());
+		}
+
+		CompilationUnitDeclaration[] analyse(ICompilationUnit[] sourceUnits) {
+			beginToCompile(sourceUnits);
+			CompilationUnitDeclaration[] declarations = Arrays.copyOf(this.unitsToProcess, this.totalUnits);
+			for (CompilationUnitDeclaration unit : declarations) {
+				this.lookupEnvironment.unitBeingCompleted = unit;
+				this.parser.getMethodBodies(unit);
+				if (unit.scope != null) {
+					unit.scope.faultInTypes();
+					unit.scope.verifyMethods(this.lookupEnvironment.methodVerifier());
+				}
+				unit.resolve();
+				unit.analyseCode();
+				if (unit.compilationResult.hasErrors())
+					throw new IllegalStateException("Corpus does not compile: " + new String(unit.getFileName())); //$NON-NLS-1$
+			}
+			this.lookupEnvironment.unitBeingCompleted = null;
+			return declarations;
+		}
+	}
+
+	@Setup
+	public void setup() {
+		this.corpus = Corpus.load();
+		this.options = Corpus.newCompilerOptions();
+		this.environment = Corpus.newEnvironment();
+	}
+
+	@Setup(Level.Invocation)
+	public void analyse() {
+		this.compiler = new AnalysingCompiler(this.environment, this.options);
+		this.units = this.compiler.analyse(this.corpus.newUnits());
+	}
+
+	@TearDown(Level.Invocation)
+	public void cleanUp() {
+		for (CompilationUnitDeclaration unit : this.units)
+			unit.cleanUp();
+		this.units = null;
+		this.compiler.reset();
+		this.compiler = null;
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.environment.cleanup();
+	}
+
+	@Benchmark
+	public void generateCode(Blackhole blackhole) {
+		for (CompilationUnitDeclaration unit : this.units) {
+			unit.generateCode();
+			for (ClassFile classFile : unit.compilationResult.getClassFiles())
+				blackhole.consume(classFile.getBytes());
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.ClassFile;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ICompilerRequestor;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compiles the corpus in memory against the class library of the running VM.
+ * <p>
+ * {@link #completeTypeBindings()} only measures the first phase of a compilation (diet parse, type bindings
+ * creation and completion), {@link #compile(Blackhole)} a whole compilation up to the generated class files.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompilerBenchmark {
+	/** see {@link Compiler#useSingleThread} **/
+	@Param({ "true", "false" })
+	public boolean useSingleThread;
+
+	private Corpus corpus;
+	private CompilerOptions options;
+	private FileSystem environment;
+
+	private static class TypeCompletionCompiler extends Compiler {
+		TypeCompletionCompiler(FileSystem environment, CompilerOptions options) {
+			super(environment, DefaultErrorHandlingPolicies.proceedWithAllProblems(), options, result -> { /* none */ },
+					new DefaultProblemFactory());
+		}
+
+		void completeTypeBindings(ICompilationUnit[] units) {
+			try {
+				beginToCompile(units);
+			} finally {
+				reset();
+			}
+		}
+	}
+
+	@Setup
+	public void setup() {
+		this.corpus = Corpus.load();
+		this.options = Corpus.newCompilerOptions();
+		this.environment = Corpus.newEnvironment();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.environment.cleanup();
+	}
+
+	@Benchmark
+	public void completeTypeBindings() {
+		new TypeCompletionCompiler(this.environment, this.options).completeTypeBindings(this.corpus.newUnits());
+	}
+
+	@Benchmark
+	public void compile(Blackhole blackhole) {
+		ICompilerRequestor requestor = (CompilationResult result) -> {
+			if (result.hasErrors())
+				throw new IllegalStateException("Corpus does not compile: " + new String(result.getFileName())); //$NON-NLS-1$
+			for (ClassFile classFile : result.getClassFiles())
+				blackhole.consume(classFile.getBytes());
+		};
+		Compiler compiler = new Compiler(this.environment, DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				this.options, requestor, new DefaultProblemFactory());
+		compiler.useSingleThread = this.useSingleThread;
+		compiler.compile(this.corpus.newUnits());
+	}
+}
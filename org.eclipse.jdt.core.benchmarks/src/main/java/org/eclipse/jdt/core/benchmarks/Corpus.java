@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+
+/**
+ * The checked-in sources the benchmarks work on (<code>src/main/resources/corpus</code>), together with the
+ * compiler configuration shared by all benchmarks.
+ * <p>
+ * The corpus is a copy of some compiler sources, it is compiled against the class library of the running VM and
+ * against the compiler classes the benchmarks are running with.
+ */
+final class Corpus {
+	static final String VERSION = CompilerOptions.VERSION_17;
+	static final long JDK_LEVEL = ClassFileConstants.JDK17;
+
+	private static final String ROOT = "corpus/"; //$NON-NLS-1$
+	private static final String ENCODING = "UTF-8"; //$NON-NLS-1$
+
+	final String[] fileNames;
+	final char[][] contents;
+
+	private Corpus(String[] fileNames, char[][] contents) {
+		this.fileNames = fileNames;
+		this.contents = contents;
+	}
+
+	static Corpus load() {
+		List<String> names = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(open(ROOT + "files.txt"), StandardCharsets.UTF_8))) { //$NON-NLS-1$
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isBlank())
+					names.add(line.trim());
+			}
+			char[][] contents = new char[names.size()][];
+			for (int i = 0; i < contents.length; i++) {
+				try (InputStream stream = open(ROOT + names.get(i))) {
+					contents[i] = new String(stream.readAllBytes(), StandardCharsets.UTF_8).toCharArray();
+				}
+			}
+			return new Corpus(names.toArray(new String[names.size()]), contents);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static InputStream open(String resource) throws IOException {
+		InputStream stream = Corpus.class.getClassLoader().getResourceAsStream(resource);
+		if (stream == null)
+			throw new IOException("Missing corpus resource " + resource); //$NON-NLS-1$
+		return stream;
+	}
+
+	/**
+	 * Answers new compilation units for the corpus: the compiler releases the units it was given, so each compilation
+	 * needs its own array.
+	 */
+	ICompilationUnit[] newUnits() {
+		ICompilationUnit[] units = new ICompilationUnit[this.fileNames.length];
+		for (int i = 0; i < units.length; i++)
+			units[i] = new CompilationUnit(this.contents[i], this.fileNames[i], ENCODING);
+		return units;
+	}
+
+	/**
+	 * Writes the corpus below the given directory, answers the written files.
+	 */
+	String[] writeTo(Path directory) {
+		String[] files = new String[this.fileNames.length];
+		try {
+			for (int i = 0; i < files.length; i++) {
+				Path file = directory.resolve(this.fileNames[i]);
+				Files.createDirectories(file.getParent());
+				Files.writeString(file, new String(this.contents[i]), StandardCharsets.UTF_8);
+				files[i] = file.toString();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return files;
+	}
+
+	static CompilerOptions newCompilerOptions() {
+		Map<String, String> settings = new HashMap<>();
+		settings.put(CompilerOptions.OPTION_Compliance, VERSION);
+		settings.put(CompilerOptions.OPTION_Source, VERSION);
+		settings.put(CompilerOptions.OPTION_TargetPlatform, VERSION);
+		return new CompilerOptions(settings);
+	}
+
+	static ProblemReporter newProblemReporter(CompilerOptions options) {
+		return new ProblemReporter(DefaultErrorHandlingPolicies.proceedWithAllProblems(), options,
+				new DefaultProblemFactory());
+	}
+
+	/**
+	 * Answers the class path to compile the corpus: the jar or directory containing the compiler classes.
+	 */
+	static String classPath() {
+		try {
+			return Paths.get(Compiler.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+		} catch (URISyntaxException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Answers a name environment on the class library of the running VM and on the {@link #classPath()}.
+	 */
+	static FileSystem newEnvironment() {
+		String jrt = Paths.get(System.getProperty("java.home"), "lib", "jrt-fs.jar").toString(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return new FileSystem(new String[] { jrt, classPath() }, null, ENCODING);
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses the whole corpus, either completely or without the method bodies (diet parse) as done by the compiler for
+ * large sets of units.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+	@Param({ "false", "true" })
+	public boolean diet;
+
+	private Corpus corpus;
+	private CompilerOptions options;
+	private Parser parser;
+
+	@Setup
+	public void setup() {
+		this.corpus = Corpus.load();
+		this.options = Corpus.newCompilerOptions();
+		this.parser = new Parser(Corpus.newProblemReporter(this.options), this.options.parseLiteralExpressionsAsConstants);
+	}
+
+	@Benchmark
+	public void parse(Blackhole blackhole) {
+		ICompilationUnit[] units = this.corpus.newUnits();
+		for (int i = 0; i < units.length; i++) {
+			CompilationResult result = new CompilationResult(units[i], i, units.length, this.options.maxProblemsPerUnit);
+			CompilationUnitDeclaration unit = this.diet
+					? this.parser.dietParse(units[i], result)
+					: this.parser.parse(units[i], result);
+			blackhole.consume(unit);
+		}
+	}
+}
@@ -79,6 +79,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	public int annotationProcessorStartIndex = 0;
 	public ReferenceBinding[] referenceBindings;
 	public boolean useSingleThread = true; // by default the compiler will not use worker threads to read/process/write
+	public int parseAheadThreads = 1; // number of threads parsing method bodies ahead of processing (<= 1: none)
+	private ParseAheadManager parseAheadManager;
 
 	// number of initial units parsed at once (-1: none)
 
@@ -437,6 +439,12 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 
 	protected void processCompiledUnits(int startingIndex, boolean lastRound) throws java.lang.Error {
 		CompilationUnitDeclaration unit = null;
+		if (this.parseAheadManager != null) // left by the previous round of annotation processing
+			this.parseAheadManager.close();
+		// subclasses may use a specialized parser which cannot simply be replicated for the worker threads
+		this.parseAheadManager = this.parseAheadThreads > 1 && this.parser.getClass() == Parser.class
+				? new ParseAheadManager(this, this.parseAheadThreads, startingIndex)
+				: null;
 		try {
 			if (this.useSingleThread) {
 				// process all units (some more could be injected in the loop by the lookup environment)
@@ -792,6 +800,9 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	 */
 	public void process(CompilationUnitDeclaration unit, int i) {
 		this.lookupEnvironment.unitBeingCompleted = unit;
+		if (this.parseAheadManager != null)
+			this.parseAheadManager.parseAhead(unit, i);
+
 		long parseStart = System.currentTimeMillis();
 
 		this.parser.getMethodBodies(unit);
@@ -920,6 +931,10 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	}
 
 	public void reset() {
+		if (this.parseAheadManager != null) {
+			this.parseAheadManager.close();
+			this.parseAheadManager = null;
+		}
 		this.lookupEnvironment.reset();
 		this.parser.scanner.source = null;
 		this.unitsToProcess = null;
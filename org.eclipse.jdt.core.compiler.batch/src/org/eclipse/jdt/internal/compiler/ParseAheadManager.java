@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.compiler;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+
+/**
+ * Parses the method bodies of units waiting to be processed before they are actually needed (ahead), using several
+ * worker threads.
+ * <p>
+ * Method body parsing only touches the unit being parsed, so it can run concurrently as long as no unit is resolved at
+ * the same time: bindings are created lazily by the single {@link org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment}
+ * and resolving one unit may record problems against or fault in parts of another one. The units are therefore parsed
+ * in windows: the processing thread parses the next window together with the workers, waits for all of them and then
+ * resolves, analyses and generates the units of that window one after the other in the original order. Each worker
+ * uses its own {@link Parser} and {@link ProblemReporter}, so syntax problems are recorded exactly as if the bodies were
+ * parsed during {@link Compiler#process(CompilationUnitDeclaration, int)}.
+ * <p>
+ * The workers are {@link Compiler#parseAheadThreads} - 1 threads (the processing thread being the last one), which are
+ * started by the manager and stopped when it is closed at the end of the processing of the compiler.
+ */
+public class ParseAheadManager implements AutoCloseable {
+	/** number of units each thread parses per window **/
+	private static final int UNITS_PER_THREAD = 8;
+
+	private final Compiler compiler;
+	private final ExecutorService parserService;
+	private final int threadCount;
+	/** index of the first unit which was not yet part of a window **/
+	private int nextIndex;
+	/** unexpected failures, reported when the failing unit is processed **/
+	private final Map<CompilationUnitDeclaration, Throwable> failures = new IdentityHashMap<>();
+
+	public ParseAheadManager(Compiler compiler, int threadCount, int startingIndex) {
+		this.compiler = compiler;
+		this.threadCount = threadCount;
+		this.nextIndex = startingIndex;
+		this.parserService = Executors.newFixedThreadPool(threadCount - 1, r -> {
+			Thread t = new Thread(r, "Compiler Method Body Parser"); //$NON-NLS-1$
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	/**
+	 * Makes sure the method bodies of the given unit are parsed. When the unit is not part of a previous window, the
+	 * bodies of the given unit and of the next units to process are parsed in parallel.
+	 *
+	 * @param unit the unit about to be processed
+	 * @param index the index of the unit in {@link Compiler#unitsToProcess}
+	 */
+	public void parseAhead(CompilationUnitDeclaration unit, int index) throws Error, AbortCompilation {
+		if (index >= this.nextIndex) {
+			List<CompilationUnitDeclaration> window = nextWindow(unit, index);
+			long parseStart = System.currentTimeMillis();
+			parseWindow(window);
+			this.compiler.stats.parseTime += System.currentTimeMillis() - parseStart;
+		}
+		Throwable failure;
+		synchronized (this.failures) {
+			failure = this.failures.remove(unit);
+		}
+		if (failure instanceof Error error) {
+			throw error;
+		}
+		if (failure instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+	}
+
+	private List<CompilationUnitDeclaration> nextWindow(CompilationUnitDeclaration unit, int index) {
+		int windowSize = this.threadCount * UNITS_PER_THREAD;
+		List<CompilationUnitDeclaration> window = new ArrayList<>(windowSize);
+		window.add(unit);
+		synchronized (this.compiler) { // units might be injected by the lookup environment
+			int end = Math.min(index + windowSize, this.compiler.totalUnits);
+			for (int i = index + 1; i < end; i++) {
+				CompilationUnitDeclaration next = this.compiler.unitsToProcess[i];
+				if (next != null && !next.compilationResult.hasBeenAccepted) {
+					window.add(next);
+				}
+			}
+			this.nextIndex = end;
+		}
+		return window;
+	}
+
+	/**
+	 * Stops the worker threads and forgets the failures recorded for units which were not processed, e.g. when the
+	 * compilation was aborted.
+	 */
+	@Override
+	public void close() {
+		this.parserService.shutdownNow();
+		synchronized (this.failures) {
+			this.failures.clear();
+		}
+	}
+
+	private void parseWindow(List<CompilationUnitDeclaration> window) {
+		int tasks = Math.min(this.threadCount, window.size());
+		List<Future<?>> futures = new ArrayList<>(tasks - 1);
+		for (int task = 1; task < tasks; task++) {
+			int first = task;
+			futures.add(this.parserService.submit(() -> parseSlice(window, first, tasks)));
+		}
+		parseSlice(window, 0, tasks); // the processing thread takes its share
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException interrupt) {
+				Thread.currentThread().interrupt(); // let the caller know
+				for (Future<?> other : futures) {
+					other.cancel(true);
+				}
+				throw new AbortCompilation(window.get(0).compilationResult, interrupt);
+			} catch (ExecutionException e) {
+				// failures of single units are recorded in parseSlice, rethrow the other ones as they are so that the
+				// compiler handles them as if they were thrown on the processing thread
+				Throwable cause = e.getCause();
+				if (cause instanceof Error error) {
+					throw error;
+				}
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw new RuntimeException(cause);
+			}
+		}
+	}
+
+	private void parseSlice(List<CompilationUnitDeclaration> window, int first, int step) {
+		Parser parser = new Parser(
+				new ProblemReporter(this.compiler.problemReporter.policy, this.compiler.options,
+						this.compiler.problemReporter.problemFactory),
+				this.compiler.options.parseLiteralExpressionsAsConstants);
+		for (int i = first; i < window.size(); i += step) {
+			CompilationUnitDeclaration unit = window.get(i);
+			try {
+				parser.getMethodBodies(unit);
+			} catch (Error | RuntimeException uncheckedThrowable) {
+				synchronized (this.failures) {
+					this.failures.put(unit, uncheckedThrowable);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Persistent cache of the entries read from one archive, shared by all the batch compilations which run on the same
+ * machine (typically the many ecj invocations of a Maven or Tycho build).
+ * <p>
+ * The cache is enabled by setting the system property {@value #DIRECTORY_PROPERTY} to a directory. Each version of an
+ * archive has one cache file in that directory, identified by the absolute path, the size and the last modification
+ * time of the archive. A cache file holds the names of all the entries of the archive and the uncompressed bytes of
+ * the entries the previous compilations asked for. It is memory mapped read-only, so a hit neither opens the archive
+ * nor inflates the zip entry, and the names answer which packages the archive declares and which entries it does not
+ * contain without opening it either.
+ * <p>
+ * Entries missing from the cache are read from the archive and appended to the cache file when the compilation is
+ * over ({@link #save()}), or as soon as they hold more than {@link #MAX_ADDED_SIZE} bytes. The file is only ever
+ * appended to: the writer holds an exclusive lock on the file, writes the new entries after the committed ones and
+ * then updates the committed length in the header, while the readers hold a shared lock while they read the header
+ * and the names of the committed entries. Concurrent compilations therefore add their entries to the same file and
+ * never see partial entries, and the bytes of the committed entries never change while they are mapped. Creating the
+ * file of a new version of an archive deletes the files of its previous versions. Failing to read or write a cache
+ * file is not an error: the entries are read from the archive as if the cache was not enabled.
+ * <p>
+ * Cache file format:
+ * <pre>
+ * int MAGIC, int VERSION, key (UTF-8 with short length),
+ * int archive entry count, archive entry count * name (UTF-8 with short length),
+ * int committed length,
+ * entries: name (UTF-8 with short length), int length, bytes
+ * </pre>
+ */
+class ClassFileCache {
+	static final String DIRECTORY_PROPERTY = "jdt.compiler.classFileCache"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x4A444346; // JDCF
+	private static final int VERSION = 2;
+	private static final String SUFFIX = ".classes"; //$NON-NLS-1$
+	private static final int MAX_ADDED_SIZE = 8 * 1024 * 1024;
+
+	private final Path cacheFile;
+	/** start of the names of the cache files of all the versions of the archive **/
+	private final String prefix;
+	private final String key;
+	private boolean loaded;
+	/** read-only mapping of the committed part of the cache file, null when the file was not read **/
+	private MappedByteBuffer buffer;
+	/** position of the committed length in the header **/
+	private int committedPosition;
+	/** end of the entries read from the cache file **/
+	private int end;
+	/** names of the entries of the archive, null when unknown **/
+	private Set<String> entryNames;
+	/** entry name -> offset of the entry bytes in the buffer **/
+	private final Map<String, Integer> offsets = new HashMap<>();
+	/** entries read from the archive since the cache file was last written **/
+	private final Map<String, byte[]> added = new LinkedHashMap<>();
+	private int addedSize;
+
+	private ClassFileCache(Path cacheFile, String prefix, String key) {
+		this.cacheFile = cacheFile;
+		this.prefix = prefix;
+		this.key = key;
+	}
+
+	/**
+	 * Answers the cache of the given archive, or null when the cache is not enabled.
+	 */
+	static ClassFileCache forArchive(File archive) {
+		String directory = System.getProperty(DIRECTORY_PROPERTY);
+		if (directory == null || directory.isEmpty())
+			return null;
+		String path = archive.getAbsolutePath();
+		String key = path + '|' + archive.length() + '|' + archive.lastModified();
+		String prefix = archive.getName() + '-' + Integer.toHexString(path.hashCode()) + '-';
+		return new ClassFileCache(Paths.get(directory, prefix + Integer.toHexString(key.hashCode()) + SUFFIX), prefix, key);
+	}
+
+	/**
+	 * Answers the names of all the entries of the archive, or null when the cache does not know them.
+	 */
+	synchronized Set<String> entryNames() {
+		if (!this.loaded)
+			load();
+		return this.entryNames;
+	}
+
+	/**
+	 * Records the names of all the entries of the archive, they are written with the first entries added to the cache.
+	 */
+	synchronized void setEntryNames(Collection<String> names) {
+		if (this.entryNames == null)
+			this.entryNames = Collections.unmodifiableSet(new HashSet<>(names));
+	}
+
+	/**
+	 * Answers the cached bytes of the given entry, or null when they are not in the cache.
+	 */
+	synchronized byte[] get(String entryName) {
+		if (!this.loaded)
+			load();
+		Integer offset = this.offsets.get(entryName);
+		if (offset == null)
+			return this.added.get(entryName);
+		byte[] bytes = new byte[this.buffer.getInt(offset - 4)];
+		this.buffer.get(offset, bytes);
+		return bytes;
+	}
+
+	/**
+	 * Records the given entry read from the archive, it is appended to the cache file by {@link #save()}.
+	 */
+	synchronized void put(String entryName, byte[] bytes) {
+		if (this.added.put(entryName, bytes) == null)
+			this.addedSize += bytes.length;
+		if (this.addedSize > MAX_ADDED_SIZE)
+			save(); // do not keep a copy of every entry until the compilation is over
+	}
+
+	private void load() {
+		this.loaded = true;
+		synchronized (ClassFileCache.class) { // file locks are held by the JVM, not by the thread
+			try (FileChannel channel = FileChannel.open(this.cacheFile, StandardOpenOption.READ);
+					FileLock lock = channel.lock(0, Long.MAX_VALUE, true)) {
+				read(channel);
+			} catch (NoSuchFileException e) {
+				// first compilation against this version of the archive
+			} catch (IOException | RuntimeException e) {
+				// corrupted file or file of another archive, do not use it
+				// (BufferUnderflowException, IllegalArgumentException, IndexOutOfBoundsException)
+				this.buffer = null;
+				this.offsets.clear();
+			}
+		}
+	}
+
+	/**
+	 * Maps the cache file and reads the names of the entries committed since it was last read. The caller holds a lock
+	 * on the file.
+	 */
+	private void read(FileChannel channel) throws IOException {
+		long size = channel.size();
+		if (size == 0)
+			return; // being created
+		if (size > Integer.MAX_VALUE)
+			throw new IOException("Class file cache too large: " + this.cacheFile); //$NON-NLS-1$
+		MappedByteBuffer content = channel.map(MapMode.READ_ONLY, 0, size);
+		if (this.buffer == null) {
+			if (content.getInt() != MAGIC || content.getInt() != VERSION || !this.key.equals(getString(content)))
+				throw new IOException("Not a class file cache of " + this.key); //$NON-NLS-1$
+			int count = content.getInt();
+			Set<String> names = new HashSet<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				names.add(getString(content));
+			}
+			this.entryNames = Collections.unmodifiableSet(names);
+			this.committedPosition = content.position();
+			this.end = this.committedPosition + 4;
+		}
+		this.buffer = content;
+		int committed = content.getInt(this.committedPosition);
+		content.position(this.end);
+		while (content.position() < committed) {
+			String name = getString(content);
+			int length = content.getInt();
+			int offset = content.position();
+			content.position(offset + length); // fails on a truncated entry
+			this.offsets.put(name, offset);
+			this.end = content.position();
+		}
+	}
+
+	private static String getString(ByteBuffer buffer) throws BufferUnderflowException {
+		byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void putString(DataOutputStream stream, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		stream.writeShort(bytes.length);
+		stream.write(bytes);
+	}
+
+	/**
+	 * Appends the entries added since the cache file was last written, creating the file if needed. The entries
+	 * appended by other compilations meanwhile are read too, the mapping of the file stays in use.
+	 */
+	synchronized void save() {
+		if (this.added.isEmpty())
+			return;
+		if (!this.loaded)
+			load();
+		try {
+			Files.createDirectories(this.cacheFile.getParent());
+			synchronized (ClassFileCache.class) {
+				try (FileChannel channel = FileChannel.open(this.cacheFile,
+						StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+						FileLock lock = channel.lock()) {
+					if (channel.size() == 0) {
+						if (this.entryNames == null)
+							return; // the names must be known when the file is created
+						write(channel, header(), 0);
+						deletePreviousVersions();
+					}
+					read(channel);
+					ByteArrayOutputStream bytes = new ByteArrayOutputStream(this.addedSize + this.added.size() * 64);
+					DataOutputStream stream = new DataOutputStream(bytes);
+					for (Map.Entry<String, byte[]> entry : this.added.entrySet()) {
+						if (this.offsets.containsKey(entry.getKey()))
+							continue; // appended by another compilation
+						putString(stream, entry.getKey());
+						stream.writeInt(entry.getValue().length);
+						stream.write(entry.getValue());
+					}
+					long committed = (long) this.end + bytes.size();
+					if (bytes.size() == 0 || committed > Integer.MAX_VALUE)
+						return;
+					write(channel, bytes.toByteArray(), this.end);
+					channel.force(false);
+					write(channel, ByteBuffer.allocate(4).putInt((int) committed).array(), this.committedPosition);
+					read(channel);
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			// the cache is optional, the next compilation reads from the archive again
+		} finally {
+			this.added.clear();
+			this.addedSize = 0;
+		}
+	}
+
+	private byte[] header() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream stream = new DataOutputStream(bytes);
+		stream.writeInt(MAGIC);
+		stream.writeInt(VERSION);
+		putString(stream, this.key);
+		stream.writeInt(this.entryNames.size());
+		for (String name : this.entryNames) {
+			putString(stream, name);
+		}
+		stream.writeInt(bytes.size() + 4); // no entries committed yet
+		return bytes.toByteArray();
+	}
+
+	private static void write(FileChannel channel, byte[] bytes, long position) throws IOException {
+		ByteBuffer source = ByteBuffer.wrap(bytes);
+		while (source.hasRemaining()) {
+			channel.write(source, position + source.position());
+		}
+	}
+
+	private void deletePreviousVersions() {
+		DirectoryStream.Filter<Path> filter = file -> {
+			String name = file.getFileName().toString();
+			return name.startsWith(this.prefix) && name.endsWith(SUFFIX) && !file.equals(this.cacheFile);
+		};
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(this.cacheFile.getParent(), filter)) {
+			for (Path file : files) {
+				try {
+					Files.deleteIfExists(file);
+				} catch (IOException e) {
+					// still mapped by another compilation on Windows, deleted next time
+				}
+			}
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+}
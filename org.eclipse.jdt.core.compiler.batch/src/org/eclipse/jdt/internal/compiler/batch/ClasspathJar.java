@@ -16,9 +16,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.batch;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
@@ -40,6 +40,7 @@ import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.lookup.BinaryTypeBinding.ExternalAnnotationStatus;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
 import org.eclipse.jdt.internal.compiler.util.ManifestAnalyzer;
+import org.eclipse.jdt.internal.compiler.util.ResidentBinaryTypes;
 import org.eclipse.jdt.internal.compiler.util.SuffixConstants;
 import org.eclipse.jdt.internal.compiler.util.Util;
 
@@ -52,12 +53,22 @@ protected ZipFile annotationZipFile;
 protected boolean closeZipFileAtEnd;
 protected Set<String> packageCache;
 protected List<String> annotationPaths;
+/** persistent cache of the class files read from this jar, see {@link ClassFileCache} **/
+private final ClassFileCache classFileCache;
+/** decoded class files of this jar kept across compilations, see {@link ResidentBinaryTypes} **/
+private final ResidentBinaryTypes.Archive residentBinaryTypes;
 
 public ClasspathJar(File file, boolean closeZipFileAtEnd,
 		AccessRuleSet accessRuleSet, String destinationPath) {
+	this(file, closeZipFileAtEnd, accessRuleSet, destinationPath, true);
+}
+protected ClasspathJar(File file, boolean closeZipFileAtEnd,
+		AccessRuleSet accessRuleSet, String destinationPath, boolean readsClassFiles) {
 	super(accessRuleSet, destinationPath);
 	this.file = file;
 	this.closeZipFileAtEnd = closeZipFileAtEnd;
+	this.classFileCache = readsClassFiles ? ClassFileCache.forArchive(file) : null;
+	this.residentBinaryTypes = readsClassFiles ? ResidentBinaryTypes.forArchive(file) : null;
 }
 
 @Override
@@ -65,15 +76,11 @@ public List<Classpath> fetchLinkedJars(FileSystem.ClasspathSectionProblemReporte
 	// expected to be called once only - if multiple calls desired, consider
 	// using a cache
 	try {
-		initialize();
 		ArrayList<Classpath> result = new ArrayList<>();
-		ZipEntry manifest = this.zipFile.getEntry(TypeConstants.META_INF_MANIFEST_MF);
-		if (manifest != null) { // non-null implies regular file
+		byte[] manifest = readEntry(TypeConstants.META_INF_MANIFEST_MF);
+		if (manifest != null) {
 			ManifestAnalyzer analyzer = new ManifestAnalyzer();
-			boolean success;
-			try (InputStream inputStream = this.zipFile.getInputStream(manifest)) {
-				success = analyzer.analyzeManifestContents(inputStream);
-			}
+			boolean success = analyzer.analyzeManifestContents(new ByteArrayInputStream(manifest));
 			List<String> calledFileNames = analyzer.getCalledFileNames();
 			if (problemReporter != null) {
 				if (!success || analyzer.getClasspathSectionsCount() == 1 &&  calledFileNames == null) {
@@ -112,7 +119,7 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 		return null; // most common case
 
 	try {
-		IBinaryType reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+		IBinaryType reader = readClassFile(qualifiedBinaryFileName);
 		if (reader != null) {
 			char[] modName = this.module == null ? null : this.module.name();
 			if (reader instanceof ClassFileReader) {
@@ -149,11 +156,64 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 	}
 	return null;
 }
+private ClassFileReader readClassFile(String qualifiedBinaryFileName) throws ClassFormatException, IOException {
+	// readers of a modular jar get their module name set, they cannot be shared
+	ResidentBinaryTypes.Archive residentTypes = this.module == null ? this.residentBinaryTypes : null;
+	if (residentTypes != null) {
+		ClassFileReader reader = residentTypes.get(qualifiedBinaryFileName);
+		if (reader != null)
+			return reader;
+	}
+	byte[] content = readEntry(qualifiedBinaryFileName);
+	if (content == null)
+		return null;
+	ClassFileReader reader = ClassFileReader.read(this.file, qualifiedBinaryFileName, content, residentTypes != null);
+	if (residentTypes != null) {
+		residentTypes.put(qualifiedBinaryFileName, reader);
+	}
+	return reader;
+}
+/**
+ * Answers the content of the given entry, or null when this jar has no such entry. The class file cache answers
+ * without opening the jar when it holds the entry or knows that the jar does not contain it.
+ */
+private byte[] readEntry(String entryName) throws IOException {
+	if (this.classFileCache != null) {
+		byte[] content = this.classFileCache.get(entryName);
+		if (content != null)
+			return content;
+		Set<String> entryNames = this.classFileCache.entryNames();
+		if (entryNames != null && !entryNames.contains(entryName))
+			return null;
+	}
+	ZipFile zip = openZipFile();
+	ZipEntry entry = zip.getEntry(entryName);
+	if (entry == null)
+		return null;
+	byte[] content = Util.getZipEntryByteContent(entry, zip);
+	if (this.classFileCache != null) {
+		this.classFileCache.put(entryName, content);
+	}
+	return content;
+}
+/**
+ * Answers the names of the entries of this jar, from the class file cache when it knows them.
+ */
+private Iterable<String> entryNames() {
+	Set<String> entryNames = this.classFileCache == null ? null : this.classFileCache.entryNames();
+	if (entryNames != null)
+		return entryNames;
+	return () -> this.zipFile.stream().map(ZipEntry::getName).iterator();
+}
 @Override
 public boolean hasAnnotationFileFor(String qualifiedTypeName) {
+	String entryName = qualifiedTypeName+ExternalAnnotationProvider.ANNOTATION_FILE_SUFFIX;
+	Set<String> entryNames = this.classFileCache == null ? null : this.classFileCache.entryNames();
+	if (entryNames != null)
+		return entryNames.contains(entryName);
 	if (this.zipFile == null)
 		return false;
-	return this.zipFile.getEntry(qualifiedTypeName+ExternalAnnotationProvider.ANNOTATION_FILE_SUFFIX) != null;
+	return this.zipFile.getEntry(entryName) != null;
 }
 @Override
 public char[][][] findTypeNames(final String qualifiedPackageName, String moduleName) {
@@ -161,9 +221,7 @@ public char[][][] findTypeNames(final String qualifiedPackageName, String module
 		return null; // most common case
 	final char[] packageArray = qualifiedPackageName.toCharArray();
 	final ArrayList answers = new ArrayList();
-	nextEntry : for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
-
+	nextEntry : for (String fileName : entryNames()) {
 		// add the package name & all of its parent packages
 		int last = fileName.lastIndexOf('/');
 		if (last > 0) {
@@ -192,9 +250,26 @@ public char[][][] findTypeNames(final String qualifiedPackageName, String module
 
 @Override
 public void initialize() throws IOException {
+	if (this.classFileCache == null || this.classFileCache.entryNames() == null) {
+		openZipFile();
+	}
+}
+/**
+ * Answers the zip file of this jar, which {@link #initialize()} leaves closed when the class file cache knows the
+ * entries of the jar. The names of the entries are given to the cache when it does not know them yet.
+ */
+protected ZipFile openZipFile() throws IOException {
 	if (this.zipFile == null) {
 		this.zipFile = new ZipFile(this.file);
+		if (this.classFileCache != null && this.classFileCache.entryNames() == null) {
+			List<String> entryNames = new ArrayList<>();
+			for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
+				entryNames.add(e.nextElement().getName());
+			}
+			this.classFileCache.setEntryNames(entryNames);
+		}
 	}
+	return this.zipFile;
 }
 void acceptModule(ClassFileReader reader) {
 	if (reader != null) {
@@ -233,8 +308,7 @@ public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageN
 	this.packageCache = new HashSet<>(41);
 	this.packageCache.add(Util.EMPTY_STRING);
 
-	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
+	for (String fileName : entryNames()) {
 		addToPackageCache(fileName, false);
 	}
 	return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
@@ -242,8 +316,7 @@ public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageN
 @Override
 public boolean hasCompilationUnit(String qualifiedPackageName, String moduleName) {
 	qualifiedPackageName += '/';
-	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
+	for (String fileName : entryNames()) {
 		if (fileName.startsWith(qualifiedPackageName) && fileName.length() > qualifiedPackageName.length()) {
 			String tail = fileName.substring(qualifiedPackageName.length());
 			if (tail.indexOf('/') != -1)
@@ -258,8 +331,7 @@ public boolean hasCompilationUnit(String qualifiedPackageName, String moduleName
 @Override
 public char[][] listPackages() {
 	Set<String> packageNames = new HashSet<>();
-	for (Enumeration<? extends ZipEntry> e = this.zipFile.entries(); e.hasMoreElements(); ) {
-		String fileName = e.nextElement().getName();
+	for (String fileName : entryNames()) {
 		int lastSlash = fileName.lastIndexOf('/');
 		if (lastSlash != -1 && fileName.toLowerCase().endsWith(SUFFIX_STRING_class))
 			packageNames.add(fileName.substring(0, lastSlash).replace('/', '.'));
@@ -288,6 +360,9 @@ public void reset() {
 			this.annotationZipFile = null;
 		}
 	}
+	if (this.classFileCache != null) {
+		this.classFileCache.save();
+	}
 	this.packageCache = null;
 	this.annotationPaths = null;
 }
@@ -41,7 +41,7 @@ public class ClasspathJmod extends ClasspathJar {
 
 public ClasspathJmod(File file, boolean closeZipFileAtEnd,
 		AccessRuleSet accessRuleSet, String destinationPath) {
-	super(file, closeZipFileAtEnd, accessRuleSet, destinationPath);
+	super(file, closeZipFileAtEnd, accessRuleSet, destinationPath, false /* findClass() reads the classes folder without the caches */);
 }
 
 @Override
@@ -40,6 +40,8 @@ public class ClasspathMultiReleaseJar extends ClasspathJar {
 			this.releasePath = this.fs.getPath("/", "META-INF", "versions", this.compliance); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 			if (!Files.exists(this.releasePath)) {
 				this.releasePath = null;
+			} else {
+				openZipFile(); // the packages are read from the zip file, see getModulesDeclaringPackage()
 			}
 		}
 	}
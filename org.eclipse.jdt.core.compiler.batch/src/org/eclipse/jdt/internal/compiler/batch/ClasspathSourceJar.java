@@ -27,7 +27,7 @@ public class ClasspathSourceJar extends ClasspathJar {
 	public ClasspathSourceJar(File file, boolean closeZipFileAtEnd,
 			AccessRuleSet accessRuleSet, String encoding,
 			String destinationPath) {
-		super(file, closeZipFileAtEnd, accessRuleSet, destinationPath);
+		super(file, closeZipFileAtEnd, accessRuleSet, destinationPath, false /* no class files */);
 		this.encoding = encoding;
 	}
 
@@ -4699,6 +4699,8 @@ public void performCompilation() {
 		// temporary code to allow the compiler to revert to a single thread
 		String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 		this.batchCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+		// number of threads parsing method bodies ahead of processing, see ParseAheadManager
+		this.batchCompiler.parseAheadThreads = Integer.getInteger("jdt.compiler.parseAheadThreads", 1).intValue(); //$NON-NLS-1$
 
 		if (this.compilerOptions.processAnnotations) {
 			initializeAnnotationProcessorManager();
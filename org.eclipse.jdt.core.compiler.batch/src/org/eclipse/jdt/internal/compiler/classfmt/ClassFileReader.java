@@ -50,7 +50,9 @@ public class ClassFileReader extends ClassFileStruct implements IBinaryType {
 	private final int constantPoolCount;
 	private AnnotationInfo[] annotations;
 	private TypeAnnotationInfo[] typeAnnotations;
-	private FieldInfo[] fields;
+	/** decoded on demand, see {@link #getFields()} **/
+	private volatile FieldInfo[] fields;
+	private int fieldsOffset;
 	private ModuleInfo moduleDeclaration;
 	public char[] moduleName;
 	private final int fieldsCount;
@@ -62,7 +64,9 @@ public class ClassFileReader extends ClassFileStruct implements IBinaryType {
 	private final int interfacesCount;
 	private char[][] permittedSubtypesNames;
 	private int permittedSubtypesCount;
-	private MethodInfo[] methods;
+	/** decoded on demand, see {@link #getMethods()} **/
+	private volatile MethodInfo[] methods;
+	private int methodsOffset;
 	private final int methodsCount;
 	private final char[] signature;
 	private char[] sourceName;
@@ -162,16 +166,19 @@ public static ClassFileReader read(java.util.zip.ZipFile zip, String filename, b
 		return null;
 	}
 	try (InputStream stream = zip.getInputStream(ze)) {
-		URI uri =  URI.create("jar:file://" + toUri(zip.getName()).getRawPath() + "!/" + filename); //$NON-NLS-1$ //$NON-NLS-2$
-		ClassFileReader classFileReader = new ClassFileReader(uri, Util.getInputStreamAsByteArray(stream),
-				filename.toCharArray());
-		if (fullyInitialize) {
-			classFileReader.initialize();
-		}
-		return classFileReader;
+		return read(new File(zip.getName()), filename, Util.getInputStreamAsByteArray(stream), fullyInitialize);
 	}
 }
 
+/**
+ * Answers a reader on the given content of the given entry of the given archive, which was read before.
+ */
+public static ClassFileReader read(File archive, String filename, byte[] classFileBytes, boolean fullyInitialize)
+		throws ClassFormatException {
+	URI uri =  URI.create("jar:file://" + toUri(archive.getPath()).getRawPath() + "!/" + filename); //$NON-NLS-1$ //$NON-NLS-2$
+	return new ClassFileReader(uri, classFileBytes, filename.toCharArray(), fullyInitialize);
+}
+
 /**
  * same as <code>new java.io.File(absoluteNormalFilePath).toURI()</code> if absoluteNormalFilePath is not a directory
  * but faster because it avoid IO for the isDirectory check.
@@ -215,7 +222,18 @@ public ClassFileReader(byte classFileBytes[], char[] fileName) throws ClassForma
  * @exception ClassFormatException
  */
 public ClassFileReader(URI path, byte classFileBytes[], char[] fileName) throws ClassFormatException {
-	this(classFileBytes, fileName, false);
+	this(path, classFileBytes, fileName, false);
+}
+/**
+ * @param path URI pointing to the resource of the .class file
+ * @param classFileBytes Actual bytes of a .class file
+ * @param fileName	Actual name of the file that contains the bytes, can be null
+ * @param fullyInitialize Flag to fully initialize the new object
+ *
+ * @exception ClassFormatException
+ */
+public ClassFileReader(URI path, byte classFileBytes[], char[] fileName, boolean fullyInitialize) throws ClassFormatException {
+	this(classFileBytes, fileName, fullyInitialize);
 	this.path = path;
 	if (this.moduleDeclaration != null)
 		this.moduleDeclaration.path = this.path;
@@ -365,31 +383,16 @@ public ClassFileReader(byte[] classFileBytes, char[] fileName, boolean fullyInit
 		} else {
 			this.interfaceNames = null;
 		}
-		// Read the fields, use exception handlers to catch bad format
+		// Skip the fields and the methods, they are decoded when first asked for (many binary types are only
+		// needed for their name and their supertypes)
 		this.fieldsCount = u2At(readOffset);
 		readOffset += 2;
-		if (this.fieldsCount != 0) {
-			FieldInfo field;
-			this.fields = new FieldInfo[this.fieldsCount];
-			for (int i = 0; i < this.fieldsCount; i++) {
-				field = FieldInfo.createField(this.reference, this.constantPoolOffsets, readOffset, this.version);
-				this.fields[i] = field;
-				readOffset += field.sizeInBytes();
-			}
-		}
-		// Read the methods
+		this.fieldsOffset = readOffset;
+		readOffset = skipMembers(readOffset, this.fieldsCount, ClassFormatException.ErrBadFieldInfo);
 		this.methodsCount = u2At(readOffset);
 		readOffset += 2;
-		if (this.methodsCount != 0) {
-			this.methods = new MethodInfo[this.methodsCount];
-			boolean isAnnotationType = (accessFlag & ClassFileConstants.AccAnnotation) != 0;
-			for (int i = 0; i < this.methodsCount; i++) {
-				this.methods[i] = isAnnotationType
-					? AnnotationMethodInfo.createAnnotationMethod(this.reference, this.constantPoolOffsets, readOffset, this.version)
-					: MethodInfo.createMethod(this.reference, this.constantPoolOffsets, readOffset, this.version);
-				readOffset += this.methods[i].sizeInBytes();
-			}
-		}
+		this.methodsOffset = readOffset;
+		readOffset = skipMembers(readOffset, this.methodsCount, ClassFormatException.ErrBadMethodInfo);
 
 		// Read the attributes
 		int attributesCount = u2At(readOffset);
@@ -540,6 +543,68 @@ public ClassFileReader(byte[] classFileBytes, char[] fileName, boolean fullyInit
 	}
 }
 
+/**
+ * Answers the offset following the given number of field_info or method_info structures.
+ * <p>
+ * The structures are decoded later (see {@link #getFields()} and {@link #getMethods()}), which cannot report a bad
+ * format, so they are checked here: the names, descriptors and attribute names must be UTF8 constants and the
+ * attributes must lie within the class file.
+ */
+private int skipMembers(int readOffset, int membersCount, int errorCode) throws ClassFormatException {
+	int length = this.reference.length;
+	for (int i = 0; i < membersCount; i++) {
+		if (readOffset + 8 > length)
+			throw new ClassFormatException(null, this.classFileName, ClassFormatException.ErrTruncatedInput, readOffset);
+		if (!isUtf8At(u2At(readOffset + 2)) || !isUtf8At(u2At(readOffset + 4)))
+			throw new ClassFormatException(null, this.classFileName, errorCode, readOffset);
+		int attributesCount = u2At(readOffset + 6);
+		readOffset += 8;
+		for (int j = 0; j < attributesCount; j++) {
+			if (readOffset + 6 > length)
+				throw new ClassFormatException(null, this.classFileName, ClassFormatException.ErrTruncatedInput, readOffset);
+			if (!isUtf8At(u2At(readOffset)))
+				throw new ClassFormatException(null, this.classFileName, ClassFormatException.ErrMalformedAttribute, readOffset);
+			long attributeEnd = readOffset + 6L + (u4At(readOffset + 2) & 0xFFFFFFFFL);
+			if (attributeEnd > length)
+				throw new ClassFormatException(null, this.classFileName, ClassFormatException.ErrTruncatedInput, readOffset);
+			readOffset = (int) attributeEnd;
+		}
+	}
+	return readOffset;
+}
+
+private boolean isUtf8At(int constantPoolIndex) {
+	return constantPoolIndex > 0 && constantPoolIndex < this.constantPoolCount
+			&& u1At(this.constantPoolOffsets[constantPoolIndex]) == ClassFileConstants.Utf8Tag;
+}
+
+private synchronized void decodeFields() {
+	if (this.fields != null)
+		return;
+	FieldInfo[] decodedFields = new FieldInfo[this.fieldsCount];
+	int readOffset = this.fieldsOffset;
+	for (int i = 0; i < this.fieldsCount; i++) {
+		decodedFields[i] = FieldInfo.createField(this.reference, this.constantPoolOffsets, readOffset, this.version);
+		readOffset += decodedFields[i].sizeInBytes();
+	}
+	this.fields = decodedFields;
+}
+
+private synchronized void decodeMethods() {
+	if (this.methods != null)
+		return;
+	MethodInfo[] decodedMethods = new MethodInfo[this.methodsCount];
+	boolean isAnnotationType = (this.accessFlags & ClassFileConstants.AccAnnotation) != 0;
+	int readOffset = this.methodsOffset;
+	for (int i = 0; i < this.methodsCount; i++) {
+		decodedMethods[i] = isAnnotationType
+			? AnnotationMethodInfo.createAnnotationMethod(this.reference, this.constantPoolOffsets, readOffset, this.version)
+			: MethodInfo.createMethod(this.reference, this.constantPoolOffsets, readOffset, this.version);
+		readOffset += decodedMethods[i].sizeInBytes();
+	}
+	this.methods = decodedMethods;
+}
+
 private void decodeRecords(int readOffset, char[] attributeName) {
 	if (CharOperation.equals(attributeName, AttributeNamesConstants.RecordClass)) {
 		this.isRecord = true;
@@ -715,6 +780,10 @@ public char[] getEnclosingTypeName() {
  */
 @Override
 public IBinaryField[] getFields() {
+	if (this.fieldsCount == 0)
+		return null;
+	if (this.fields == null)
+		decodeFields();
 	return this.fields;
 }
 /**
@@ -839,6 +908,10 @@ public IBinaryNestedType[] getMemberTypes() {
  */
 @Override
 public IBinaryMethod[] getMethods() {
+	if (this.methodsCount == 0)
+		return null;
+	if (this.methods == null)
+		decodeMethods();
 	return this.methods;
 }
 
@@ -1119,6 +1192,7 @@ public boolean hasStructuralChanges(byte[] newBytes, boolean orderRequired, bool
 		}
 
 		// fields
+		getFields();
 		FieldInfo[] otherFieldInfos = (FieldInfo[]) newClassFile.getFields();
 		int otherFieldInfosLength = otherFieldInfos == null ? 0 : otherFieldInfos.length;
 		boolean compareFields = true;
@@ -1149,6 +1223,7 @@ public boolean hasStructuralChanges(byte[] newBytes, boolean orderRequired, bool
 		}
 
 		// methods
+		getMethods();
 		MethodInfo[] otherMethodInfos = (MethodInfo[]) newClassFile.getMethods();
 		int otherMethodInfosLength = otherMethodInfos == null ? 0 : otherMethodInfos.length;
 		boolean compareMethods = true;
@@ -1393,6 +1468,8 @@ private boolean affectsSignature(IBinaryTypeAnnotation typeAnnotation) {
  */
 private void initialize() throws ClassFormatException {
 	try {
+		getFields();
+		getMethods();
 		for (int i = 0, max = this.fieldsCount; i < max; i++) {
 			this.fields[i].initialize();
 		}
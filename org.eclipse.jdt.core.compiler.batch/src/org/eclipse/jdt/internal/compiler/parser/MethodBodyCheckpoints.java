@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.parser;
+
+import java.util.Arrays;
+
+/**
+ * Checkpoints of the method bodies a {@link Scanner} jumped over during a diet parse, see
+ * {@link Scanner#jumpOverMethodBody()}.
+ * <p>
+ * A checkpoint records where the scanner entered and left a method body, together with the line ends it found in
+ * between. When the same unit is parsed again after an edit, the checkpoints recorded on the previous contents are
+ * given to the scanner: a method body which lies entirely before or after the edited text is not scanned again, the
+ * scanner resumes right after it and only records its line ends, shifted by the length change of the edit for the
+ * bodies after the edit.
+ * <p>
+ * Only the bodies which do not contain any comment and which come before any assert keyword are recorded, since
+ * comments have other side effects on the scanner (task tags, NLS tags, comment positions). Checkpoints are only replayed by a scanner of the same kind and with the
+ * same settings as the one which recorded them, on the whole contents of a unit.
+ */
+public final class MethodBodyCheckpoints {
+
+	private static final int WAS_ACR = 1;
+	private static final int UNICODE_AS_BACK_SLASH = 2;
+	private static final int USE_ASSERT_AS_AN_IDENTIFIER = 4;
+	private static final int USE_ENUM_AS_AN_IDENTIFIER = 8;
+	private static final int CONTAINS_ASSERT_KEYWORD = 16;
+
+	private final MethodBodyCheckpoints previous;
+
+	// source parsed by the scanner which recorded these checkpoints, and a copy of it since buffers are edited in place
+	private char[] source;
+	private char[] contents;
+	// settings of the scanner which recorded these checkpoints
+	private Class<?> scannerClass;
+	private long sourceLevel;
+	private long complianceLevel;
+	private boolean previewEnabled;
+	private boolean recordLineSeparator;
+	private boolean disabled;
+
+	private int count;
+	private int[] entries = new int[16];
+	private int[] exits = new int[16];
+	private int[] startPositions = new int[16];
+	private char[] currentCharacters = new char[16];
+	private int[] withoutUnicodePtrs = new int[16];
+	private int[] flags = new int[16];
+	private Scanner.ScanContext[] scanContexts = new Scanner.ScanContext[16];
+	private int[][] lineEnds = new int[16][];
+
+	// common prefix and suffix of the previous and the current contents, computed on the first replay
+	private char[] replayedSource;
+	private int prefix;
+	private int suffix;
+
+	private int replayed;
+
+	/**
+	 * Creates checkpoints to record, which replay the given checkpoints recorded on the previous contents of the same
+	 * unit, if any.
+	 */
+	public MethodBodyCheckpoints(MethodBodyCheckpoints previous) {
+		this.previous = previous == null || previous.disabled ? null : previous;
+	}
+
+	/**
+	 * Answers the number of method bodies which were not scanned because their checkpoint was replayed.
+	 */
+	public int getReplayedCount() {
+		return this.replayed;
+	}
+
+	/**
+	 * Skips the method body the given scanner is about to jump over if it was recorded on the previous contents and it
+	 * was not edited since. Answers whether it was skipped.
+	 */
+	boolean replay(Scanner scanner) {
+		MethodBodyCheckpoints checkpoints = this.previous;
+		if (checkpoints == null || checkpoints.count == 0 || !checkpoints.isCompatible(scanner)
+				|| scanner.eofPosition != scanner.source.length)
+			return false;
+		char[] contents = scanner.source;
+		char[] previousContents = checkpoints.contents;
+		if (this.replayedSource != contents) {
+			if (this.replayedSource != null)
+				return false; // another unit
+			this.replayedSource = contents;
+			int max = Math.min(contents.length, previousContents.length);
+			int start = Arrays.mismatch(contents, 0, max, previousContents, 0, max);
+			this.prefix = start < 0 ? max : start;
+			int end = 0;
+			max -= this.prefix;
+			while (end < max && contents[contents.length - 1 - end] == previousContents[previousContents.length - 1 - end])
+				end++;
+			this.suffix = end;
+		}
+		int entry = scanner.currentPosition;
+		int delta = contents.length - previousContents.length;
+		int index = Arrays.binarySearch(checkpoints.entries, 0, checkpoints.count, entry);
+		if (index >= 0 && checkpoints.exits[index] < this.prefix) {
+			delta = 0; // before the edit
+		} else {
+			index = Arrays.binarySearch(checkpoints.entries, 0, checkpoints.count, entry - delta);
+			if (index < 0 || checkpoints.entries[index] <= previousContents.length - this.suffix)
+				return false; // edited
+		}
+		int linePtr = scanner.linePtr;
+		boolean noAssertKeyword = !scanner.containsAssertKeyword;
+		for (int lineEnd : checkpoints.lineEnds[index]) {
+			lineEnd += delta;
+			if (scanner.linePtr >= 0 && scanner.lineEnds[scanner.linePtr] >= lineEnd)
+				continue;
+			int length = scanner.lineEnds.length;
+			if (++scanner.linePtr >= length)
+				System.arraycopy(scanner.lineEnds, 0, scanner.lineEnds = new int[2 * length + 250], 0, length);
+			scanner.lineEnds[scanner.linePtr] = lineEnd;
+		}
+		scanner.currentPosition = checkpoints.exits[index] + delta;
+		scanner.startPosition = checkpoints.startPositions[index] + delta;
+		scanner.currentCharacter = checkpoints.currentCharacters[index];
+		scanner.withoutUnicodePtr = checkpoints.withoutUnicodePtrs[index];
+		int bodyFlags = checkpoints.flags[index];
+		scanner.wasAcr = (bodyFlags & WAS_ACR) != 0;
+		scanner.unicodeAsBackSlash = (bodyFlags & UNICODE_AS_BACK_SLASH) != 0;
+		scanner.useAssertAsAnIndentifier = (bodyFlags & USE_ASSERT_AS_AN_IDENTIFIER) != 0;
+		scanner.useEnumAsAnIndentifier = (bodyFlags & USE_ENUM_AS_AN_IDENTIFIER) != 0;
+		scanner.containsAssertKeyword |= (bodyFlags & CONTAINS_ASSERT_KEYWORD) != 0;
+		scanner.scanContext = checkpoints.scanContexts[index];
+		record(scanner, entry, linePtr, noAssertKeyword);
+		this.replayed++;
+		return true;
+	}
+
+	/**
+	 * Records the method body the given scanner just jumped over, from the given entry position. The given line pointer
+	 * is the one of the scanner when it entered the body, the given flag tells whether no assert keyword was found
+	 * before the body.
+	 */
+	void record(Scanner scanner, int entry, int linePtr, boolean noAssertKeyword) {
+		if (this.disabled || !noAssertKeyword)
+			return;
+		if (this.count == 0) {
+			this.source = scanner.source;
+			this.contents = scanner.source.clone();
+			this.scannerClass = scanner.getClass();
+			this.sourceLevel = scanner.sourceLevel;
+			this.complianceLevel = scanner.complianceLevel;
+			this.previewEnabled = scanner.previewEnabled;
+			this.recordLineSeparator = scanner.recordLineSeparator;
+		} else if (this.source != scanner.source || !isCompatible(scanner) || entry <= this.entries[this.count - 1]) {
+			// another unit, or the same contents parsed again (e.g. on recovery)
+			this.disabled = true;
+			return;
+		}
+		if (scanner.eofPosition != scanner.source.length) {
+			this.disabled = true;
+			return;
+		}
+		if (this.count == this.entries.length) {
+			int length = this.count * 2;
+			this.entries = Arrays.copyOf(this.entries, length);
+			this.exits = Arrays.copyOf(this.exits, length);
+			this.startPositions = Arrays.copyOf(this.startPositions, length);
+			this.currentCharacters = Arrays.copyOf(this.currentCharacters, length);
+			this.withoutUnicodePtrs = Arrays.copyOf(this.withoutUnicodePtrs, length);
+			this.flags = Arrays.copyOf(this.flags, length);
+			this.scanContexts = Arrays.copyOf(this.scanContexts, length);
+			this.lineEnds = Arrays.copyOf(this.lineEnds, length);
+		}
+		int index = this.count++;
+		this.entries[index] = entry;
+		this.exits[index] = scanner.currentPosition;
+		this.startPositions[index] = scanner.startPosition;
+		this.currentCharacters[index] = scanner.currentCharacter;
+		this.withoutUnicodePtrs[index] = scanner.withoutUnicodePtr;
+		int bodyFlags = 0;
+		if (scanner.wasAcr)
+			bodyFlags |= WAS_ACR;
+		if (scanner.unicodeAsBackSlash)
+			bodyFlags |= UNICODE_AS_BACK_SLASH;
+		if (scanner.useAssertAsAnIndentifier)
+			bodyFlags |= USE_ASSERT_AS_AN_IDENTIFIER;
+		if (scanner.useEnumAsAnIndentifier)
+			bodyFlags |= USE_ENUM_AS_AN_IDENTIFIER;
+		if (scanner.containsAssertKeyword)
+			bodyFlags |= CONTAINS_ASSERT_KEYWORD;
+		this.flags[index] = bodyFlags;
+		this.scanContexts[index] = scanner.scanContext;
+		this.lineEnds[index] = Arrays.copyOfRange(scanner.lineEnds, linePtr + 1, scanner.linePtr + 1);
+	}
+
+	private boolean isCompatible(Scanner scanner) {
+		return this.scannerClass == scanner.getClass()
+				&& this.sourceLevel == scanner.sourceLevel
+				&& this.complianceLevel == scanner.complianceLevel
+				&& this.previewEnabled == scanner.previewEnabled
+				&& this.recordLineSeparator == scanner.recordLineSeparator;
+	}
+}
@@ -107,6 +107,8 @@ public class Scanner {
 
 	//diet parsing support - jump over some method body when requested
 	public boolean diet = false;
+	// method bodies jumped over, replaying the ones recorded on the previous contents of the unit (optional)
+	public MethodBodyCheckpoints methodBodyCheckpoints = null;
 
 	//support for the  poor-line-debuggers ....
 	//remember the position of the cr/lf
@@ -2226,6 +2228,14 @@ protected boolean isFirstTag() {
 public final void jumpOverMethodBody() {
 
 	this.wasAcr = false;
+	MethodBodyCheckpoints checkpoints = this.methodBodyCheckpoints;
+	if (checkpoints != null && checkpoints.replay(this))
+		return;
+	int entry = this.currentPosition;
+	int entryLinePtr = this.linePtr;
+	int entryCommentPtr = this.commentPtr;
+	boolean noAssertKeyword = !this.containsAssertKeyword;
+	boolean pulledBack = false;
 	int found = 1;
 	try {
 		while (true) { //loop for jumping over comments
@@ -2253,8 +2263,11 @@ public final void jumpOverMethodBody() {
 					break NextToken;
 				case '}' :
 					found--;
-					if (found == 0)
+					if (found == 0) {
+						if (checkpoints != null && !pulledBack && this.commentPtr == entryCommentPtr)
+							checkpoints.record(this, entry, entryLinePtr, noAssertKeyword);
 						return;
+					}
 					break NextToken;
 				case '\'' :
 					{
@@ -2397,6 +2410,7 @@ public final void jumpOverMethodBody() {
 							// of the unclosed text block and let recovery take over.
 							if (firstClosingBrace > 0) {
 								this.currentPosition = firstClosingBrace - 1;
+								pulledBack = true;
 							}
 						}
 					}
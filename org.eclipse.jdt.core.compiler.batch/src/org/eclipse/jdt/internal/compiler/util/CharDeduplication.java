@@ -17,6 +17,8 @@ package org.eclipse.jdt.internal.compiler.util;
 
 import java.lang.ref.SoftReference;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 public class CharDeduplication {
 
@@ -33,35 +35,116 @@ public class CharDeduplication {
 	public static final int TABLE_SIZE = 8192; // a power of 2 to fast compute modulo
 	/** number of entries to linear search affects performance but decreases collisions - does not affect memory */
 	public static final int SEARCH_SIZE = 8; // a power of 2, has to be smaller then TABLE_SIZE
+	/** size of the hash table of the shared instance, which holds the identifiers of all threads */
+	public static final int SHARED_TABLE_SIZE = 65536; // a power of 2 to fast compute modulo
+
+	/**
+	 * When set to <code>true</code>, all the threads share one instance instead of each one using its own, so that the
+	 * identifiers found by the scanners, class file readers and indexers of different threads are deduplicated too.
+	 * Read once.
+	 */
+	public static final String SHARED_PROPERTY = "jdt.core.charDeduplication.shared"; //$NON-NLS-1$
+	private static final boolean SHARED = Boolean.getBoolean(SHARED_PROPERTY);
 
 	private final static ThreadLocal<SoftReference<CharDeduplication>> mutableCache = ThreadLocal
-			.withInitial(() -> new SoftReference<>(new CharDeduplication()));
+			.withInitial(() -> new SoftReference<>(new CharDeduplication(TABLE_SIZE, false)));
+
+	/** holder of the shared instance, only created when it is used **/
+	private static final class SharedInstance {
+		static final CharDeduplication INSTANCE = new CharDeduplication(SHARED_TABLE_SIZE, true);
+	}
 
-	/** @return an instance that is *not* thread safe. To be used in a single thread only. **/
+	/**
+	 * @return an instance that is *not* thread safe. To be used in a single thread only. Answers the shared instance
+	 *         instead if {@value #SHARED_PROPERTY} is set.
+	 **/
 	public static CharDeduplication getThreadLocalInstance() {
+		if (SHARED) {
+			return SharedInstance.INSTANCE;
+		}
 		CharDeduplication local = mutableCache.get().get();
 		if (local == null) {
-			local = new CharDeduplication();
+			local = new CharDeduplication(TABLE_SIZE, false);
 			mutableCache.set(new SoftReference<>(local));
 		}
 		return local;
 	}
 
-	// ----- mutable non-static part (not thread safe!): ----
+	/** @return the instance shared by all threads, which is thread safe and does not lock. **/
+	public static CharDeduplication getSharedInstance() {
+		return SharedInstance.INSTANCE;
+	}
 
-	/** single threaded only, hashtable with restricted linear probing **/
-	private final char[][] hashTable = new char[TABLE_SIZE][];
-	private final int circularBufferPointer[] = new int[TABLE_SIZE];
+	// ----- mutable non-static part: ----
 
-	private CharDeduplication() {
-		// private
+	/** hashtable with restricted linear probing of a thread local instance, null for the shared instance **/
+	private final char[][] hashTable;
+	/**
+	 * hashtable with restricted linear probing of the shared instance, null for thread local instances. Entries are
+	 * published with release/acquire semantics so that it can be read and written concurrently without locking:
+	 * concurrent misses of the same characters may store two copies, and concurrent replacements may evict an entry
+	 * earlier than expected, both only cost some deduplication.
+	 **/
+	private final AtomicReferenceArray<char[]> sharedHashTable;
+	/** the racy updates of the shared instance only affect which entry is replaced next **/
+	private final int circularBufferPointer[];
+	private final int mask;
+	/** statistics of the shared instance, null for thread local instances **/
+	private final LongAdder hits;
+	private final LongAdder misses;
+
+	private CharDeduplication(int tableSize, boolean shared) {
+		this.hashTable = shared ? null : new char[tableSize][];
+		this.sharedHashTable = shared ? new AtomicReferenceArray<>(tableSize) : null;
+		this.circularBufferPointer = new int[tableSize];
+		this.mask = tableSize - 1;
+		this.hits = shared ? new LongAdder() : null;
+		this.misses = shared ? new LongAdder() : null;
 	}
 
 	/** public for test purpose only **/
 	@Deprecated
 	public void reset() {
-		Arrays.fill(this.hashTable, null);
+		for (int i = 0; i <= this.mask; i++) {
+			setEntry(i, null);
+		}
 		Arrays.fill(this.circularBufferPointer, 0);
+		if (this.hits != null) {
+			this.hits.reset();
+			this.misses.reset();
+		}
+	}
+
+	/** @return the number of lookups answered by a cached instance, only counted by the shared instance **/
+	public long getHitCount() {
+		return this.hits == null ? 0 : this.hits.sum();
+	}
+
+	/** @return the number of lookups which had to copy the characters, only counted by the shared instance **/
+	public long getMissCount() {
+		return this.misses == null ? 0 : this.misses.sum();
+	}
+
+	/** @return an estimate of the number of bytes retained by the cached instances **/
+	public long getRetainedSize() {
+		long size = 0;
+		for (int i = 0; i <= this.mask; i++) {
+			char[] charArray = getEntry(i);
+			if (charArray != null) {
+				size += (16 + 2L * charArray.length + 7) & ~7L; // array header, aligned on 8 bytes
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		long hitCount = getHitCount();
+		long lookups = hitCount + getMissCount();
+		return "CharDeduplication [size=" + (this.mask + 1) //$NON-NLS-1$
+				+ ", lookups=" + lookups //$NON-NLS-1$
+				+ ", hitRate=" + (lookups == 0 ? 0 : hitCount * 100 / lookups) + "%" //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", retainedSize=" + getRetainedSize() + "]"; //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
 	public static char[] intern(char[] source) {
@@ -92,18 +175,21 @@ public class CharDeduplication {
 				return CHAR_ARRAY0;
 		}
 		int hash = hashCode(source, from, to);
-		int circularBufferStart = hash & (TABLE_SIZE - 1);
+		int circularBufferStart = hash & this.mask;
 		int positionToReplace = -1;
 		// linear probing within circular buffer:
 		for (int i = 0; i < SEARCH_SIZE; i++) {
-			int position = (circularBufferStart + i) & (TABLE_SIZE - 1);
-			char[] charArray = this.hashTable[position];
+			int position = (circularBufferStart + i) & this.mask;
+			char[] charArray = getEntry(position);
 			if (charArray == null) {
 				// this case only happens when the table is filling up,
 				// but helps to get good deduplication fast
 				positionToReplace = position;
 			} else if (equals(source, from, to, charArray)) {
 				// Successfully deduplicated:
+				if (this.hits != null) {
+					this.hits.increment();
+				}
 				return charArray;
 			}
 		}
@@ -112,12 +198,27 @@ public class CharDeduplication {
 		if (positionToReplace == -1) {
 			// no empty entry found - normal case:
 			int j = this.circularBufferPointer[circularBufferStart]++;
-			positionToReplace = (circularBufferStart + (j & (SEARCH_SIZE-1))) & (TABLE_SIZE - 1);
+			positionToReplace = (circularBufferStart + (j & (SEARCH_SIZE-1))) & this.mask;
+		}
+		setEntry(positionToReplace, r);
+		if (this.misses != null) {
+			this.misses.increment();
 		}
-		this.hashTable[positionToReplace] = r;
 		return r;
 	}
 
+	private char[] getEntry(int position) {
+		return this.hashTable != null ? this.hashTable[position] : this.sharedHashTable.getAcquire(position);
+	}
+
+	private void setEntry(int position, char[] charArray) {
+		if (this.hashTable != null) {
+			this.hashTable[position] = charArray;
+		} else {
+			this.sharedHashTable.setRelease(position, charArray);
+		}
+	}
+
 	private int hashCode(char[] source, int from, int to) {
 		int result = source[from];
 		for (int i = from + 1; i < to; i++) {
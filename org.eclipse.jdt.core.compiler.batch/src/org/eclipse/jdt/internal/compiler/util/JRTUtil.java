@@ -201,6 +201,7 @@ public class JRTUtil {
 	public static void reset() {
 		images.clear();
 		classCache.clear();
+		ResidentBinaryTypes.clear();
 		MODULE_TO_LOAD = System.getProperty("modules.to.load"); //$NON-NLS-1$
 	}
 
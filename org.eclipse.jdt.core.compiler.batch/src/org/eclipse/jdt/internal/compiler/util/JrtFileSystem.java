@@ -43,6 +43,8 @@ public class JrtFileSystem {
 	final Path modRoot;
 	final Jdk jdk;
 	final String release;
+	/** decoded class files kept across compilations, see {@link ResidentBinaryTypes} **/
+	private final ResidentBinaryTypes.Archive residentBinaryTypes;
 
 	public static JrtFileSystem getNewJrtFileSystem(Jdk jdk, String release) throws IOException {
 		if (release == null || jdk.sameRelease(release)) {
@@ -59,6 +61,7 @@ public class JrtFileSystem {
 	JrtFileSystem(Jdk jdkHome, String release) throws IOException {
 		this.jdk = jdkHome;
 		this.release = release;
+		this.residentBinaryTypes = ResidentBinaryTypes.forArchive(jdkHome.path.resolve("lib").resolve("modules").toFile()); //$NON-NLS-1$ //$NON-NLS-2$
 		JRTUtil.MODULE_TO_LOAD = System.getProperty("modules.to.load"); //$NON-NLS-1$
 		this.fs = JRTUtil.getJrtFileSystem(this.jdk.path);
 		this.modRoot = this.fs.getPath(JRTUtil.MODULES_SUBDIR);
@@ -190,6 +193,13 @@ public class JrtFileSystem {
 	}
 
 	ClassFileReader getClassfileFromModule(String fileName, String module) throws IOException, ClassFormatException {
+		String residentName = null;
+		if (this.residentBinaryTypes != null) {
+			residentName = this.release + '/' + module + '/' + fileName;
+			ClassFileReader reader = this.residentBinaryTypes.get(residentName);
+			if (reader != null)
+				return reader;
+		}
 		Path path = this.fs.getPath(JRTUtil.MODULES_SUBDIR, module, fileName);
 		byte[] content = null;
 		if(JRTUtil.DISABLE_CACHE) {
@@ -198,8 +208,10 @@ public class JrtFileSystem {
 			content = JRTUtil.classCache.getClassBytes(this.jdk, path);
 		}
 		if (content != null) {
-			ClassFileReader reader = new ClassFileReader(path.toUri(), content, fileName.toCharArray());
+			ClassFileReader reader = new ClassFileReader(path.toUri(), content, fileName.toCharArray(), residentName != null);
 			reader.moduleName = module.toCharArray();
+			if (residentName != null)
+				this.residentBinaryTypes.put(residentName, reader);
 			return reader;
 		} else {
 			return null;
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.util;
+
+import java.io.File;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+
+/**
+ * Keeps the decoded class files of unchanged archives across compilations, for processes which compile many times
+ * against the same class path: build daemons, or build tools running the compiler in process for each project.
+ * <p>
+ * The cache is enabled by the system property {@value #ENABLED_PROPERTY}, which is read each time an archive is opened
+ * (see {@link #forArchive(File)}). The readers it holds are fully initialized
+ * (they do not reference the class file bytes any longer) and are never modified, so the name environments of
+ * several compilations, possibly running concurrently, share them. Bindings are not shared: each compilation still
+ * creates its own from the cached readers, which only saves reading and decoding the class files.
+ * <p>
+ * An archive is identified by its path, its size and its last modification time, the readers of an archive which
+ * changed are dropped. Like {@link SoftClassCache}, only soft references to the readers are kept, and the entries of
+ * the readers reclaimed by the garbage collector are removed, so the cache never holds more than the memory allows.
+ * The archives whose readers were all reclaimed are dropped too, each time a new archive is added, and at most
+ * {@link #MAX_ARCHIVES} archives are kept, the least recently opened ones are dropped first.
+ * <p>
+ * The IDE uses the same cache for the short lived name environments of searches (see
+ * {@code org.eclipse.jdt.internal.core.builder.ClasspathJar}), the JDK image is shared through {@link JrtFileSystem}.
+ */
+public final class ResidentBinaryTypes {
+	public static final String ENABLED_PROPERTY = "jdt.compiler.residentBinaryTypes"; //$NON-NLS-1$
+	static final int MAX_ARCHIVES = 1024;
+
+	/** absolute path -> archive, in access order **/
+	private static final Map<String, Archive> archives = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Archive> eldest) {
+			return size() > MAX_ARCHIVES;
+		}
+	};
+
+	/**
+	 * The cached readers of one archive.
+	 */
+	public static final class Archive {
+		final long length;
+		final long lastModified;
+		private final ConcurrentMap<String, Entry> readers = new ConcurrentHashMap<>();
+		private final ReferenceQueue<ClassFileReader> reclaimed = new ReferenceQueue<>();
+		private volatile boolean hasReclaimed;
+
+		Archive(long length, long lastModified) {
+			this.length = length;
+			this.lastModified = lastModified;
+		}
+
+		/**
+		 * Answers the cached reader of the given entry, or null.
+		 */
+		public ClassFileReader get(String entryName) {
+			Entry entry = this.readers.get(entryName);
+			return entry == null ? null : entry.get();
+		}
+
+		/**
+		 * Caches the given reader, which must be fully initialized.
+		 */
+		public void put(String entryName, ClassFileReader reader) {
+			removeReclaimed();
+			this.readers.put(entryName, new Entry(entryName, reader, this.reclaimed));
+		}
+
+		/**
+		 * Answers the number of entries, including the ones of readers which were reclaimed but not removed yet.
+		 */
+		public int size() {
+			return this.readers.size();
+		}
+
+		private void removeReclaimed() {
+			Reference<? extends ClassFileReader> reference;
+			while ((reference = this.reclaimed.poll()) != null) {
+				Entry entry = (Entry) reference;
+				this.readers.remove(entry.entryName, entry);
+				this.hasReclaimed = true;
+			}
+		}
+
+		/**
+		 * Answers whether all the readers of this archive were reclaimed, an archive to which no reader was added yet is
+		 * not reclaimed.
+		 */
+		boolean isReclaimed() {
+			removeReclaimed();
+			return this.hasReclaimed && this.readers.isEmpty();
+		}
+	}
+
+	private static final class Entry extends SoftReference<ClassFileReader> {
+		final String entryName;
+
+		Entry(String entryName, ClassFileReader reader, ReferenceQueue<ClassFileReader> queue) {
+			super(reader, queue);
+			this.entryName = entryName;
+		}
+	}
+
+	private ResidentBinaryTypes() {
+	}
+
+	/**
+	 * Answers whether the cache is enabled.
+	 */
+	public static boolean isEnabled() {
+		return Boolean.getBoolean(ENABLED_PROPERTY);
+	}
+
+	/**
+	 * Answers the cached readers of the given archive, or null when the cache is not enabled.
+	 */
+	public static Archive forArchive(File file) {
+		if (!isEnabled())
+			return null;
+		long length = file.length();
+		long lastModified = file.lastModified();
+		String path = file.getAbsolutePath();
+		synchronized (archives) {
+			Archive archive = archives.get(path);
+			if (archive == null || archive.length != length || archive.lastModified != lastModified) {
+				archives.values().removeIf(Archive::isReclaimed);
+				archives.put(path, archive = new Archive(length, lastModified));
+			}
+			return archive;
+		}
+	}
+
+	/**
+	 * Drops all cached readers.
+	 */
+	public static void clear() {
+		synchronized (archives) {
+			archives.clear();
+		}
+	}
+}
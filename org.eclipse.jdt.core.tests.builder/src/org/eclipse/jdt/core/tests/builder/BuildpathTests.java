@@ -35,7 +35,9 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.util.ResidentBinaryTypes;
 import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.JavaProject;
@@ -529,6 +531,83 @@ public void testExternalJarChange() throws JavaModelException, IOException {
 	env.removeProject(projectPath);
 }
 
+/*
+ * Ensures that the class files of an external jar read by a build are reused by the next builds until the jar changes
+ */
+public void testResidentBinaryTypes() throws JavaModelException, IOException {
+	String setting = System.getProperty(ResidentBinaryTypes.ENABLED_PROPERTY);
+	IPath projectPath = null;
+	try {
+		System.setProperty(ResidentBinaryTypes.ENABLED_PROPERTY, "true"); //$NON-NLS-1$
+		ResidentBinaryTypes.clear();
+		projectPath = env.addProject("Project"); //$NON-NLS-1$
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		IPath root = env.getPackageFragmentRootPath(projectPath, ""); //$NON-NLS-1$
+		env.addClass(root, "p", "X", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p;\n"+ //$NON-NLS-1$
+			"public class X {\n" + //$NON-NLS-1$
+			"  void foo() {\n" + //$NON-NLS-1$
+			"    new q.Y().bar();\n" + //$NON-NLS-1$
+			"  }\n" + //$NON-NLS-1$
+			"}" //$NON-NLS-1$
+		);
+		String externalJar = Util.getOutputDirectory() + File.separator + "resident.jar"; //$NON-NLS-1$
+		Util.createJar(
+			new String[] {
+				"q/Y.java", //$NON-NLS-1$
+				"package q;\n" + //$NON-NLS-1$
+				"public class Y {\n" + //$NON-NLS-1$
+				"  public void bar() {\n" + //$NON-NLS-1$
+				"  }\n" + //$NON-NLS-1$
+				"}" //$NON-NLS-1$
+			},
+			new HashMap<>(),
+			externalJar
+		);
+		env.addExternalJar(projectPath, externalJar);
+
+		fullBuild();
+		expectingNoProblems();
+		ClassFileReader reader = ResidentBinaryTypes.forArchive(new File(externalJar)).get("q/Y.class"); //$NON-NLS-1$
+		assertNotNull("Reader should be kept", reader); //$NON-NLS-1$
+
+		fullBuild();
+		expectingNoProblems();
+		assertSame("Reader should be reused", reader, ResidentBinaryTypes.forArchive(new File(externalJar)).get("q/Y.class")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// change the jar, the reader read from its previous contents must not be used any longer
+		Util.createJar(
+			new String[] {
+				"q/Y.java", //$NON-NLS-1$
+				"package q;\n" + //$NON-NLS-1$
+				"public class Y {\n" + //$NON-NLS-1$
+				"}" //$NON-NLS-1$
+			},
+			new HashMap<>(),
+			externalJar
+		);
+		IJavaProject project = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject("Project")); //$NON-NLS-1$
+		project.getJavaModel().refreshExternalArchives(new IJavaElement[] {project}, null);
+		fullBuild();
+		expectingProblemsFor(
+			root.append("p/X.java"), //$NON-NLS-1$
+			"Problem : The method bar() is undefined for the type Y [ resource : </Project/p/X.java> range : <57,60> category : <50> severity : <2>]" //$NON-NLS-1$
+		);
+		ClassFileReader changed = ResidentBinaryTypes.forArchive(new File(externalJar)).get("q/Y.class"); //$NON-NLS-1$
+		assertNotNull("Reader of the changed jar should be kept", changed); //$NON-NLS-1$
+		assertNotSame("Reader of the previous jar should be dropped", reader, changed); //$NON-NLS-1$
+	} finally {
+		if (setting == null) {
+			System.clearProperty(ResidentBinaryTypes.ENABLED_PROPERTY);
+		} else {
+			System.setProperty(ResidentBinaryTypes.ENABLED_PROPERTY, setting);
+		}
+		ResidentBinaryTypes.clear();
+		if (projectPath != null)
+			env.removeProject(projectPath);
+	}
+}
+
 public void testMissingBuilder() throws Exception {
 	IPath project1Path = env.addProject("P1"); //$NON-NLS-1$
 	env.addExternalJars(project1Path, Util.getJavaClassLibs());
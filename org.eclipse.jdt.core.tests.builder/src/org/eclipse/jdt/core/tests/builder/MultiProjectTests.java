@@ -17,6 +17,7 @@ import java.util.Hashtable;
 import junit.framework.Test;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IWorkspaceDescription;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
@@ -2218,4 +2219,76 @@ public void test461074_error_1_8() throws JavaModelException {
 	env.removeProject(p2);
 	env.removeProject(p3);
 }
+/*
+ * With org.eclipse.jdt.core.builder.parallelBuild, projects which do not depend on each other are built concurrently
+ */
+public void testConcurrentBuildOfIndependentProjects() throws CoreException {
+	String previous = System.setProperty("org.eclipse.jdt.core.builder.parallelBuild", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+	IWorkspaceDescription description = env.getWorkspace().getDescription();
+	int maxConcurrentBuilds = description.getMaxConcurrentBuilds();
+	description.setMaxConcurrentBuilds(4);
+	env.getWorkspace().setDescription(description);
+	IPath[] projects = new IPath[3];
+	try {
+		for (int p = 0; p < 2; p++) {
+			projects[p] = env.addProject("Concurrent" + p); //$NON-NLS-1$
+			env.addExternalJars(projects[p], Util.getJavaClassLibs());
+			IPath root = env.getPackageFragmentRootPath(projects[p], ""); //$NON-NLS-1$
+			for (int i = 0; i < 50; i++) {
+				env.addClass(root, "p" + p, "X" + i, //$NON-NLS-1$ //$NON-NLS-2$
+					"package p" + p + ";\n" + //$NON-NLS-1$ //$NON-NLS-2$
+					"public class X" + i + " {\n" + //$NON-NLS-1$ //$NON-NLS-2$
+					"	public X" + (i + 1) % 50 + " next;\n" + //$NON-NLS-1$ //$NON-NLS-2$
+					"	java.util.List<String> names" + i + ";\n" + //$NON-NLS-1$ //$NON-NLS-2$
+					"}\n"); //$NON-NLS-1$
+			}
+		}
+		projects[2] = env.addProject("Concurrent2"); //$NON-NLS-1$
+		env.addExternalJars(projects[2], Util.getJavaClassLibs());
+		env.addRequiredProject(projects[2], projects[0]);
+		env.addRequiredProject(projects[2], projects[1]);
+		IPath root = env.getPackageFragmentRootPath(projects[2], ""); //$NON-NLS-1$
+		env.addClass(root, "p2", "Y", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p2;\n" + //$NON-NLS-1$
+			"public class Y {\n" + //$NON-NLS-1$
+			"	p0.X0 x0 = new p0.X0();\n" + //$NON-NLS-1$
+			"	p1.X0 x1 = new p1.X0();\n" + //$NON-NLS-1$
+			"}\n"); //$NON-NLS-1$
+		env.waitForManualRefresh();
+		env.fullBuild();
+		env.waitForAutoBuild();
+		expectingNoProblems();
+		for (int p = 0; p < 3; p++)
+			expectingPresenceOf(env.getOutputLocation(projects[p]).append("p" + p)); //$NON-NLS-1$
+
+		// change both independent projects, the dependent one must only be built once both are
+		for (int p = 0; p < 2; p++) {
+			env.addClass(env.getPackageFragmentRootPath(projects[p], ""), "p" + p, "X0", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				"package p" + p + ";\n" + //$NON-NLS-1$ //$NON-NLS-2$
+				"public class X0 {\n" + //$NON-NLS-1$
+				"	public X1 next;\n" + //$NON-NLS-1$
+				"	public int added() { return 0; }\n" + //$NON-NLS-1$
+				"}\n"); //$NON-NLS-1$
+		}
+		env.addClass(root, "p2", "Y", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p2;\n" + //$NON-NLS-1$
+			"public class Y {\n" + //$NON-NLS-1$
+			"	int added = new p0.X0().added() + new p1.X0().added();\n" + //$NON-NLS-1$
+			"}\n"); //$NON-NLS-1$
+		env.waitForManualRefresh();
+		env.incrementalBuild();
+		env.waitForAutoBuild();
+		expectingNoProblems();
+	} finally {
+		description.setMaxConcurrentBuilds(maxConcurrentBuilds);
+		env.getWorkspace().setDescription(description);
+		if (previous == null)
+			System.clearProperty("org.eclipse.jdt.core.builder.parallelBuild"); //$NON-NLS-1$
+		else
+			System.setProperty("org.eclipse.jdt.core.builder.parallelBuild", previous); //$NON-NLS-1$
+		for (IPath project : projects)
+			if (project != null)
+				env.removeProject(project);
+	}
+}
 }
@@ -15,9 +15,13 @@ package org.eclipse.jdt.core.tests.builder;
 
 import static org.junit.Assert.assertArrayEquals;
 
-import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import junit.framework.Test;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.core.builder.ReferenceCollection;
@@ -33,46 +37,10 @@ public class ReferenceCollectionTest extends BuilderTests {
 	}
 
 	private static class TestableReferenceCollection extends ReferenceCollection {
-		/*
-		    Make the package visible fields reflectively available for testing
-			char[][][] qualifiedNameReferences;
-			char[][] simpleNameReferences;
-			char[][] rootReferences;
-		 */
 		protected TestableReferenceCollection(char[][][] qualifiedNameReferences, char[][] simpleNameReferences,
 				char[][] rootReferences) {
 			super(qualifiedNameReferences, simpleNameReferences, rootReferences);
 		}
-
-		char[][][] getQualifiedNameReferences() {
-			try {
-				Field fld = ReferenceCollection.class.getDeclaredField("qualifiedNameReferences");
-				fld.setAccessible(true);
-				return (char[][][]) fld.get(this);
-			} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-				throw new RuntimeException(e);
-			}
-		}
-
-		char[][] getSimpleNameReferences() {
-			try {
-				Field fld = ReferenceCollection.class.getDeclaredField("simpleNameReferences");
-				fld.setAccessible(true);
-				return (char[][]) fld.get(this);
-			} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-				throw new RuntimeException(e);
-			}
-		}
-
-		char[][] getRootReferences() {
-			try {
-				Field fld = ReferenceCollection.class.getDeclaredField("rootReferences");
-				fld.setAccessible(true);
-				return (char[][]) fld.get(this);
-			} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-				throw new RuntimeException(e);
-			}
-		}
 	}
 
 	public void testInternQualifiedNamesSorts_01() {
@@ -285,6 +253,28 @@ public class ReferenceCollectionTest extends BuilderTests {
 		assertFalse(other.includes(refColl.getQualifiedNameReferences(), refColl.getSimpleNameReferences(), refColl.getRootReferences()));
 	}
 
+	public void testIncludesQuery() {
+		TestableReferenceCollection refColl = new TestableReferenceCollection(null, null, null);
+		refColl.addDependencies(new String[] { "p.q.X" });
+		TestableReferenceCollection other = new TestableReferenceCollection(null, null, null);
+		other.addDependencies(new String[] { "p.r.Y" });
+
+		ReferenceCollection.Query query = ReferenceCollection.query(
+				ReferenceCollection.internQualifiedNames(new char[][][] { CharOperation.splitOn('.', "p.q".toCharArray()) }),
+				ReferenceCollection.internSimpleNames(new char[][] { "X".toCharArray(), "Unknown".toCharArray() }, true),
+				ReferenceCollection.internSimpleNames(new char[][] { "p".toCharArray() }, false));
+		assertTrue(refColl.includes(query));
+		assertFalse(other.includes(query));
+		// each collection has a name table of its own, the query answers the ids in the table asked for
+		assertTrue(refColl.includes(query));
+
+		query = ReferenceCollection.query(
+				ReferenceCollection.internQualifiedNames(new char[][][] { CharOperation.splitOn('.', "not.referenced".toCharArray()) }),
+				null, null);
+		assertFalse(refColl.includes(query));
+		assertFalse(other.includes(query));
+	}
+
 	public void testAddDependencies() {
 		TestableReferenceCollection refColl = new TestableReferenceCollection(null, null, null);
 
@@ -367,4 +357,39 @@ public class ReferenceCollectionTest extends BuilderTests {
 
 		assertTrue("Should include", collection.includes(qualifiedNames, simpleNames, rootNames));
 	}
+
+	/*
+	 * Projects may be built concurrently, all builders intern their names into the same tables
+	 */
+	public void testInternNamesConcurrently() throws Exception {
+		int threads = 8;
+		int names = 2000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<char[][][]>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					char[][][] interned = new char[names * 2][][];
+					for (int i = 0; i < names; i++) {
+						interned[i] = ReferenceCollection.internSimpleNames(
+								new char[][] { ("ConcurrentName" + i).toCharArray() }, false);
+						interned[names + i] = ReferenceCollection.internQualifiedNames(
+								new char[][][] { CharOperation.splitOn('.', ("concurrent.p" + i + ".Name").toCharArray()) })[0];
+					}
+					return interned;
+				}));
+			}
+			char[][][] expected = futures.get(0).get();
+			for (Future<char[][][]> future : futures) {
+				char[][][] actual = future.get();
+				for (int i = 0; i < names; i++) {
+					assertEquals("ConcurrentName" + i, String.valueOf(actual[i][0]));
+					assertSame(expected[i][0], actual[i][0]);
+					assertSame(expected[names + i], actual[names + i]);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
 }
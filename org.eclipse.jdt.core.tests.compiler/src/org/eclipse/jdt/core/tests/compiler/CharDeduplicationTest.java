@@ -173,6 +173,44 @@ public class CharDeduplicationTest extends TestCase {
 		executor.shutdownNow();
 	}
 
+	@SuppressWarnings("deprecation")
+	public void testSharedInstance() throws Exception {
+		CharDeduplication deduplication = CharDeduplication.getSharedInstance();
+		deduplication.reset();
+		int identifiers = 100;
+		char[][] expecteds = new char[identifiers][];
+		for (int i = 0; i < identifiers; i++) {
+			char[] identifier = ("sharedIdentifier" + i).toCharArray();
+			expecteds[i] = deduplication.sharedCopyOfRange(identifier, 0, identifier.length);
+		}
+		int nThreads = 8;
+		List<FutureTask<char[][]>> tasks = IntStream.range(0, nThreads).mapToObj(t -> new FutureTask<>(() -> {
+			char[][] actuals = new char[identifiers][];
+			for (int i = 0; i < identifiers; i++) {
+				char[] identifier = ("sharedIdentifier" + i).toCharArray();
+				actuals[i] = CharDeduplication.getSharedInstance().sharedCopyOfRange(identifier, 0, identifier.length);
+			}
+			return actuals;
+		})).collect(Collectors.toList());
+		ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+		tasks.forEach(executor::submit);
+		try {
+			for (FutureTask<char[][]> task : tasks) {
+				char[][] actuals = task.get();
+				for (int i = 0; i < identifiers; i++) {
+					assertSame(expecteds[i], actuals[i]);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(identifiers, deduplication.getMissCount());
+		assertEquals(identifiers * nThreads, deduplication.getHitCount());
+		assertTrue(deduplication.getRetainedSize() >= identifiers * 2 * "sharedIdentifier0".length());
+		deduplication.reset();
+		assertEquals(0, deduplication.getRetainedSize());
+	}
+
 	private void assertDeduplication(String string) {
 		assertDedup(string, true, 0, string.length());
 	}
@@ -26,7 +26,9 @@ import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.MethodBodyCheckpoints;
 import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
 import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
 
@@ -8121,4 +8123,107 @@ public void test456861() {
 		expectedFullUnitToString,
 		expectedCompletionDietUnitToString, testName);
 }
+private String dietParse(String source, MethodBodyCheckpoints checkpoints) {
+	Parser parser =
+		new Parser(
+			new ProblemReporter(
+				DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				new CompilerOptions(getCompilerOptions()),
+				new DefaultProblemFactory(Locale.getDefault())),
+			optimizeStringLiterals);
+	parser.scanner.methodBodyCheckpoints = checkpoints;
+	ICompilationUnit sourceUnit = new CompilationUnit(source.toCharArray(), "X.java", null);
+	CompilationResult compilationResult = new CompilationResult(sourceUnit, 0, 0, 0);
+	CompilationUnitDeclaration unit = parser.dietParse(sourceUnit, compilationResult);
+	StringBuilder buffer = new StringBuilder(unit.toString());
+	for (int lineEnd : compilationResult.getLineSeparatorPositions())
+		buffer.append(lineEnd).append(' ');
+	unit.types[0].parseMethods(parser, unit);
+	return buffer.append('\n').append(unit.toString()).toString();
+}
+/*
+ * The method bodies which were not edited since the previous diet parse are not scanned again
+ */
+public void testMethodBodyCheckpoints() {
+	String s1 =
+		"public class X {\n" +
+		"	void foo() {\n" +
+		"		String s = \"}\";\n" +
+		"		char c = '{';\r\n" +
+		"	}\n" +
+		"	void bar() {\n" +
+		"		new Object() { int i; };\r" +
+		"	}\n" +
+		"	void baz() { // comment\n" +
+		"	}\n" +
+		"	void qux() {\n" +
+		"		int \\u0069 = 0;\n" +
+		"	}\n" +
+		"}\n";
+	String s2 = s1.replace("void bar() {\n", "void bar() {\n		int j = 0;\n\n");
+	String s3 = "/* header */\n" + s2;
+
+	MethodBodyCheckpoints checkpoints = new MethodBodyCheckpoints(null);
+	assertEquals(dietParse(s1, null), dietParse(s1, checkpoints));
+	assertEquals(0, checkpoints.getReplayedCount());
+
+	checkpoints = new MethodBodyCheckpoints(checkpoints);
+	assertEquals(dietParse(s1, null), dietParse(s1, checkpoints));
+	assertEquals(3, checkpoints.getReplayedCount());
+
+	checkpoints = new MethodBodyCheckpoints(checkpoints);
+	assertEquals(dietParse(s2, null), dietParse(s2, checkpoints));
+	assertEquals(2, checkpoints.getReplayedCount());
+
+	checkpoints = new MethodBodyCheckpoints(checkpoints);
+	assertEquals(dietParse(s3, null), dietParse(s3, checkpoints));
+	assertEquals(3, checkpoints.getReplayedCount());
+}
+private String jumpOverFooBody(String source, MethodBodyCheckpoints checkpoints) {
+	Scanner scanner = new Scanner();
+	scanner.recordLineSeparator = true;
+	scanner.methodBodyCheckpoints = checkpoints;
+	scanner.setSource(source.toCharArray());
+	scanner.currentPosition = source.indexOf("foo() {") + "foo() {".length();
+	scanner.jumpOverMethodBody();
+	StringBuilder buffer = new StringBuilder();
+	for (int lineEnd : scanner.getLineEnds())
+		buffer.append(lineEnd).append(' ');
+	return buffer.append("-> ").append(scanner.currentPosition).toString();
+}
+/*
+ * The scanner resumes right after a method body from its checkpoint, shifted by the length change of the edit
+ */
+public void testMethodBodyCheckpointRestart() {
+	String s1 =
+		"public class X {\n" +
+		"	void foo() {\n" +
+		"		int i = 0;\n" +
+		"	}\n" +
+		"	void bar() {\n" +
+		"	}\n" +
+		"}\n";
+	String s2 = s1.replace("void bar() {\n", "void bar() {\n		int j = 0;\n");
+	String s3 = "package p;\n\n" + s2;
+	String s4 = s3.replace("int i = 0;", "int i = 1;");
+
+	MethodBodyCheckpoints checkpoints = new MethodBodyCheckpoints(null);
+	assertEquals("30 43 46 -> 46", jumpOverFooBody(s1, checkpoints));
+	assertEquals(0, checkpoints.getReplayedCount());
+
+	// edited after the body
+	checkpoints = new MethodBodyCheckpoints(checkpoints);
+	assertEquals("30 43 46 -> 46", jumpOverFooBody(s2, checkpoints));
+	assertEquals(1, checkpoints.getReplayedCount());
+
+	// edited before the body
+	checkpoints = new MethodBodyCheckpoints(checkpoints);
+	assertEquals("42 55 58 -> 58", jumpOverFooBody(s3, checkpoints));
+	assertEquals(1, checkpoints.getReplayedCount());
+
+	// edited inside the body
+	checkpoints = new MethodBodyCheckpoints(checkpoints);
+	assertEquals("42 55 58 -> 58", jumpOverFooBody(s4, checkpoints));
+	assertEquals(0, checkpoints.getReplayedCount());
+}
 }
@@ -60,10 +60,12 @@ import org.eclipse.jdt.internal.compiler.batch.FileSystem;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
 import org.eclipse.jdt.internal.compiler.batch.Main;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
 import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
 import org.eclipse.jdt.internal.compiler.util.ManifestAnalyzer;
+import org.eclipse.jdt.internal.compiler.util.ResidentBinaryTypes;
 
 public class BatchCompilerTest extends AbstractBatchCompilerTest {
 
@@ -13483,4 +13485,212 @@ public void testIssue4768(){
 
 		true);
 }
+// method bodies parsed ahead by several threads must report the same problems in the same order
+public void testParseAheadThreads() {
+	String setting = System.getProperty("jdt.compiler.parseAheadThreads");
+	try {
+		System.setProperty("jdt.compiler.parseAheadThreads", "3");
+		this.runNegativeTest(
+			new String[] {
+				"X.java",
+				"""
+				public class X {
+					int m() {
+						return new Y().n() + Z.k();
+					}
+				}
+				""",
+				"Y.java",
+				"""
+				public class Y {
+					int n() {
+						int i = ;
+						return i;
+					}
+				}
+				""",
+				"Z.java",
+				"""
+				public class Z {
+					static int k() {
+						return new Object() {
+							int get() { return 1 }
+						}.get();
+					}
+				}
+				""",
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Z.java\""
+			+ " -1.8 -proceedOnError -d \"" + OUTPUT_DIR + "\"",
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Y.java (at line 3)\n" +
+			"	int i = ;\n" +
+			"	      ^\n" +
+			"Syntax error on token \"=\", VariableInitializer expected after this token\n" +
+			"----------\n" +
+			"----------\n" +
+			"2. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Z.java (at line 4)\n" +
+			"	int get() { return 1 }\n" +
+			"	                   ^\n" +
+			"Syntax error, insert \";\" to complete BlockStatements\n" +
+			"----------\n" +
+			"2 problems (2 errors)\n",
+			true);
+	} finally {
+		if (setting == null) {
+			System.clearProperty("jdt.compiler.parseAheadThreads");
+		} else {
+			System.setProperty("jdt.compiler.parseAheadThreads", setting);
+		}
+	}
+}
+// class files served from the persistent class file cache must compile the same as when read from the jar
+public void testClassFileCache() throws Exception {
+	String libPath = LIB_DIR + File.separator + "lib.jar";
+	String cachePath = LIB_DIR + File.separator + "cache";
+	String setting = System.getProperty("jdt.compiler.classFileCache");
+	try {
+		Util.createJar(new String[] {
+				"my/pkg/Zork.java",
+				"package my.pkg;\n" +
+				"public class Zork {\n" +
+				"	public int one() { return 1; }\n" +
+				"}",
+				"my/pkg/Bar.java",
+				"package my.pkg;\n" +
+				"public class Bar extends Zork {\n" +
+				"}",
+			},
+			libPath,
+			JavaCore.VERSION_1_8);
+		System.setProperty("jdt.compiler.classFileCache", cachePath);
+		String commandLine = "\"" + OUTPUT_DIR +  File.separator + "X.java\""
+				+ " -cp \"" + libPath + "\""
+				+ " -1.8 -proc:none -d \"" + OUTPUT_DIR + "\"";
+		String[] testFiles = new String[] {
+				"X.java",
+				"public class X {\n" +
+				"	int i = new my.pkg.Zork().one();\n" +
+				"}",
+			};
+		this.runConformTest(testFiles, commandLine, "", "", true);
+		String[] cacheFiles = new File(cachePath).list();
+		assertEquals("Unexpected cache files", 1, cacheFiles.length);
+		long cacheSize = new File(cachePath, cacheFiles[0]).length();
+		this.runConformTest(testFiles, commandLine, "", "", true);
+		assertEquals("Cache file should not change", cacheSize, new File(cachePath, cacheFiles[0]).length());
+
+		// add Bar to the cached Zork
+		testFiles[1] = "public class X {\n" +
+			"	int i = new my.pkg.Bar().one();\n" +
+			"}";
+		this.runConformTest(testFiles, commandLine, "", "", true);
+		assertTrue("Cache file should grow", new File(cachePath, cacheFiles[0]).length() > cacheSize);
+		this.runNegativeTest(
+			new String[] {
+				"X.java",
+				"public class X {\n" +
+				"	String s = new my.pkg.Bar().one();\n" +
+				"}",
+			},
+			commandLine,
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 2)\n" +
+			"	String s = new my.pkg.Bar().one();\n" +
+			"	           ^^^^^^^^^^^^^^^^^^^^^^\n" +
+			"Type mismatch: cannot convert from int to String\n" +
+			"----------\n" +
+			"1 problem (1 error)\n",
+			true);
+
+		// the cache answers without opening the jar, which can no longer be read
+		File lib = new File(libPath);
+		long length = lib.length();
+		long lastModified = lib.lastModified();
+		try (FileOutputStream stream = new FileOutputStream(lib)) {
+			stream.write(new byte[(int) length]);
+		}
+		assertTrue(lib.setLastModified(lastModified));
+		this.runConformTest(testFiles, commandLine, "", "", true);
+		assertEquals("Unexpected cache files", 1, new File(cachePath).list().length);
+	} finally {
+		if (setting == null) {
+			System.clearProperty("jdt.compiler.classFileCache");
+		} else {
+			System.setProperty("jdt.compiler.classFileCache", setting);
+		}
+		Util.delete(libPath);
+		Util.delete(cachePath);
+	}
+}
+// a second compilation reuses the readers of an unchanged jar, the readers of a changed jar are read again
+public void testResidentBinaryTypes() throws Exception {
+	String libPath = LIB_DIR + File.separator + "lib.jar";
+	String setting = System.getProperty(ResidentBinaryTypes.ENABLED_PROPERTY);
+	try {
+		Util.createJar(new String[] {
+				"my/pkg/Zork.java",
+				"package my.pkg;\n" +
+				"public class Zork {\n" +
+				"	public int one() { return 1; }\n" +
+				"}",
+			},
+			libPath,
+			JavaCore.VERSION_1_8);
+		System.setProperty(ResidentBinaryTypes.ENABLED_PROPERTY, "true");
+		String commandLine = "\"" + OUTPUT_DIR +  File.separator + "X.java\""
+				+ " -cp \"" + libPath + "\""
+				+ " -1.8 -proc:none -d \"" + OUTPUT_DIR + "\"";
+		String[] testFiles = new String[] {
+				"X.java",
+				"public class X {\n" +
+				"	int i = new my.pkg.Zork().one();\n" +
+				"}",
+			};
+		this.runConformTest(testFiles, commandLine, "", "", true);
+		ClassFileReader reader = ResidentBinaryTypes.forArchive(new File(libPath)).get("my/pkg/Zork.class");
+		assertNotNull("Reader should be kept", reader);
+		this.runConformTest(testFiles, commandLine, "", "", true);
+		assertSame("Reader should be reused", reader, ResidentBinaryTypes.forArchive(new File(libPath)).get("my/pkg/Zork.class"));
+
+		Util.createJar(new String[] {
+				"my/pkg/Zork.java",
+				"package my.pkg;\n" +
+				"public class Zork {\n" +
+				"	public String one() { return \"1\"; }\n" +
+				"}",
+			},
+			libPath,
+			JavaCore.VERSION_1_8);
+		File lib = new File(libPath);
+		lib.setLastModified(lib.lastModified() + 2000); // in case the size and the time stamp did not change
+		this.runNegativeTest(
+			testFiles,
+			commandLine,
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 2)\n" +
+			"	int i = new my.pkg.Zork().one();\n" +
+			"	        ^^^^^^^^^^^^^^^^^^^^^^^\n" +
+			"Type mismatch: cannot convert from String to int\n" +
+			"----------\n" +
+			"1 problem (1 error)\n",
+			true);
+		ClassFileReader changed = ResidentBinaryTypes.forArchive(lib).get("my/pkg/Zork.class");
+		assertNotNull("Reader of the changed jar should be kept", changed);
+		assertNotSame("Reader of the changed jar should be read again", reader, changed);
+	} finally {
+		if (setting == null) {
+			System.clearProperty(ResidentBinaryTypes.ENABLED_PROPERTY);
+		} else {
+			System.setProperty(ResidentBinaryTypes.ENABLED_PROPERTY, setting);
+		}
+		ResidentBinaryTypes.clear();
+		Util.delete(libPath);
+	}
+}
 }
\ No newline at end of file
@@ -13,9 +13,23 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.tests.compiler.regression;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import junit.framework.Test;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.util.ClassFileBytesDisassembler;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.IBinaryField;
 import org.eclipse.jdt.internal.compiler.env.IBinaryMethod;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 
@@ -2880,4 +2894,130 @@ public class ClassFileReaderTest_1_4 extends AbstractRegressionTest {
 		}
 	}
 
+	// the fields and methods are decoded on demand, a bad member table must still be reported when reading the class file
+	public void testBadMemberTable() throws Exception {
+		byte[] bytes = getClassFileBytes("A081",
+			"public class A081 {\n" +
+			"	int f;\n" +
+			"	void foo() {}\n" +
+			"}");
+		int fieldsOffset = fieldsOffset(bytes);
+		assertEquals("Unexpected fields count", 1, u2At(bytes, fieldsOffset));
+		int methodsOffset = fieldsOffset + 2 + 8; // the field has no attributes
+		assertEquals("Unexpected methods count", 2, u2At(bytes, methodsOffset));
+
+		byte[] badFieldName = bytes.clone();
+		badFieldName[fieldsOffset + 2 + 2] = (byte) 0xFF; // name_index
+		badFieldName[fieldsOffset + 2 + 3] = (byte) 0xFF;
+		assertBadFormat(badFieldName, ClassFormatException.ErrBadFieldInfo);
+
+		byte[] badMethodDescriptor = bytes.clone();
+		int thisClassOffset = fieldsOffset - 6; // this_class, super_class, interfaces_count (no interfaces)
+		badMethodDescriptor[methodsOffset + 2 + 4] = bytes[thisClassOffset]; // descriptor_index, a class constant
+		badMethodDescriptor[methodsOffset + 2 + 5] = bytes[thisClassOffset + 1];
+		assertBadFormat(badMethodDescriptor, ClassFormatException.ErrBadMethodInfo);
+
+		byte[] badAttributeName = bytes.clone();
+		badAttributeName[methodsOffset + 2 + 8] = (byte) 0xFF; // attribute_name_index of the first attribute of the first method
+		badAttributeName[methodsOffset + 2 + 9] = (byte) 0xFF;
+		assertBadFormat(badAttributeName, ClassFormatException.ErrMalformedAttribute);
+
+		byte[] badAttributeLength = bytes.clone();
+		badAttributeLength[methodsOffset + 2 + 10] = (byte) 0x7F; // attribute_length of the first attribute of the first method
+		assertBadFormat(badAttributeLength, ClassFormatException.ErrTruncatedInput);
+
+		assertBadFormat(Arrays.copyOf(bytes, methodsOffset + 2 + 12), ClassFormatException.ErrTruncatedInput);
+	}
+
+	// fields and methods decoded on demand by concurrent threads must be decoded once and completely
+	public void testConcurrentGetMethods() throws Exception {
+		StringBuilder source = new StringBuilder("public class A082 {\n");
+		for (int i = 0; i < 50; i++)
+			source.append("	int f").append(i).append(";\n	int m").append(i).append("(String s) { return ").append(i).append("; }\n");
+		source.append("}");
+		byte[] bytes = getClassFileBytes("A082", source.toString());
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			for (int n = 0; n < 20; n++) {
+				ClassFileReader reader = new ClassFileReader(bytes, "A082.class".toCharArray());
+				CyclicBarrier barrier = new CyclicBarrier(threads);
+				List<Future<Object[]>> results = new ArrayList<>();
+				for (int i = 0; i < threads; i++) {
+					results.add(executor.submit(() -> {
+						barrier.await();
+						return new Object[] { reader.getMethods(), reader.getFields() };
+					}));
+				}
+				Object[] first = results.get(0).get();
+				IBinaryMethod[] methods = (IBinaryMethod[]) first[0];
+				assertEquals("Unexpected number of methods", 51, methods.length);
+				assertEquals("Unexpected number of fields", 50, ((IBinaryField[]) first[1]).length);
+				for (IBinaryMethod method : methods)
+					assertNotNull("Missing method", method);
+				for (Future<Object[]> result : results) {
+					assertSame("Methods decoded twice", methods, result.get()[0]);
+					assertSame("Fields decoded twice", first[1], result.get()[1]);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private byte[] getClassFileBytes(String className, String source) throws IOException {
+		compileAndDeploy(source, "", className, true);
+		try {
+			return Files.readAllBytes(new File(EVAL_DIRECTORY, className + ".class").toPath());
+		} finally {
+			removeTempClass(className);
+		}
+	}
+
+	private static void assertBadFormat(byte[] bytes, int errorCode) {
+		try {
+			new ClassFileReader(bytes, "Bad.class".toCharArray());
+			fail("Should report a bad format");
+		} catch (ClassFormatException e) {
+			assertEquals("Unexpected error code", errorCode, e.getErrorCode());
+		}
+	}
+
+	/*
+	 * Answers the offset of the fields_count of the given class file.
+	 */
+	private static int fieldsOffset(byte[] bytes) {
+		int count = u2At(bytes, 8);
+		int offset = 10;
+		for (int i = 1; i < count; i++) {
+			switch (bytes[offset]) {
+				case ClassFileConstants.Utf8Tag:
+					offset += 3 + u2At(bytes, offset + 1);
+					break;
+				case ClassFileConstants.LongTag:
+				case ClassFileConstants.DoubleTag:
+					offset += 9;
+					i++;
+					break;
+				case ClassFileConstants.ClassTag:
+				case ClassFileConstants.StringTag:
+				case ClassFileConstants.MethodTypeTag:
+				case ClassFileConstants.ModuleTag:
+				case ClassFileConstants.PackageTag:
+					offset += 3;
+					break;
+				case ClassFileConstants.MethodHandleTag:
+					offset += 4;
+					break;
+				default: // Integer, Float, references, NameAndType, Dynamic, InvokeDynamic
+					offset += 5;
+			}
+		}
+		offset += 6; // access_flags, this_class, super_class
+		return offset + 2 + 2 * u2At(bytes, offset);
+	}
+
+	private static int u2At(byte[] bytes, int offset) {
+		return ((bytes[offset] & 0xFF) << 8) + (bytes[offset + 1] & 0xFF);
+	}
 }
@@ -9388,6 +9388,47 @@ public class ASTTest extends org.eclipse.jdt.core.tests.junit.extension.TestCase
 		assertTrue(subtreeBytes > 0);
 	}
 
+	public void testNodeListInsertAndRemove() {
+		Block block = this.ast.newBlock();
+		List statements = block.statements();
+		int size = 20;
+		for (int i = 0; i < size; i++) {
+			// insert in the middle to move the nodes while the list grows
+			statements.add(i / 2, this.ast.newEmptyStatement());
+		}
+		assertEquals(size, statements.size());
+		ASTNode first = this.ast.newReturnStatement();
+		statements.add(0, first);
+		ASTNode last = this.ast.newBreakStatement();
+		statements.add(last);
+		assertSame(first, statements.get(0));
+		assertSame(last, statements.get(size + 1));
+		ASTNode replaced = (ASTNode) statements.set(5, this.ast.newContinueStatement());
+		assertNull(replaced.getParent());
+		assertSame(first, statements.remove(0));
+		assertNull(first.getParent());
+		assertSame(last, statements.remove(size));
+		assertEquals(size, statements.size());
+		for (Object statement : statements) {
+			assertSame(block, ((ASTNode) statement).getParent());
+		}
+		try {
+			statements.get(size);
+			assertTrue(false);
+		} catch (IndexOutOfBoundsException e) {
+			// pass
+		}
+		try {
+			statements.add(size + 1, this.ast.newEmptyStatement());
+			assertTrue(false);
+		} catch (IndexOutOfBoundsException e) {
+			// pass
+		}
+		assertEquals(size, statements.size());
+		statements.clear();
+		assertTrue(statements.isEmpty());
+	}
+
 	public void testNodeTypeConstants() throws Exception {
 		// it would be a breaking API change to change the numeric values of
 		// public static final ints
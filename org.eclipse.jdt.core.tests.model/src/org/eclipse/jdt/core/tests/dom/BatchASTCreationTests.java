@@ -15,6 +15,8 @@ package org.eclipse.jdt.core.tests.dom;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import junit.framework.Test;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.BindingKey;
@@ -2208,6 +2210,107 @@ public void test082() throws CoreException, IOException {
 			"LA~B<LC;:1TV;LC;:1TE;>;");
 	}
 
+	/*
+	 * Ensures that the ASTs of a large batch resolved concurrently are all reported with their bindings
+	 * (see CompilationUnitResolver#THREADS_PROPERTY).
+	 */
+	public void testConcurrentResolution() throws CoreException {
+		String[] pathAndSources = new String[2 + 4 * 30 * 2];
+		pathAndSources[0] = "/P/p0/Base.java";
+		pathAndSources[1] =
+			"package p0;\n" +
+			"public class Base {\n" +
+			"}";
+		int index = 2;
+		for (int pkg = 1; pkg <= 4; pkg++) {
+			for (int i = 0; i < 30; i++) {
+				pathAndSources[index++] = "/P/p" + pkg + "/X" + i + ".java";
+				pathAndSources[index++] =
+					"package p" + pkg + ";\n" +
+					"public class X" + i + " extends " + (i == 0 ? "p0.Base" : "X" + (i - 1)) + " {\n" +
+					"}";
+			}
+		}
+		this.workingCopies = createWorkingCopies(pathAndSources);
+		class Requestor extends TestASTRequestor {
+			int resolved;
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit cu) {
+				super.acceptAST(source, cu);
+				for (Object type : cu.types()) {
+					ITypeBinding superclass = ((TypeDeclaration) type).resolveBinding().getSuperclass();
+					if (superclass != null && !superclass.isRecovered())
+						this.resolved++;
+				}
+				IBinding[] bindings = createBindings(new String[] {"Lp0/Base;"});
+				assertNotNull("Should create binding", bindings[0]);
+			}
+		}
+		Requestor requestor = new Requestor();
+		String threads = System.getProperty("jdt.core.dom.createASTs.threads");
+		System.setProperty("jdt.core.dom.createASTs.threads", "2");
+		try {
+			resolveASTs(this.workingCopies, new String[] {}, requestor, getJavaProject("P"), this.owner);
+		} finally {
+			if (threads == null)
+				System.clearProperty("jdt.core.dom.createASTs.threads");
+			else
+				System.setProperty("jdt.core.dom.createASTs.threads", threads);
+		}
+		assertEquals("Unexpected number of ASTs", 121, requestor.asts.size());
+		assertEquals("Unexpected number of resolved superclasses", 121, requestor.resolved);
+	}
+
+	/*
+	 * Ensures that the ASTs of a batch resolved in windows keep the bindings of the types of the previous windows,
+	 * and that the requested binding keys are resolved after the last window
+	 * (see CompilationUnitResolver#WINDOW_PROPERTY).
+	 */
+	public void testStreamingResolution() throws CoreException {
+		String[] pathAndSources = new String[5 * 2];
+		for (int i = 0; i < 5; i++) {
+			pathAndSources[i * 2] = "/P/p1/X" + i + ".java";
+			pathAndSources[i * 2 + 1] =
+				"package p1;\n" +
+				"public class X" + i + (i == 0 ? "" : " extends X" + (i - 1)) + " {\n" +
+				"}";
+		}
+		this.workingCopies = createWorkingCopies(pathAndSources);
+		class Requestor extends TestASTRequestor {
+			List<String> superclasses = new ArrayList<>();
+			List<String> keys = new ArrayList<>();
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit cu) {
+				super.acceptAST(source, cu);
+				this.superclasses.add(((TypeDeclaration) cu.types().get(0)).resolveBinding().getSuperclass().getKey());
+			}
+			@Override
+			public void acceptBinding(String bindingKey, IBinding binding) {
+				this.keys.add(binding.getKey());
+			}
+		}
+		Requestor requestor = new Requestor();
+		String window = System.getProperty("jdt.core.dom.createASTs.window");
+		System.setProperty("jdt.core.dom.createASTs.window", "2");
+		try {
+			resolveASTs(this.workingCopies, new String[] {"Lp1/X4;"}, requestor, getJavaProject("P"), this.owner);
+		} finally {
+			if (window == null)
+				System.clearProperty("jdt.core.dom.createASTs.window");
+			else
+				System.setProperty("jdt.core.dom.createASTs.window", window);
+		}
+		Collections.sort(requestor.superclasses);
+		assertEquals(
+			"Unexpected superclasses",
+			"[Ljava/lang/Object;, Lp1/X0;, Lp1/X1;, Lp1/X2;, Lp1/X3;]",
+			requestor.superclasses.toString());
+		assertEquals("Unexpected bindings", "[Lp1/X4;]", requestor.keys.toString());
+		for (Object ast : requestor.asts) {
+			// released once accepted
+			assertNull("Should not resolve", ((TypeDeclaration) ((CompilationUnit) ast).types().get(0)).resolveBinding());
+		}
+	}
 	public void testIgnoreMethodBodies1() throws CoreException {
 		this.workingCopies = createWorkingCopies(new String[] {
 				"/P/p1/X.java",
@@ -16571,4 +16571,58 @@ public void testIssue2977() {
 				""";
 		formatSource(input, expected);
 	}
+
+	public void testFormatConcurrently() {
+		int count = 40;
+		String[] sources = new String[count];
+		int[] kinds = new int[count];
+		for (int i = 0; i < count; i++) {
+			sources[i] = "public class X" + i + "{int foo(int a){if(a>" + i + ")return a;return " + i + ";}}";
+			kinds[i] = CodeFormatter.K_COMPILATION_UNIT | CodeFormatter.F_INCLUDE_COMMENTS;
+		}
+		sources[count - 1] = "public class {";
+		DefaultCodeFormatter codeFormatter = codeFormatter();
+		TextEdit[] edits = codeFormatter.format(kinds, sources, null, 4);
+		assertEquals(count, edits.length);
+		for (int i = 0; i < count; i++) {
+			String expected = runFormatter(codeFormatter(), sources[i], kinds[i], 0, 0, sources[i].length(), null, false);
+			String actual = edits[i] == null ? null : org.eclipse.jdt.internal.core.util.Util.editedString(sources[i], edits[i]);
+			assertEquals("Unexpected formatting of source " + i, expected, actual);
+		}
+	}
+
+	public void testFormatRegionsLocally() {
+		StringBuilder buffer = new StringBuilder("package p;\npublic class X {\n");
+		for (int i = 0; i < 30; i++) {
+			buffer.append("  int foo").append(i).append("(int a){\n")
+				.append("      if(a>").append(i).append(")return a;\n")
+				.append("  return ").append(i).append(";}\n");
+			if (i % 3 == 0)
+				buffer.append("\n\n\n");
+		}
+		buffer.append("}\n");
+		String source = buffer.toString();
+		int start = source.indexOf("  int foo12");
+		int end = source.indexOf("  int foo14");
+		IRegion[][] regionsToFormat = {
+			{ new Region(start, end - start) },
+			{ new Region(start + 5, 10), new Region(end - 4, 3) },
+			{ new Region(source.indexOf("  int foo0"), 20) },
+		};
+		// the first member has no member before it, the whole unit is formatted
+		boolean[] local = { true, true, false };
+		for (int i = 0; i < regionsToFormat.length; i++) {
+			IRegion[] regions = regionsToFormat[i];
+			String expected = runFormatter(codeFormatter(), source, CodeFormatter.K_COMPILATION_UNIT, 0, regions, null);
+			System.setProperty(DefaultCodeFormatter.LOCAL_REGIONS_PROPERTY, "true");
+			try {
+				DefaultCodeFormatter formatter = codeFormatter();
+				String actual = runFormatter(formatter, source, CodeFormatter.K_COMPILATION_UNIT, 0, regions, null);
+				assertSourceEquals("Unexpected formatting", expected, actual);
+				assertEquals("Unexpected local formatting of regions " + i, local[i], formatter.hasFormattedLocally());
+			} finally {
+				System.clearProperty(DefaultCodeFormatter.LOCAL_REGIONS_PROPERTY);
+			}
+		}
+	}
 }
@@ -97,6 +97,9 @@ private static Class[] getAllTestClasses() {
 		// Name lookup tests
 		NameLookupTests2.class,
 
+		// Shared archives tests
+		ZipFilePoolTests.class,
+
 		// Classpath and output location tests
 		ClasspathTests.class,
 
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.zip.CRC32;
 import junit.framework.Test;
 import org.eclipse.core.resources.IProject;
@@ -35,11 +36,14 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.index.JavaIndexer;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.tests.util.Util;
 import org.eclipse.jdt.internal.core.ClasspathEntry;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.UserLibraryClasspathContainer;
 import org.eclipse.jdt.internal.core.index.DiskIndex;
+import org.eclipse.jdt.internal.core.index.EntryResult;
+import org.eclipse.jdt.internal.core.index.FileIndexLocation;
 import org.eclipse.jdt.internal.core.index.Index;
 import org.eclipse.jdt.internal.core.search.indexing.IndexManager;
 import org.osgi.service.prefs.BackingStoreException;
@@ -932,4 +936,162 @@ public class JavaIndexTests extends AbstractJavaSearchTests  {
 			ClasspathEntry.setSharedIndexLocation(null, getClass());
 		}
 	}
+
+	// Test that the index of a jar is reused for an identical jar through the shared index store
+	public void testSharedIndexStore() throws CoreException, IOException {
+		String storeDir = Files.createTempDirectory("index_store").toFile().getAbsolutePath();
+		System.setProperty("jdt.core.sharedIndexStore", storeDir);
+		String jarFilePath = getExternalResourcePath("Test.jar");
+		File copyDir = new File(getExternalResourcePath("copy"));
+		String copyFilePath = new File(copyDir, "Test.jar").getAbsolutePath();
+		File versionDir = new File(storeDir, DiskIndex.INDEX_VERSION);
+		try {
+			createJar(new String[] {
+					"pkg/Test.java",
+					"package pkg;\n" +
+					"public class Test {\n" +
+					"  protected Test(int i) {}\n" +
+					"}"}, jarFilePath);
+			IJavaProject p1 = createJavaProject("P1");
+			setClasspath(p1, new IClasspathEntry[] {JavaCore.newLibraryEntry(new Path(jarFilePath), null, null, null, null, false)});
+			waitUntilIndexesReady();
+
+			File[] storeFiles = versionDir.listFiles();
+			assertNotNull("Index was not added to the store", storeFiles);
+			assertEquals("Unexpected number of indexes in the store", 1, storeFiles.length);
+			assertTrue("Unexpected store file " + storeFiles[0].getName(),
+					storeFiles[0].getName().startsWith("Test.jar-") && storeFiles[0].getName().endsWith(".index"));
+
+			copyDir.mkdirs();
+			Files.copy(Paths.get(jarFilePath), Paths.get(copyFilePath));
+			IJavaProject p2 = createJavaProject("P2");
+			Path copyPath = new Path(copyFilePath);
+			setClasspath(p2, new IClasspathEntry[] {JavaCore.newLibraryEntry(copyPath, null, null, null, null, false)});
+			waitUntilIndexesReady();
+
+			search("Test", TYPE, DECLARATIONS, EXACT_RULE, SearchEngine.createJavaSearchScope(new IJavaElement[]{p2}));
+			assertSearchResults(copyFilePath + " pkg.Test");
+
+			// the index of the copy is a copy of the index in the store
+			assertEquals("Unexpected number of indexes in the store", 1, versionDir.listFiles().length);
+			File indexFile = JavaModelManager.getIndexManager().getIndex(copyPath, false, false).getIndexFile();
+			assertFalse("Store file is used in place", indexFile.toPath().startsWith(storeDir));
+			assertEquals(storeFiles[0].length(), indexFile.length());
+		} finally {
+			System.clearProperty("jdt.core.sharedIndexStore");
+			deleteProject("P1");
+			deleteProject("P2");
+			new File(jarFilePath).delete();
+			new File(copyFilePath).delete();
+			copyDir.delete();
+			Util.delete(storeDir);
+		}
+	}
+
+	// Test that the jars indexed at the same time by several threads can all be searched, also after the number of
+	// threads was raised
+	public void testConcurrentIndexing() throws CoreException, IOException {
+		String setting = System.getProperty(IndexManager.INDEX_MANAGER_THREADS_PROPERTY);
+		int jars = 6;
+		String[] jarFilePaths = new String[jars];
+		try {
+			System.setProperty(IndexManager.INDEX_MANAGER_THREADS_PROPERTY, "2");
+			IClasspathEntry[] entries = new IClasspathEntry[jars];
+			for (int i = 0; i < jars; i++) {
+				jarFilePaths[i] = getExternalResourcePath("Test" + i + ".jar");
+				createJar(new String[] {
+						"pkg" + i + "/Test" + i + ".java",
+						"package pkg" + i + ";\n" +
+						"public class Test" + i + " {\n" +
+						"  public void foo" + i + "() {}\n" +
+						"}"}, jarFilePaths[i]);
+				entries[i] = JavaCore.newLibraryEntry(new Path(jarFilePaths[i]), null, null);
+			}
+			IJavaProject p = createJavaProject("P");
+			setClasspath(p, Arrays.copyOf(entries, 2));
+			waitUntilIndexesReady();
+			System.setProperty(IndexManager.INDEX_MANAGER_THREADS_PROPERTY, "4");
+			setClasspath(p, entries);
+			waitUntilIndexesReady();
+
+			for (int i = 0; i < jars; i++) {
+				this.resultCollector = new JavaSearchResultCollector();
+				search("Test" + i, TYPE, DECLARATIONS, EXACT_RULE, SearchEngine.createJavaSearchScope(new IJavaElement[]{p}));
+				assertSearchResults(jarFilePaths[i] + " pkg" + i + ".Test" + i);
+				this.resultCollector = new JavaSearchResultCollector();
+				search("foo" + i, METHOD, DECLARATIONS, EXACT_RULE, SearchEngine.createJavaSearchScope(new IJavaElement[]{p}));
+				assertSearchResults(jarFilePaths[i] + " void pkg" + i + ".Test" + i + ".foo" + i + "()");
+			}
+		} finally {
+			if (setting == null) {
+				System.clearProperty(IndexManager.INDEX_MANAGER_THREADS_PROPERTY);
+			} else {
+				System.setProperty(IndexManager.INDEX_MANAGER_THREADS_PROPERTY, setting);
+			}
+			deleteProject("P");
+			for (String jarFilePath : jarFilePaths) {
+				if (jarFilePath != null)
+					new File(jarFilePath).delete();
+			}
+		}
+	}
+
+	// Test that exact queries find the words of a category table too large to be cached, which is scanned in place
+	public void testExactQueryOfLargeCategoryTable() throws IOException {
+		File indexFile = new File(getExternalResourcePath("Large.index"));
+		char[] category = "ref".toCharArray();
+		char[] smallCategory = "small".toCharArray();
+		try {
+			Index index = new Index(new FileIndexLocation(indexFile), "Large.jar", false);
+			for (int i = 0; i < 21000; i++)
+				index.addIndexEntry(category, ("word" + i).toCharArray(), "d" + (i % 300) + ".class");
+			for (int i = 0; i < 300; i++)
+				index.addIndexEntry(category, "common".toCharArray(), "d" + i + ".class");
+			index.addIndexEntry(category, "pair".toCharArray(), "d1.class");
+			index.addIndexEntry(category, "pair".toCharArray(), "d2.class");
+			index.addIndexEntry(category, "w\u00e9rd\u4e2d".toCharArray(), "d7.class");
+			index.addIndexEntry(smallCategory, "only".toCharArray(), "d3.class");
+			index.save();
+			assertExactQueries(index, category, smallCategory);
+
+			// the table offsets and ends are read from the header of an existing index
+			assertExactQueries(new Index(new FileIndexLocation(indexFile), "Large.jar", true), category, smallCategory);
+		} finally {
+			indexFile.delete();
+		}
+	}
+	private void assertExactQueries(Index index, char[] category, char[] smallCategory) throws IOException {
+		assertExactQuery(index, category, "word12345", "[d45.class]");
+		assertExactQuery(index, category, "word1", "[d1.class]");
+		assertExactQuery(index, category, "word20999", "[d299.class]");
+		assertExactQuery(index, category, "pair", "[d1.class, d2.class]");
+		assertExactQuery(index, category, "w\u00e9rd\u4e2d", "[d7.class]");
+		assertExactQuery(index, category, "w\u00e9rd\u4e2e", null);
+		assertExactQuery(index, category, "word21000", null);
+		assertExactQuery(index, smallCategory, "only", "[d3.class]");
+		index.startQuery();
+		try {
+			EntryResult[] results = index.query(new char[][] {category}, "common".toCharArray(), SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+			assertEquals("Unexpected number of results", 1, results.length);
+			assertEquals("Unexpected number of documents", 300, results[0].getDocumentNames(index).length);
+		} finally {
+			index.stopQuery();
+		}
+	}
+	private void assertExactQuery(Index index, char[] category, String word, String expected) throws IOException {
+		index.startQuery();
+		try {
+			EntryResult[] results = index.query(new char[][] {category}, word.toCharArray(), SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+			if (expected == null) {
+				assertNull("Unexpected results for " + word, results);
+				return;
+			}
+			assertEquals("Unexpected number of results for " + word, 1, results.length);
+			String[] names = results[0].getDocumentNames(index);
+			Arrays.sort(names);
+			assertEquals("Unexpected documents for " + word, expected, Arrays.toString(names));
+		} finally {
+			index.stopQuery();
+		}
+	}
 }
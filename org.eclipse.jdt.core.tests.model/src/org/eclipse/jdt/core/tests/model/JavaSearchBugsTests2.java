@@ -45,6 +45,7 @@ import org.eclipse.jdt.core.*;
 import org.eclipse.jdt.core.search.*;
 import org.eclipse.jdt.core.util.ClassFileBytesDisassembler;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.core.index.DiskIndex;
 import org.eclipse.jdt.internal.core.search.matching.MatchLocator;
 import org.eclipse.jdt.internal.core.search.matching.MethodPattern;
 import org.eclipse.jdt.internal.core.search.processing.JobManager;
@@ -3086,6 +3087,107 @@ public class JavaSearchBugsTests2 extends AbstractJavaSearchTests {
 		}
 	}
 
+	/**
+	 * Test that locating the matches of several projects and batches concurrently finds the same matches, and reports
+	 * them in the same order each time.
+	 */
+	public void testConcurrentMatchLocator() throws Exception {
+		String previous = System.getProperty(MatchLocator.THREADS_PROPERTY);
+		try {
+			IJavaProject p1 = createJavaProject("P1", new String[] { "src" }, new String[] { "JCL18_LIB" }, "bin", CompilerOptions.getFirstSupportedJavaVersion());
+			createFolder("/P1/src/p");
+			createFile("/P1/src/p/A.java",
+					"package p;\n" +
+					"public class A {\n" +
+					"	public void foo() {}\n" +
+					"}\n");
+			createJavaProject("P2", new String[] { "src" }, new String[] { "JCL18_LIB" }, new String[] { "/P1" }, "bin", CompilerOptions.getFirstSupportedJavaVersion());
+			createFolder("/P2/src/q");
+			for (int i = 0; i <= MatchLocator.MAX_AT_ONCE; i++) {
+				createFile("/P2/src/q/B" + i + ".java",
+						"package q;\n" +
+						"public class B" + i + " {\n" +
+						"	void bar(p.A a) { a.foo(); }\n" +
+						"}\n");
+			}
+			waitUntilIndexesReady();
+			IMethod method = p1.findType("p.A").getMethod("foo", new String[0]);
+
+			System.clearProperty(MatchLocator.THREADS_PROPERTY);
+			JavaSearchResultCollector sequential = new JavaSearchResultCollector(true);
+			search(method, REFERENCES, EXACT_RULE, SearchEngine.createWorkspaceScope(), sequential);
+
+			System.setProperty(MatchLocator.THREADS_PROPERTY, "4");
+			JavaSearchResultCollector concurrent = new JavaSearchResultCollector(true);
+			search(method, REFERENCES, EXACT_RULE, SearchEngine.createWorkspaceScope(), concurrent);
+
+			assertEquals("Unexpected number of matches", MatchLocator.MAX_AT_ONCE + 1, sequential.count);
+			assertSearchResults("Unexpected concurrent search results", sequential.toString(), concurrent);
+
+			JavaSearchResultCollector first = new JavaSearchResultCollector();
+			search(method, REFERENCES, EXACT_RULE, SearchEngine.createWorkspaceScope(), first);
+			JavaSearchResultCollector second = new JavaSearchResultCollector();
+			search(method, REFERENCES, EXACT_RULE, SearchEngine.createWorkspaceScope(), second);
+			assertEquals("Unexpected order of the concurrent search results", first.results.toString(), second.results.toString());
+		} finally {
+			if (previous == null)
+				System.clearProperty(MatchLocator.THREADS_PROPERTY);
+			else
+				System.setProperty(MatchLocator.THREADS_PROPERTY, previous);
+			deleteProject("P1");
+			deleteProject("P2");
+		}
+	}
+
+	/**
+	 * Test that querying the sorted words of the index finds the same type names as scanning all the words.
+	 */
+	public void testSortedWordsTypeNames() throws Exception {
+		String previous = System.getProperty(DiskIndex.SORTED_WORDS_PROPERTY);
+		try {
+			createJavaProject("P", new String[] { "src" }, new String[] { "JCL18_LIB" }, "bin", CompilerOptions.getFirstSupportedJavaVersion());
+			createFolder("/P/src/p");
+			String[] names = { "ArrayBuffer", "ArrayBuilder", "Arrays", "arrayHelper", "AbstractBuilder", "Builder", "ZArray" };
+			for (String name : names) {
+				createFile("/P/src/p/" + name + ".java",
+						"package p;\n" +
+						"public class " + name + " {}\n");
+			}
+			waitUntilIndexesReady();
+			String[] patterns = { "Arr", "arr", "AB", "ArB", "A", "Z", "Builder", "builder" };
+			int[] rules = {
+				SearchPattern.R_PREFIX_MATCH,
+				SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE,
+				SearchPattern.R_CAMELCASE_MATCH,
+				SearchPattern.R_CAMELCASE_MATCH | SearchPattern.R_CASE_SENSITIVE,
+				SearchPattern.R_EXACT_MATCH,
+			};
+			for (String pattern : patterns) {
+				for (int rule : rules) {
+					System.clearProperty(DiskIndex.SORTED_WORDS_PROPERTY);
+					TypeNameMatchCollector scanned = new TypeNameMatchCollector();
+					new SearchEngine().searchAllTypeNames(null, SearchPattern.R_EXACT_MATCH, pattern.toCharArray(), rule,
+							IJavaSearchConstants.TYPE, SearchEngine.createWorkspaceScope(), scanned,
+							IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+
+					System.setProperty(DiskIndex.SORTED_WORDS_PROPERTY, "true");
+					TypeNameMatchCollector sorted = new TypeNameMatchCollector();
+					new SearchEngine().searchAllTypeNames(null, SearchPattern.R_EXACT_MATCH, pattern.toCharArray(), rule,
+							IJavaSearchConstants.TYPE, SearchEngine.createWorkspaceScope(), sorted,
+							IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+
+					assertEquals("Unexpected type names for " + pattern + " with rule " + rule, scanned.toString(), sorted.toString());
+				}
+			}
+		} finally {
+			if (previous == null)
+				System.clearProperty(DiskIndex.SORTED_WORDS_PROPERTY);
+			else
+				System.setProperty(DiskIndex.SORTED_WORDS_PROPERTY, previous);
+			deleteProject("P");
+		}
+	}
+
 	private static void printJavaElements(IJavaProject javaProject, PrintStream output) throws Exception {
 		output.println("Printing Java elements of Java project: " + javaProject);
 		List<IJavaElement> queue = new LinkedList<>();
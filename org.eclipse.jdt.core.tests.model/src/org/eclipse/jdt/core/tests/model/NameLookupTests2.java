@@ -147,6 +147,45 @@ public void testAddPackageFragment2() throws CoreException {
 		deleteProject("P");
 	}
 }
+/*
+ * Ensures that the package fragment caches updated after adding or removing packages keep the roots in classpath
+ * order, and that name lookups created before still see the previous packages.
+ */
+public void testAddAndRemovePackageFragmentUpdatesCaches() throws CoreException {
+	try {
+		JavaProject project = (JavaProject)createJavaProject("P", new String[] {"src1", "src2"}, "bin");
+		createFolder("/P/src2/p1");
+		NameLookup before = getNameLookup(project);
+		assertElementsEqual(
+			"Unexpected p1",
+			"p1 [in src2 [in P]]",
+			before.findPackageFragments("p1", false));
+
+		createFolder("/P/src1/p1/q");
+		assertElementsEqual(
+			"Unexpected p1 after adding it to src1",
+			"p1 [in src1 [in P]]\n" +
+			"p1 [in src2 [in P]]",
+			getNameLookup(project).findPackageFragments("p1", false));
+		assertElementsEqual(
+			"Unexpected p1.q",
+			"p1.q [in src1 [in P]]",
+			getNameLookup(project).findPackageFragments("p1.q", false));
+		assertElementsEqual(
+			"Previous name lookup should not change",
+			"p1 [in src2 [in P]]",
+			before.findPackageFragments("p1", false));
+
+		deleteFolder("/P/src1/p1");
+		assertElementsEqual(
+			"Unexpected p1 after removing it from src1",
+			"p1 [in src2 [in P]]",
+			getNameLookup(project).findPackageFragments("p1", false));
+		assertNull("Should not find p1.q", getNameLookup(project).findPackageFragments("p1.q", false));
+	} finally {
+		deleteProject("P");
+	}
+}
 /*
  * Ensures that a NameLookup can be created with working copies that contain duplicate types
  * (regression test for bug 63245 findPackageFragment won't return default package)
@@ -5629,4 +5629,216 @@ public void testBug564613_001() throws CoreException, IOException, InterruptedEx
 			deleteProject(project15);
 	}
 }
+/*
+ * Ensures that an incremental reconcile reports the same problems as a full reconcile, when the edits are confined to a
+ * method body and when they change the usage of another method.
+ */
+public void testIncrementalReconcile() throws CoreException {
+	String property = "jdt.core.reconcile.incremental";
+	String previous = System.getProperty(property);
+	try {
+		System.setProperty(property, "true");
+		setWorkingCopyContents(
+			"package p1;\n" +
+			"public class X {\n" +
+			"  void foo() {\n" +
+			"    int i;\n" +
+			"    System.out.println(i);\n" +
+			"  }\n" +
+			"  void bar() {\n" +
+			"    String s = \"\";\n" +
+			"  }\n" +
+			"  private void baz() {\n" +
+			"  }\n" +
+			"}");
+		this.workingCopy.reconcile(ICompilationUnit.NO_AST, true, null, null);
+		assertProblems(
+			"Unexpected problems",
+			"----------\n" +
+			"1. ERROR in /Reconciler/src/p1/X.java (at line 5)\n" +
+			"	System.out.println(i);\n" +
+			"	                   ^\n" +
+			"The local variable i may not have been initialized\n" +
+			"----------\n" +
+			"2. WARNING in /Reconciler/src/p1/X.java (at line 10)\n" +
+			"	private void baz() {\n" +
+			"	             ^^^^^\n" +
+			"The method baz() from the type X is never used locally\n" +
+			"----------\n"
+		);
+
+		// edit the body of bar(): the problems of foo() and baz() are reused
+		setWorkingCopyContents(
+			"package p1;\n" +
+			"public class X {\n" +
+			"  void foo() {\n" +
+			"    int i;\n" +
+			"    System.out.println(i);\n" +
+			"  }\n" +
+			"  void bar() {\n" +
+			"    String s = \"\";\n" +
+			"    s.length();\n" +
+			"  }\n" +
+			"  private void baz() {\n" +
+			"  }\n" +
+			"}");
+		this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+		assertProblems(
+			"Unexpected problems after editing bar()",
+			"----------\n" +
+			"1. ERROR in /Reconciler/src/p1/X.java (at line 5)\n" +
+			"	System.out.println(i);\n" +
+			"	                   ^\n" +
+			"The local variable i may not have been initialized\n" +
+			"----------\n" +
+			"2. WARNING in /Reconciler/src/p1/X.java (at line 11)\n" +
+			"	private void baz() {\n" +
+			"	             ^^^^^\n" +
+			"The method baz() from the type X is never used locally\n" +
+			"----------\n"
+		);
+
+		// edit the body of foo(): its problems are found again
+		setWorkingCopyContents(
+			"package p1;\n" +
+			"public class X {\n" +
+			"  void foo() {\n" +
+			"    int j = 0;\n" +
+			"    int i;\n" +
+			"    System.out.println(i);\n" +
+			"  }\n" +
+			"  void bar() {\n" +
+			"    String s = \"\";\n" +
+			"    s.length();\n" +
+			"  }\n" +
+			"  private void baz() {\n" +
+			"  }\n" +
+			"}");
+		this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+		assertProblems(
+			"Unexpected problems after editing foo()",
+			"----------\n" +
+			"1. ERROR in /Reconciler/src/p1/X.java (at line 6)\n" +
+			"	System.out.println(i);\n" +
+			"	                   ^\n" +
+			"The local variable i may not have been initialized\n" +
+			"----------\n" +
+			"2. WARNING in /Reconciler/src/p1/X.java (at line 12)\n" +
+			"	private void baz() {\n" +
+			"	             ^^^^^\n" +
+			"The method baz() from the type X is never used locally\n" +
+			"----------\n"
+		);
+
+		// use baz() in bar(): the problems of baz() cannot be reused
+		setWorkingCopyContents(
+			"package p1;\n" +
+			"public class X {\n" +
+			"  void foo() {\n" +
+			"    int j = 0;\n" +
+			"    int i;\n" +
+			"    System.out.println(i);\n" +
+			"  }\n" +
+			"  void bar() {\n" +
+			"    String s = \"\";\n" +
+			"    baz();\n" +
+			"  }\n" +
+			"  private void baz() {\n" +
+			"  }\n" +
+			"}");
+		this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+		assertProblems(
+			"Unexpected problems after using baz()",
+			"----------\n" +
+			"1. ERROR in /Reconciler/src/p1/X.java (at line 6)\n" +
+			"	System.out.println(i);\n" +
+			"	                   ^\n" +
+			"The local variable i may not have been initialized\n" +
+			"----------\n"
+		);
+	} finally {
+		if (previous == null)
+			System.clearProperty(property);
+		else
+			System.setProperty(property, previous);
+	}
+}
+/*
+ * Ensures that an OperationCanceledException is thrown when an incremental reconcile is canceled, and that the next
+ * reconcile reports the problems.
+ */
+public void testIncrementalReconcileCancel() throws CoreException {
+	String property = "jdt.core.reconcile.incremental";
+	String previous = System.getProperty(property);
+	try {
+		System.setProperty(property, "true");
+		String contents =
+			"package p1;\n" +
+			"public class X {\n" +
+			"  void foo() {\n" +
+			"    int i;\n" +
+			"    System.out.println(i);\n" +
+			"  }\n" +
+			"  void bar() {\n" +
+			"    String s = \"\";\n" +
+			"  }\n" +
+			"}";
+		String editedContents =
+			"package p1;\n" +
+			"public class X {\n" +
+			"  void foo() {\n" +
+			"    int i;\n" +
+			"    System.out.println(i);\n" +
+			"  }\n" +
+			"  void bar() {\n" +
+			"    String s = \"\";\n" +
+			"    int j;\n" +
+			"    System.out.println(j);\n" +
+			"  }\n" +
+			"}";
+
+		// count the number of time isCanceled() is called when reconciling the edit of bar()
+		setWorkingCopyContents(contents);
+		this.workingCopy.reconcile(ICompilationUnit.NO_AST, true, null, null);
+		setWorkingCopyContents(editedContents);
+		CancelCounter counter = new CancelCounter();
+		this.workingCopy.reconcile(ICompilationUnit.NO_AST, true, null, counter);
+
+		// throw an OperationCanceledException at each point isCanceled() is called
+		for (int i = 0; i < counter.count; i++) {
+			setWorkingCopyContents(contents);
+			this.workingCopy.reconcile(ICompilationUnit.NO_AST, true, null, null);
+			setWorkingCopyContents(editedContents);
+			boolean gotException = false;
+			try {
+				this.workingCopy.reconcile(ICompilationUnit.NO_AST, true, null, new Canceler(i));
+			} catch (OperationCanceledException e) {
+				gotException = true;
+			}
+			assertTrue("Should get an OperationCanceledException (" + i + ")", gotException);
+		}
+
+		// the canceled reconcile did not keep any state
+		this.workingCopy.reconcile(ICompilationUnit.NO_AST, true, null, null);
+		assertProblems(
+			"Unexpected problems",
+			"----------\n" +
+			"1. ERROR in /Reconciler/src/p1/X.java (at line 5)\n" +
+			"	System.out.println(i);\n" +
+			"	                   ^\n" +
+			"The local variable i may not have been initialized\n" +
+			"----------\n" +
+			"2. ERROR in /Reconciler/src/p1/X.java (at line 10)\n" +
+			"	System.out.println(j);\n" +
+			"	                   ^\n" +
+			"The local variable j may not have been initialized\n" +
+			"----------\n"
+		);
+	} finally {
+		if (previous == null)
+			System.clearProperty(property);
+		else
+			System.setProperty(property, previous);
+	}
+}
 }
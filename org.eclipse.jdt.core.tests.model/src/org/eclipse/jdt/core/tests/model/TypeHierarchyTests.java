@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Hashtable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -39,6 +40,10 @@ import org.eclipse.jdt.core.tests.model.SearchTests.WaitingJob;
 import org.eclipse.jdt.core.tests.model.Semaphore.TimeOutException;
 import org.eclipse.jdt.core.tests.util.Util;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.hierarchy.IndexBasedHierarchyBuilder;
+import org.eclipse.jdt.internal.core.index.EntryResult;
+import org.eclipse.jdt.internal.core.index.Index;
 
 @SuppressWarnings("rawtypes")
 public class TypeHierarchyTests extends ModifyingResourceTests {
@@ -3783,4 +3788,97 @@ public void testHierarchyOfCircular() throws CoreException {
 
 }
 
+
+/**
+ * Test that searching and resolving the possible subtypes on several threads builds the same hierarchy.
+ */
+public void testConcurrentSubtypes() throws CoreException {
+	String previous = System.getProperty(IndexBasedHierarchyBuilder.THREADS_PROPERTY);
+	try {
+		createJavaProject("P1", new String[] {""}, new String[] {"JCL18_LIB"}, new String[0], "");
+		createJavaProject("P2", new String[] {""}, new String[] {"JCL18_LIB"}, new String[] {"/P1"}, "");
+		createJavaProject("P3", new String[] {""}, new String[] {"JCL18_LIB"}, new String[] {"/P1", "/P2"}, "");
+		createFolder("/P1/p");
+		createFile("/P1/p/I.java", "package p;\npublic interface I {}");
+		createFile("/P1/p/J.java", "package p;\npublic interface J extends I {}");
+		createFile("/P1/p/A.java", "package p;\npublic class A implements I {}");
+		createFolder("/P2/q");
+		createFile("/P2/q/B.java", "package q;\npublic class B extends p.A {}");
+		createFile("/P2/q/C.java", "package q;\npublic class C implements p.J {}");
+		createFolder("/P3/r");
+		createFile("/P3/r/D.java", "package r;\npublic class D extends q.B {}");
+		createFile("/P3/r/E.java", "package r;\npublic class E extends q.C implements Runnable { public void run() {} }");
+		waitUntilIndexesReady();
+		IType type = getCompilationUnit("/P1/p/I.java").getType("I");
+
+		System.clearProperty(IndexBasedHierarchyBuilder.THREADS_PROPERTY);
+		ITypeHierarchy sequential = type.newTypeHierarchy(null);
+
+		System.setProperty(IndexBasedHierarchyBuilder.THREADS_PROPERTY, "4");
+		ITypeHierarchy concurrent = type.newTypeHierarchy(null);
+
+		assertTypesEqual("Unexpected subtypes",
+				"p.A\n" +
+				"p.J\n" +
+				"q.B\n" +
+				"q.C\n" +
+				"r.D\n" +
+				"r.E\n",
+				concurrent.getAllSubtypes(type));
+		assertEquals("Unexpected concurrent hierarchy", sequential.toString(), concurrent.toString());
+	} finally {
+		if (previous == null)
+			System.clearProperty(IndexBasedHierarchyBuilder.THREADS_PROPERTY);
+		else
+			System.setProperty(IndexBasedHierarchyBuilder.THREADS_PROPERTY, previous);
+		deleteProject("P1");
+		deleteProject("P2");
+		deleteProject("P3");
+	}
+}
+
+
+/**
+ * Test that the subtypes answered by the supertype graph of the indexes follow the changes of the indexed documents.
+ */
+public void testSuperTypeGraph() throws CoreException, IOException {
+	Hashtable<String, String> options = JavaCore.getOptions();
+	try {
+		Hashtable<String, String> newOptions = new Hashtable<>(options);
+		newOptions.put(Index.ENABLE_SUPERTYPE_GRAPH, "true");
+		JavaCore.setOptions(newOptions);
+		createJavaProject("P", new String[] {""}, new String[] {"JCL18_LIB"}, "");
+		createFolder("/P/p");
+		createFile("/P/p/A.java", "package p;\npublic class A {}");
+		createFile("/P/p/B.java", "package p;\npublic class B extends A {}");
+		waitUntilIndexesReady();
+		IType type = getCompilationUnit("/P/p/A.java").getType("A");
+		assertTypesEqual("Unexpected subtypes",
+				"p.B\n",
+				type.newTypeHierarchy(null).getAllSubtypes(type));
+
+		createFile("/P/p/C.java", "package p;\npublic class C extends A {}");
+		waitUntilIndexesReady();
+		assertTypesEqual("Unexpected subtypes after adding C",
+				"p.B\n" +
+				"p.C\n",
+				type.newTypeHierarchy(null).getAllSubtypes(type));
+
+		deleteFile("/P/p/B.java");
+		editFile("/P/p/C.java", "package p;\npublic class C {}");
+		createFile("/P/p/D.java", "package p;\npublic class D extends A {}");
+		waitUntilIndexesReady();
+		assertTypesEqual("Unexpected subtypes after removing B and C",
+				"p.D\n",
+				type.newTypeHierarchy(null).getAllSubtypes(type));
+		Index index = JavaModelManager.getIndexManager().getIndex(new Path("/P"), true, false);
+		EntryResult[] references = index.querySuperTypeReferences("A".toCharArray());
+		assertEquals("Unexpected super type references", 1, references.length);
+		assertEquals("Unexpected documents", "p/D.java", String.join(",", references[0].getDocumentNames(index)));
+	} finally {
+		JavaCore.setOptions(options);
+		deleteProject("P");
+	}
+}
+
 }
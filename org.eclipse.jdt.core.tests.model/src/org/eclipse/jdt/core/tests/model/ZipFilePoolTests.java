@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.model;
+
+import java.io.File;
+import java.util.zip.ZipFile;
+import junit.framework.Test;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.ZipFilePool;
+
+/**
+ * Tests for the {@link ZipFilePool} of the archives shared by the operations caching their zip files.
+ */
+public class ZipFilePoolTests extends AbstractJavaModelTests {
+
+	public ZipFilePoolTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildModelTestSuite(ZipFilePoolTests.class);
+	}
+
+	/*
+	 * Operations caching their zip files share the archives of the pool enabled by jdt.core.zipFilePool.idleTime,
+	 * an archive which changed on disk is opened again.
+	 */
+	public void testSharedZipFilePool() throws Exception {
+		String pooledJar = getExternalPath() + "pooledJar.jar";
+		IPath pooledPath = Path.fromOSString(pooledJar);
+		String idleTime = System.getProperty("jdt.core.zipFilePool.idleTime");
+		System.setProperty("jdt.core.zipFilePool.idleTime", "60000");
+		JavaModelManager manager = JavaModelManager.getJavaModelManager();
+		try {
+			Util.createJar(
+					new String[] {
+						"p/A.java",
+						"package p;\n" +
+						"public class A {}"
+					},
+					pooledJar,
+					CompilerOptions.getFirstSupportedJavaVersion());
+
+			Object owner = new Object();
+			manager.cacheZipFiles(owner);
+			ZipFile zipFile;
+			ZipFile[] otherZipFile = new ZipFile[1];
+			CoreException[] failure = new CoreException[1];
+			try {
+				zipFile = manager.getZipFile(pooledPath);
+				Thread other = new Thread(() -> {
+					Object otherOwner = new Object();
+					manager.cacheZipFiles(otherOwner);
+					try {
+						otherZipFile[0] = manager.getZipFile(pooledPath);
+					} catch (CoreException e) {
+						failure[0] = e;
+					} finally {
+						manager.flushZipFiles(otherOwner);
+					}
+				});
+				other.start();
+				other.join();
+			} finally {
+				manager.flushZipFiles(owner);
+			}
+			if (failure[0] != null)
+				throw failure[0];
+			assertSame("Concurrent operations should share the archive", zipFile, otherZipFile[0]);
+			zipFile.close();
+			assertNotNull("The archive should be kept open by the pool", zipFile.getEntry("p/A.class"));
+
+			Util.createJar(
+					new String[] {
+						"p/A.java",
+						"package p;\n" +
+						"public class A {}",
+						"p/B.java",
+						"package p;\n" +
+						"public class B {}"
+					},
+					pooledJar,
+					CompilerOptions.getFirstSupportedJavaVersion());
+			new File(pooledJar).setLastModified(System.currentTimeMillis() + 10000);
+			manager.cacheZipFiles(owner);
+			try {
+				ZipFile changedZipFile = manager.getZipFile(pooledPath);
+				assertNotSame("A changed archive should be opened again", zipFile, changedZipFile);
+				assertNotNull("The changed archive should be read", changedZipFile.getEntry("p/B.class"));
+			} finally {
+				manager.flushZipFiles(owner);
+			}
+		} finally {
+			if (idleTime == null)
+				System.clearProperty("jdt.core.zipFilePool.idleTime");
+			else
+				System.setProperty("jdt.core.zipFilePool.idleTime", idleTime);
+			ZipFilePool.closeAll(); // all the references were released, close the pooled archives
+			new File(pooledJar).delete();
+		}
+	}
+}
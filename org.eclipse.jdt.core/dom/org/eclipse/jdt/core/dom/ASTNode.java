@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.eclipse.jdt.internal.core.dom.NaiveASTFlattener;
 
 /**
@@ -1482,23 +1483,32 @@ public abstract class ASTNode {
 
 	/**
 	 * A specialized implementation of a list of ASTNodes. The
-	 * implementation is based on an ArrayList.
+	 * implementation is based on an array.
 	 */
 	class NodeList extends AbstractList {
 
 		/**
-		 * The underlying list in which the nodes of this list are
-		 * stored (element type: {@link ASTNode}).
-		 * <p>
-		 * Be stingy on storage - assume that list will be empty.
-		 * </p>
+		 * The elements of all the lists which have always been empty.
+		 */
+		private static final Object[] NO_ELEMENTS = new Object[0];
+
+		/**
+		 * The array in which the nodes of this list are stored
+		 * (element type: {@link ASTNode}), only the first
+		 * <code>size</code> elements are used.
 		 * <p>
-		 * This field declared default visibility (rather than private)
-		 * so that accesses from <code>NodeList.Cursor</code> do not require
-		 * a synthetic accessor method.
+		 * Be stingy on storage - assume that list will be empty, and
+		 * don't allocate a separate collection object for each list:
+		 * trees have far more lists than nodes, and most of them are
+		 * empty or hold a single node.
 		 * </p>
 		 */
-		ArrayList store = new ArrayList(0);
+		private Object[] elements = NO_ELEMENTS;
+
+		/**
+		 * The number of nodes in this list.
+		 */
+		private int size = 0;
 
 		/**
 		 * The property descriptor for this list.
@@ -1521,12 +1531,12 @@ public abstract class ASTNode {
 
 			@Override
 			public boolean hasNext() {
-				return this.position < NodeList.this.store.size();
+				return this.position < NodeList.this.size;
 			}
 
 			@Override
 			public Object next() {
-				Object result = NodeList.this.store.get(this.position);
+				Object result = get(this.position);
 				this.position++;
 				return result;
 		    }
@@ -1582,12 +1592,13 @@ public abstract class ASTNode {
 
 		@Override
 		public int size() {
-			return this.store.size();
+			return this.size;
 		}
 
 		@Override
 		public Object get(int index) {
-			return this.store.get(index);
+			Objects.checkIndex(index, this.size);
+			return this.elements[index];
 		}
 
 		@Override
@@ -1601,7 +1612,7 @@ public abstract class ASTNode {
 			}
 			// delink old child from parent, and link new child to parent
 			ASTNode newChild = (ASTNode) element;
-			ASTNode oldChild = (ASTNode) this.store.get(index);
+			ASTNode oldChild = (ASTNode) get(index);
 			if (oldChild == newChild) {
 				return oldChild;
 			}
@@ -1612,7 +1623,8 @@ public abstract class ASTNode {
 			ASTNode.checkNewChild(ASTNode.this, newChild, this.propertyDescriptor.cycleRisk, this.propertyDescriptor.elementType);
 			ASTNode.this.ast.preReplaceChildEvent(ASTNode.this, oldChild, newChild, this.propertyDescriptor);
 
-			Object result = this.store.set(index, newChild);
+			Object result = oldChild;
+			this.elements[index] = newChild;
 			// n.b. setParent will call ast.modifying()
 			oldChild.setParent(null, null);
 			newChild.setParent(ASTNode.this, this.propertyDescriptor);
@@ -1631,11 +1643,21 @@ public abstract class ASTNode {
 			}
 			// link new child to parent
 			ASTNode newChild = (ASTNode) element;
+			Objects.checkIndex(index, this.size + 1);
 			ASTNode.checkNewChild(ASTNode.this, newChild, this.propertyDescriptor.cycleRisk, this.propertyDescriptor.elementType);
 			ASTNode.this.ast.preAddChildEvent(ASTNode.this, newChild, this.propertyDescriptor);
 
-
-			this.store.add(index, element);
+			if (this.size == this.elements.length) {
+				// most lists hold a single node, grow exactly for the first one
+				Object[] newElements = new Object[this.size == 0 ? 1 : this.size * 2];
+				System.arraycopy(this.elements, 0, newElements, 0, index);
+				System.arraycopy(this.elements, index, newElements, index + 1, this.size - index);
+				this.elements = newElements;
+			} else {
+				System.arraycopy(this.elements, index, this.elements, index + 1, this.size - index);
+			}
+			this.elements[index] = element;
+			this.size++;
 			updateCursors(index, +1);
 			// n.b. setParent will call ast.modifying()
 			newChild.setParent(ASTNode.this, this.propertyDescriptor);
@@ -1649,7 +1671,7 @@ public abstract class ASTNode {
 				throw new IllegalArgumentException("AST node cannot be modified"); //$NON-NLS-1$
 			}
 			// delink old child from parent
-			ASTNode oldChild = (ASTNode) this.store.get(index);
+			ASTNode oldChild = (ASTNode) get(index);
 			if ((oldChild.typeAndFlags & PROTECT) != 0) {
 				// old child is protected => cannot be unparented
 				throw new IllegalArgumentException("AST node cannot be modified"); //$NON-NLS-1$
@@ -1658,7 +1680,9 @@ public abstract class ASTNode {
 			ASTNode.this.ast.preRemoveChildEvent(ASTNode.this, oldChild, this.propertyDescriptor);
 			// n.b. setParent will call ast.modifying()
 			oldChild.setParent(null, null);
-			Object result = this.store.remove(index);
+			Object result = oldChild;
+			System.arraycopy(this.elements, index + 1, this.elements, index, this.size - index - 1);
+			this.elements[--this.size] = null;
 			updateCursors(index, -1);
 			ASTNode.this.ast.postRemoveChildEvent(ASTNode.this, oldChild, this.propertyDescriptor);
 			return result;
@@ -1738,20 +1762,19 @@ public abstract class ASTNode {
 		 * instance in bytes.
 	     * <ul>
 	     * <li>1 object header for the NodeList instance</li>
-	     * <li>5 4-byte fields of the NodeList instance</li>
+	     * <li>6 4-byte fields of the NodeList instance</li>
 	     * <li>0 for cursors since null unless walk in progress</li>
-	     * <li>1 object header for the ArrayList instance</li>
-	     * <li>2 4-byte fields of the ArrayList instance</li>
-	     * <li>1 object header for an Object[] instance</li>
-	     * <li>4 bytes in array for each element</li>
+	     * <li>1 object header for the Object[] instance, unless the list has always been empty</li>
+	     * <li>4 bytes in array for each slot</li>
 	     * </ul>
 	 	 *
 		 * @return the size of this node list in bytes
 		 */
 		int memSize() {
-			int result = HEADERS + 5 * 4;
-			result += HEADERS + 2 * 4;
-			result += HEADERS + 4 * size();
+			int result = HEADERS + 6 * 4;
+			if (this.elements != NO_ELEMENTS) {
+				result += HEADERS + 4 * this.elements.length;
+			}
 			return result;
 		}
 
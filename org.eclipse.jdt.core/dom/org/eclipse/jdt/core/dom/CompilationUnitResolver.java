@@ -19,12 +19,19 @@ package org.eclipse.jdt.core.dom;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.IClasspathEntry;
@@ -65,6 +72,7 @@ import org.eclipse.jdt.internal.core.CancelableNameEnvironment;
 import org.eclipse.jdt.internal.core.CancelableProblemFactory;
 import org.eclipse.jdt.internal.core.ClasspathEntry;
 import org.eclipse.jdt.internal.core.INameEnvironmentWithProgress;
+import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.JavaProject;
 import org.eclipse.jdt.internal.core.NameLookup;
 import org.eclipse.jdt.internal.core.SourceTypeElementInfo;
@@ -120,6 +128,38 @@ class CompilationUnitResolver extends Compiler {
 	}
 
 
+	/**
+	 * System property giving the number of threads resolving the compilation units of
+	 * {@link ASTParser#createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)} when bindings are
+	 * requested (1 by default).
+	 * <p>
+	 * The units are split into groups of units of the same packages, each group is resolved in its own environment on
+	 * its own thread. Binary types are read once from the Java model and shared, but the bindings of the ASTs of
+	 * different groups are created by different environments: they must be compared with
+	 * {@link IBinding#isEqualTo(IBinding)}, not by identity. The calls to the requestor are serialized, but the units
+	 * are sorted by package and the groups accept their ASTs as they are resolved, so the requestor is not called in
+	 * the order of the given units. Batches requesting binding keys are still resolved on the calling thread.
+	 * </p>
+	 */
+	public static final String THREADS_PROPERTY = "jdt.core.dom.createASTs.threads"; //$NON-NLS-1$
+	private static final int MIN_UNITS_PER_GROUP = 50;
+
+	/**
+	 * System property giving the maximum number of compilation units of
+	 * {@link ASTParser#createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)} resolved in the same
+	 * environment when bindings are requested (all the units by default).
+	 * <p>
+	 * When set, the units are resolved window after window, so that the environment, the compiler declarations and the
+	 * bindings of a window can be garbage collected once its ASTs have been accepted, instead of being kept until the
+	 * end of the batch. Once {@link ASTRequestor#acceptAST(ICompilationUnit, CompilationUnit)} returns, the AST no longer
+	 * resolves bindings: requestors which need bindings later on should keep their {@link IBinding#getKey() keys}.
+	 * Bindings of ASTs of different windows must be compared with {@link IBinding#isEqualTo(IBinding)}.
+	 * The units are sorted by package before they are split into windows, so the ASTs are accepted in that order rather
+	 * than in the order of the given units. The requested binding keys are resolved after the last window.
+	 * </p>
+	 */
+	public static final String WINDOW_PROPERTY = "jdt.core.dom.createASTs.window"; //$NON-NLS-1$
+
 	public static final int RESOLVE_BINDING = 0x1;
 	public static final int PARTIAL = 0x2;
 	public static final int STATEMENT_RECOVERY = 0x4;
@@ -154,6 +194,11 @@ class CompilationUnitResolver extends Compiler {
 
 	DefaultBindingResolver.BindingTables bindingTables;
 
+	/*
+	 * Set to true to detach the ASTs from their bindings once they have been accepted by the requestor.
+	 */
+	boolean releaseASTs;
+
 	boolean hasCompilationAborted;
 	CategorizedProblem abortProblem;
 
@@ -711,6 +756,16 @@ class CompilationUnitResolver extends Compiler {
 		int flags,
 		IProgressMonitor monitor) {
 
+		int groups = Math.min(Integer.getInteger(THREADS_PROPERTY, 1).intValue(), compilationUnits.length / MIN_UNITS_PER_GROUP);
+		if (groups > 1 && bindingKeys.length == 0) {
+			try {
+				resolveConcurrently(compilationUnits, requestor, apiLevel, options, javaProject, owner, flags, groups, monitor);
+			} catch (JavaModelException e) {
+				// project doesn't exist -> simple parse without resolving
+				parse(compilationUnits, requestor, apiLevel, options, flags, monitor);
+			}
+			return;
+		}
 		CancelableNameEnvironment environment = null;
 		CancelableProblemFactory problemFactory = null;
 		try {
@@ -718,18 +773,14 @@ class CompilationUnitResolver extends Compiler {
 			SubMonitor subMonitor = SubMonitor.convert(monitor, amountOfWork);
 			environment = new CancelableNameEnvironment(((JavaProject) javaProject), owner, subMonitor);
 			problemFactory = new CancelableProblemFactory(subMonitor);
-			CompilerOptions compilerOptions = getCompilerOptions(options, (flags & ICompilationUnit.ENABLE_STATEMENTS_RECOVERY) != 0);
-			compilerOptions.ignoreMethodBodies = (flags & ICompilationUnit.IGNORE_METHOD_BODIES) != 0;
-			CompilationUnitResolver resolver =
-				new CompilationUnitResolver(
-					environment,
-					getHandlingPolicy(),
-					compilerOptions,
-					getRequestor(),
-					problemFactory,
-					subMonitor,
-					javaProject != null);
-			resolver.resolve(compilationUnits, bindingKeys, requestor, apiLevel, options, owner, flags);
+			int window = Integer.getInteger(WINDOW_PROPERTY, 0).intValue();
+			if (window > 0 && window < compilationUnits.length) {
+				resolveInWindows(compilationUnits, window, environment, problemFactory, subMonitor, requestor, apiLevel, options, javaProject, owner, flags);
+				if (bindingKeys.length > 0)
+					newResolver(environment, problemFactory, subMonitor, options, javaProject, flags).resolve(new ICompilationUnit[0], bindingKeys, requestor, apiLevel, options, owner, flags);
+			} else {
+				newResolver(environment, problemFactory, subMonitor, options, javaProject, flags).resolve(compilationUnits, bindingKeys, requestor, apiLevel, options, owner, flags);
+			}
 			if (NameLookup.VERBOSE) {
 				environment.printTimeSpent();
 			}
@@ -745,6 +796,174 @@ class CompilationUnitResolver extends Compiler {
 			}
 		}
 	}
+	/*
+	 * Resolves the given units in the given number of groups, each on its own thread with its own environment.
+	 */
+	private static void resolveConcurrently(
+			ICompilationUnit[] compilationUnits,
+			ASTRequestor requestor,
+			int apiLevel,
+			Map options,
+			IJavaProject javaProject,
+			WorkingCopyOwner owner,
+			int flags,
+			int groups,
+			IProgressMonitor monitor) throws JavaModelException {
+
+		SubMonitor subMonitor = SubMonitor.convert(monitor, compilationUnits.length * 2);
+		IProgressMonitor groupMonitor = new GroupMonitor(subMonitor);
+		// units of the same package most likely depend on each other, keep them in the same group
+		ICompilationUnit[] units = compilationUnits.clone();
+		Arrays.sort(units, Comparator.comparing(unit -> unit.getParent().getElementName()));
+		int groupSize = (units.length + groups - 1) / groups;
+		List<CancelableNameEnvironment> environments = new ArrayList<>(groups);
+		for (int start = 0; start < units.length; start += groupSize) {
+			environments.add(new CancelableNameEnvironment((JavaProject) javaProject, owner, groupMonitor));
+		}
+		ExecutorService workers = Executors.newFixedThreadPool(groups, runnable -> {
+			Thread thread = new Thread(runnable, "Java AST Resolver"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> results = new ArrayList<>(groups);
+			for (int i = 0; i < environments.size(); i++) {
+				ICompilationUnit[] group = Arrays.copyOfRange(units, i * groupSize, Math.min((i + 1) * groupSize, units.length));
+				CancelableNameEnvironment environment = environments.get(i);
+				results.add(workers.submit(() -> {
+					JavaModelManager manager = JavaModelManager.getJavaModelManager();
+					manager.cacheZipFiles(environment);
+					try {
+						CancelableProblemFactory problemFactory = new CancelableProblemFactory(groupMonitor);
+						GroupRequestor groupRequestor = new GroupRequestor(requestor);
+						int window = Integer.getInteger(WINDOW_PROPERTY, 0).intValue();
+						if (window > 0 && window < group.length) {
+							resolveInWindows(group, window, environment, problemFactory, groupMonitor, groupRequestor, apiLevel, options, javaProject, owner, flags);
+						} else {
+							newResolver(environment, problemFactory, groupMonitor, options, javaProject, flags).resolve(group, new String[0], groupRequestor, apiLevel, options, owner, flags);
+						}
+					} finally {
+						manager.flushZipFiles(environment);
+					}
+					return null;
+				}));
+			}
+			for (int i = 0; i < results.size(); i++) {
+				try {
+					results.get(i).get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					if (cause instanceof Error)
+						throw (Error) cause;
+					throw new IllegalStateException(cause);
+				}
+				subMonitor.worked(Math.min(groupSize, units.length - i * groupSize) * 2);
+			}
+		} finally {
+			workers.shutdownNow();
+			for (CancelableNameEnvironment environment : environments) {
+				environment.setMonitor(null); // don't hold a reference to this external object
+			}
+		}
+	}
+
+	private static CompilationUnitResolver newResolver(
+			CancelableNameEnvironment environment,
+			CancelableProblemFactory problemFactory,
+			IProgressMonitor monitor,
+			Map options,
+			IJavaProject javaProject,
+			int flags) {
+		CompilerOptions compilerOptions = getCompilerOptions(options, (flags & ICompilationUnit.ENABLE_STATEMENTS_RECOVERY) != 0);
+		compilerOptions.ignoreMethodBodies = (flags & ICompilationUnit.IGNORE_METHOD_BODIES) != 0;
+		return new CompilationUnitResolver(
+			environment,
+			getHandlingPolicy(),
+			compilerOptions,
+			getRequestor(),
+			problemFactory,
+			monitor,
+			javaProject != null);
+	}
+
+	/*
+	 * Resolves the given units by windows of the given size, each window in its own lookup environment which is
+	 * released, with the declarations of its units, once the ASTs of the window have been accepted.
+	 */
+	private static void resolveInWindows(
+			ICompilationUnit[] compilationUnits,
+			int window,
+			CancelableNameEnvironment environment,
+			CancelableProblemFactory problemFactory,
+			IProgressMonitor monitor,
+			ASTRequestor requestor,
+			int apiLevel,
+			Map options,
+			IJavaProject javaProject,
+			WorkingCopyOwner owner,
+			int flags) {
+		// units of the same package most likely depend on each other, keep them in the same window
+		ICompilationUnit[] units = compilationUnits.clone();
+		Arrays.sort(units, Comparator.comparing(unit -> unit.getParent().getElementName()));
+		for (int start = 0; start < units.length; start += window) {
+			CompilationUnitResolver resolver = newResolver(environment, problemFactory, monitor, options, javaProject, flags);
+			resolver.releaseASTs = true;
+			resolver.resolve(Arrays.copyOfRange(units, start, Math.min(start + window, units.length)), new String[0], requestor, apiLevel, options, owner, flags);
+		}
+	}
+
+	/**
+	 * Monitor of the groups of units resolved concurrently, which only forwards cancellation.
+	 */
+	private static final class GroupMonitor extends NullProgressMonitor {
+		private final IProgressMonitor monitor;
+
+		GroupMonitor(IProgressMonitor monitor) {
+			this.monitor = monitor;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return this.monitor.isCanceled();
+		}
+	}
+
+	/**
+	 * Requestor of a group of units resolved concurrently, which serializes the calls to the given requestor.
+	 */
+	private static final class GroupRequestor extends ASTRequestor {
+		private final ASTRequestor requestor;
+
+		GroupRequestor(ASTRequestor requestor) {
+			this.requestor = requestor;
+		}
+
+		@Override
+		public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+			synchronized (this.requestor) {
+				// bindings created by the requestor come from the environment of this group
+				this.requestor.additionalBindingResolver = this.additionalBindingResolver;
+				try {
+					this.requestor.acceptAST(source, ast);
+				} finally {
+					this.requestor.additionalBindingResolver = null;
+				}
+			}
+		}
+
+		@Override
+		public void acceptBinding(String bindingKey, IBinding binding) {
+			synchronized (this.requestor) {
+				this.requestor.acceptBinding(bindingKey, binding);
+			}
+		}
+	}
+
 	public static void resolve(
 			String[] sourceUnits,
 			String[] encodings,
@@ -999,6 +1218,10 @@ class CompilationUnitResolver extends Compiler {
 						} catch (RuntimeException e) {
 							throw new RuntimeException("Error on " + source.getPath(), e); //$NON-NLS-1$
 						}
+						if (this.releaseASTs) {
+							// the AST may be kept by the requestor, don't let it hold onto the declaration and the environment
+							ast.setBindingResolver(new BindingResolver());
+						}
 						worked(1);
 
 						// remove at the end so that we don't resolve twice if a source and a key for the same file name have been requested
@@ -23,8 +23,14 @@ import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.jdt.core.ToolFactory;
@@ -75,6 +81,8 @@ public class CodeFormatterApplication implements IApplication {
 
 		public static String CommandLineErrorQuietVerbose;
 
+		public static String CommandLineErrorThreads;
+
 		public static String CommandLineErrorNoConfigFile;
 
 		public static String CommandLineFormatting;
@@ -164,6 +172,8 @@ public class CodeFormatterApplication implements IApplication {
 
 	private static final String ARG_QUIET = "-quiet"; //$NON-NLS-1$
 
+	private static final String ARG_THREADS = "-threads"; //$NON-NLS-1$
+
 	private static final String ARG_VERBOSE = "-verbose"; //$NON-NLS-1$
 
 	private String configName;
@@ -176,6 +186,8 @@ public class CodeFormatterApplication implements IApplication {
 
 	private boolean verbose = false;
 
+	private int threads = 1;
+
 	/**
 	 * Display the command line usage message.
 	 */
@@ -208,6 +220,67 @@ public class CodeFormatterApplication implements IApplication {
 		}
 	}
 
+	/**
+	 * Recursively collect the Java source files that are contained in the
+	 * directory rooted at dir.
+	 */
+	private void collectDirTree(File dir, List<File> javaFiles) {
+
+		File[] files = dir.listFiles();
+		if (files == null)
+			return;
+
+		for (File file : files) {
+			if (file.isDirectory()) {
+				collectDirTree(file, javaFiles);
+			} else if (Util.isJavaLikeFileName(file.getPath())) {
+				javaFiles.add(file);
+			}
+		}
+	}
+
+	/**
+	 * Format the given files and directories on several threads, each thread
+	 * formatting files with its own code formatter.
+	 */
+	private void formatConcurrently(File[] filesToFormat) throws InterruptedException {
+		List<File> javaFiles = new ArrayList<>();
+		for (final File file : filesToFormat) {
+			if (file.isDirectory()) {
+				collectDirTree(file, javaFiles);
+			} else if (Util.isJavaLikeFileName(file.getPath())) {
+				javaFiles.add(file);
+			}
+		}
+		ThreadLocal<CodeFormatter> codeFormatters = ThreadLocal.withInitial(() -> ToolFactory.createCodeFormatter(this.options,
+				ToolFactory.M_FORMAT_EXISTING));
+		ExecutorService workers = Executors.newFixedThreadPool(this.threads, runnable -> {
+			Thread thread = new Thread(runnable, "Java Code Formatter"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> results = new ArrayList<>(javaFiles.size());
+			for (final File file : javaFiles) {
+				results.add(workers.submit(() -> formatFile(file, codeFormatters.get())));
+			}
+			for (Future<?> result : results) {
+				try {
+					result.get();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					if (cause instanceof Error)
+						throw (Error) cause;
+					throw new IllegalStateException(cause);
+				}
+			}
+		} finally {
+			workers.shutdownNow();
+		}
+	}
+
 	/**
 	 * Format the given Java source file.
 	 */
@@ -254,6 +327,7 @@ public class CodeFormatterApplication implements IApplication {
 
 		final int DEFAULT_MODE = 0;
 		final int CONFIG_MODE = 1;
+		final int THREADS_MODE = 2;
 
 		int mode = DEFAULT_MODE;
 		final int INITIAL_SIZE = 1;
@@ -285,6 +359,10 @@ public class CodeFormatterApplication implements IApplication {
 						mode = CONFIG_MODE;
 						continue loop;
 					}
+					if (ARG_THREADS.equals(currentArg)) {
+						mode = THREADS_MODE;
+						continue loop;
+					}
 					// the current arg should be a file or a directory name
 					File file = new File(currentArg);
 					if (file.exists()) {
@@ -315,9 +393,25 @@ public class CodeFormatterApplication implements IApplication {
 					}
 					mode = DEFAULT_MODE;
 					continue loop;
+				case THREADS_MODE :
+					try {
+						this.threads = Integer.parseInt(currentArg);
+					} catch (NumberFormatException e) {
+						this.threads = 0;
+					}
+					if (this.threads < 1) {
+						displayHelp(Messages.bind(Messages.CommandLineErrorThreads, currentArg));
+						return null;
+					}
+					mode = DEFAULT_MODE;
+					continue loop;
 			}
 		}
 
+		if (mode == THREADS_MODE) {
+			displayHelp(Messages.bind(Messages.CommandLineErrorThreads, "")); //$NON-NLS-1$
+			return null;
+		}
 		if (mode == CONFIG_MODE || this.options == null) {
 			displayHelp(Messages.bind(Messages.CommandLineErrorNoConfigFile));
 			return null;
@@ -391,14 +485,18 @@ public class CodeFormatterApplication implements IApplication {
 			System.out.println(Messages.bind(Messages.CommandLineStart));
 		}
 
-		final CodeFormatter codeFormatter = ToolFactory.createCodeFormatter(this.options,
-				ToolFactory.M_FORMAT_EXISTING);
-		// format the list of files and/or directories
-		for (final File file : filesToFormat) {
-			if (file.isDirectory()) {
-				formatDirTree(file, codeFormatter);
-			} else if (Util.isJavaLikeFileName(file.getPath())) {
-				formatFile(file, codeFormatter);
+		if (this.threads > 1) {
+			formatConcurrently(filesToFormat);
+		} else {
+			final CodeFormatter codeFormatter = ToolFactory.createCodeFormatter(this.options,
+					ToolFactory.M_FORMAT_EXISTING);
+			// format the list of files and/or directories
+			for (final File file : filesToFormat) {
+				if (file.isDirectory()) {
+					formatDirTree(file, codeFormatter);
+				} else if (Util.isJavaLikeFileName(file.getPath())) {
+					formatFile(file, codeFormatter);
+				}
 			}
 		}
 		if (!this.quiet) {
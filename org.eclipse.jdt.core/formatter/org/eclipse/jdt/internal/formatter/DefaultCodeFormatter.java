@@ -32,7 +32,13 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IModuleDescription;
 import org.eclipse.jdt.core.JavaCore;
@@ -48,6 +54,9 @@ import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.formatter.CodeFormatter;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
+import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.FieldDeclaration;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
 import org.eclipse.jdt.internal.compiler.parser.Scanner;
@@ -55,6 +64,7 @@ import org.eclipse.jdt.internal.compiler.parser.TerminalToken;
 import org.eclipse.jdt.internal.compiler.util.Util;
 import org.eclipse.jdt.internal.core.JavaProject;
 import org.eclipse.jdt.internal.core.SourceModule;
+import org.eclipse.jdt.internal.core.util.CodeSnippetParsingUtil;
 import org.eclipse.jdt.internal.formatter.linewrap.CommentWrapExecutor;
 import org.eclipse.jdt.internal.formatter.linewrap.WrapPreparator;
 import org.eclipse.jface.text.IRegion;
@@ -69,6 +79,13 @@ public class DefaultCodeFormatter extends CodeFormatter {
 	 */
 	public static boolean DEBUG = false;
 
+	/**
+	 * System property enabling the formatting of the regions of a compilation unit which lie inside the bodies of its
+	 * top level classes by formatting only the members around the regions, instead of the whole unit (false by
+	 * default).
+	 */
+	public static final String LOCAL_REGIONS_PROPERTY = "jdt.core.formatter.localRegions"; //$NON-NLS-1$
+
 	private static final int K_COMMENTS_MASK = K_SINGLE_LINE_COMMENT
 		| K_MULTI_LINE_COMMENT
 		| K_JAVA_DOC;
@@ -105,6 +122,10 @@ public class DefaultCodeFormatter extends CodeFormatter {
 	private ASTNode astRoot;
 	private final List<Token> tokens = new ArrayList<>();
 	private TokenManager tokenManager;
+	// parser options of the formatters of a batch, copied by each parser
+	private Map<String, String> parserOptions;
+	// whether the regions of the last compilation unit were formatted by formatMembers
+	private boolean formattedLocally;
 
 	public DefaultCodeFormatter() {
 		this(new DefaultCodeFormatterOptions(DefaultCodeFormatterConstants.getJavaConventionsSettings()), null);
@@ -122,6 +143,17 @@ public class DefaultCodeFormatter extends CodeFormatter {
 		initOptions(defaultCodeFormatterOptions, options);
 	}
 
+	/*
+	 * Creates a formatter for another thread, which shares the options of the given formatter.
+	 */
+	private DefaultCodeFormatter(DefaultCodeFormatter formatter) {
+		this.originalOptions = formatter.originalOptions; // never modified once initialized
+		this.workingOptions = new DefaultCodeFormatterOptions(formatter.originalOptions.getMap());
+		this.oldCommentFormatOption = formatter.oldCommentFormatOption;
+		this.sourceLevel = formatter.sourceLevel;
+		this.previewEnabled = formatter.previewEnabled;
+	}
+
 	private void initOptions(DefaultCodeFormatterOptions defaultCodeFormatterOptions, Map<String, String> options) {
 		if (options != null) {
 			this.originalOptions = new DefaultCodeFormatterOptions(options);
@@ -175,6 +207,14 @@ public class DefaultCodeFormatter extends CodeFormatter {
 	@Override
 	public TextEdit format(int kind, String source, IRegion[] regions, int indentationLevel, String lineSeparator) {
 		assertRegionPreconditions(regions, source.length());
+		this.formattedLocally = false;
+		if ((kind & K_MASK) == K_COMPILATION_UNIT && indentationLevel == 0 && Boolean.getBoolean(LOCAL_REGIONS_PROPERTY)) {
+			TextEdit edit = formatMembers(kind, source, regions, lineSeparator);
+			if (edit != null) {
+				this.formattedLocally = true;
+				return edit;
+			}
+		}
 		this.formatRegions = Arrays.asList(regions);
 
 		updateWorkingOptions(indentationLevel, lineSeparator, kind);
@@ -195,6 +235,190 @@ public class DefaultCodeFormatter extends CodeFormatter {
 		return result;
 	}
 
+	/**
+	 * Answers whether the regions of the last compilation unit formatted by this formatter were formatted by formatting
+	 * only the members around them (see {@link #LOCAL_REGIONS_PROPERTY}). Used by tests.
+	 */
+	public boolean hasFormattedLocally() {
+		return this.formattedLocally;
+	}
+
+	/*
+	 * Formats the given regions of a compilation unit by formatting only the members of its top level classes around
+	 * each region: from the last member ending before the region to the first member starting after it, so that the
+	 * line breaks and blank lines between the members are the same as when formatting the whole unit.
+	 * The members are found by a diet parse of the unit, which neither parses the method bodies nor creates DOM nodes.
+	 * Answers null when a region is not between two members of a top level class, or when formatting the members would
+	 * not be cheaper than formatting the whole unit.
+	 */
+	private TextEdit formatMembers(int kind, String source, IRegion[] regions, String lineSeparator) {
+		if (this.originalOptions.align_type_members_on_columns)
+			return null; // depends on all the fields of a class
+		if (this.originalOptions.use_tags && this.originalOptions.disabling_tag != null
+				&& source.indexOf(new String(this.originalOptions.disabling_tag)) >= 0)
+			return null;
+		CompilationUnitDeclaration unit = new CodeSnippetParsingUtil(true).parseCompilationUnit(source.toCharArray(),
+				this.parserOptions != null ? this.parserOptions : getParserOptions(), false);
+		if (unit.compilationResult.hasErrors() || unit.types == null)
+			return null;
+
+		// the ranges of the members to format and the regions in each range
+		List<int[]> ranges = new ArrayList<>();
+		List<List<IRegion>> rangeRegions = new ArrayList<>();
+		int formattedLength = 0;
+		for (IRegion region : regions) {
+			int regionStart = region.getOffset();
+			int regionEnd = regionStart + region.getLength();
+			List<int[]> members = null;
+			for (org.eclipse.jdt.internal.compiler.ast.TypeDeclaration type : unit.types) {
+				int typeKind = org.eclipse.jdt.internal.compiler.ast.TypeDeclaration.kind(type.modifiers);
+				if ((typeKind == org.eclipse.jdt.internal.compiler.ast.TypeDeclaration.CLASS_DECL
+						|| typeKind == org.eclipse.jdt.internal.compiler.ast.TypeDeclaration.INTERFACE_DECL)
+						&& type.declarationSourceStart <= regionStart && regionEnd <= type.declarationSourceEnd + 1) {
+					members = memberRanges(type);
+					break;
+				}
+			}
+			if (members == null)
+				return null;
+			int before = -1;
+			while (before + 1 < members.size() && members.get(before + 1)[1] <= regionStart)
+				before++;
+			int after = before + 1;
+			while (after < members.size() && members.get(after)[0] < regionEnd)
+				after++;
+			if (before < 0 || after == members.size())
+				return null;
+			int start = members.get(before)[0];
+			int end = members.get(after)[1];
+			int[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+			if (last != null && start < last[1]) {
+				formattedLength += Math.max(end, last[1]) - last[1];
+				last[1] = Math.max(end, last[1]);
+			} else {
+				formattedLength += end - start;
+				ranges.add(new int[] { start, end });
+				rangeRegions.add(new ArrayList<>());
+			}
+			rangeRegions.get(ranges.size() - 1).add(region);
+		}
+		if (formattedLength * 2 > source.length())
+			return null;
+
+		int indentationLevel = this.originalOptions.indent_body_declarations_compare_to_type_header ? 1 : 0;
+		MultiTextEdit result = new MultiTextEdit();
+		for (int i = 0; i < ranges.size(); i++) {
+			int start = ranges.get(i)[0];
+			List<IRegion> membersRegions = rangeRegions.get(i);
+			IRegion[] localRegions = new IRegion[membersRegions.size()];
+			for (int j = 0; j < localRegions.length; j++) {
+				IRegion region = membersRegions.get(j);
+				localRegions[j] = new Region(region.getOffset() - start, region.getLength());
+			}
+			TextEdit edit = format(K_CLASS_BODY_DECLARATIONS | (kind & F_INCLUDE_COMMENTS),
+					source.substring(start, ranges.get(i)[1]), localRegions, indentationLevel, lineSeparator);
+			if (edit == null)
+				return null;
+			edit.moveTree(start);
+			for (TextEdit child : edit.removeChildren()) {
+				result.addChild(child);
+			}
+		}
+		return result;
+	}
+
+	/*
+	 * Answers the start and end of the members of the given type in source order, the fields of a declaration with
+	 * several fragments (e.g. int a, b;) form one member.
+	 */
+	private static List<int[]> memberRanges(org.eclipse.jdt.internal.compiler.ast.TypeDeclaration type) {
+		List<int[]> ranges = new ArrayList<>();
+		if (type.fields != null) {
+			for (FieldDeclaration field : type.fields)
+				ranges.add(new int[] { field.declarationSourceStart, field.declarationSourceEnd + 1 });
+		}
+		if (type.methods != null) {
+			for (AbstractMethodDeclaration method : type.methods) {
+				if (!method.isDefaultConstructor() && !method.isClinit())
+					ranges.add(new int[] { method.declarationSourceStart, method.declarationSourceEnd + 1 });
+			}
+		}
+		if (type.memberTypes != null) {
+			for (org.eclipse.jdt.internal.compiler.ast.TypeDeclaration memberType : type.memberTypes)
+				ranges.add(new int[] { memberType.declarationSourceStart, memberType.declarationSourceEnd + 1 });
+		}
+		ranges.sort((range1, range2) -> range1[0] - range2[0]);
+		List<int[]> members = new ArrayList<>(ranges.size());
+		for (int[] range : ranges) {
+			int[] last = members.isEmpty() ? null : members.get(members.size() - 1);
+			if (last != null && range[0] < last[1])
+				last[1] = Math.max(last[1], range[1]);
+			else
+				members.add(range);
+		}
+		return members;
+	}
+
+	/**
+	 * Formats the given sources as a whole on the given number of threads. Each thread formats sources with its own
+	 * formatter, reused from one source to the next, and all the threads share the options of this formatter, which
+	 * must not be changed until this method returns.
+	 *
+	 * @param kinds the kind of each source, see {@link #format(int, String, int, int, int, String)}
+	 * @param sources the sources to format
+	 * @param lineSeparator the line separator to use in the formatted sources, or null to use the one of the options
+	 * @param threads the number of threads formatting the sources
+	 * @return the edit of each source, or null if the source could not be formatted
+	 */
+	public TextEdit[] format(int[] kinds, String[] sources, String lineSeparator, int threads) {
+		if (kinds.length != sources.length)
+			throw new IllegalArgumentException();
+		TextEdit[] edits = new TextEdit[sources.length];
+		AtomicInteger next = new AtomicInteger();
+		Map<String, String> options = getParserOptions();
+		Runnable formatSources = () -> {
+			DefaultCodeFormatter formatter = new DefaultCodeFormatter(this);
+			formatter.parserOptions = options;
+			for (int i = next.getAndIncrement(); i < sources.length; i = next.getAndIncrement()) {
+				edits[i] = formatter.format(kinds[i], sources[i], 0, sources[i].length(), 0, lineSeparator);
+			}
+		};
+		threads = Math.min(threads, sources.length);
+		if (threads <= 1) {
+			formatSources.run();
+			return edits;
+		}
+		ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "Java Code Formatter"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> results = new ArrayList<>(threads);
+			for (int i = 0; i < threads; i++) {
+				results.add(workers.submit(formatSources));
+			}
+			for (Future<?> result : results) {
+				try {
+					result.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					if (cause instanceof Error)
+						throw (Error) cause;
+					throw new IllegalStateException(cause);
+				}
+			}
+		} finally {
+			workers.shutdownNow();
+		}
+		return edits;
+	}
+
 	private boolean init(String source, int kind) {
 
 		// this is convenient for debugging (see Token.toString())
@@ -344,15 +568,19 @@ public class DefaultCodeFormatter extends CodeFormatter {
 		}
 		parser.setKind(FORMAT_TO_PARSER_KIND.get(kind));
 
-		Map<String, String> parserOptions = JavaCore.getOptions();
-		parserOptions.put(CompilerOptions.OPTION_Source, this.sourceLevel);
-		parserOptions.put(CompilerOptions.OPTION_DocCommentSupport, CompilerOptions.ENABLED);
-		parserOptions.put(CompilerOptions.OPTION_EnablePreviews, CompilerOptions.ENABLED); //TODO
-		parserOptions.put(CompilerOptions.OPTION_ReportPreviewFeatures, CompilerOptions.IGNORE);
-		parser.setCompilerOptions(parserOptions);
+		parser.setCompilerOptions(this.parserOptions != null ? this.parserOptions : getParserOptions());
 		return parser;
 	}
 
+	private Map<String, String> getParserOptions() {
+		Map<String, String> options = JavaCore.getOptions();
+		options.put(CompilerOptions.OPTION_Source, this.sourceLevel);
+		options.put(CompilerOptions.OPTION_DocCommentSupport, CompilerOptions.ENABLED);
+		options.put(CompilerOptions.OPTION_EnablePreviews, CompilerOptions.ENABLED); //TODO
+		options.put(CompilerOptions.OPTION_ReportPreviewFeatures, CompilerOptions.IGNORE);
+		return options;
+	}
+
 	private ICompilationUnit createDummyModuleInfoCompilationUnit() {
 		JavaProject dummyProject = new JavaProject(null, null) {
 			@Override
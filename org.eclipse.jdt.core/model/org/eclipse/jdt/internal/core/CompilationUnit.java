@@ -50,6 +50,7 @@ import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
 import org.eclipse.jdt.internal.compiler.env.IElementInfo;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.parser.MethodBodyCheckpoints;
 import org.eclipse.jdt.internal.compiler.problem.AbortCompilationUnit;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblem;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
@@ -71,6 +72,11 @@ import org.eclipse.text.edits.UndoEdit;
 public class CompilationUnit extends Openable implements ICompilationUnit, org.eclipse.jdt.internal.compiler.env.ICompilationUnit, SuffixConstants {
 	public static boolean DOM_BASED_OPERATIONS = Boolean.getBoolean(CompilationUnit.class.getSimpleName() + ".DOM_BASED_OPERATIONS"); //$NON-NLS-1$
 	private static final IImportDeclaration[] NO_IMPORTS = new IImportDeclaration[0];
+	/**
+	 * When set to <code>true</code>, the diet parse of a working copy does not scan again the method bodies which were
+	 * not edited since its previous parse (see {@link MethodBodyCheckpoints}).
+	 */
+	static final String METHOD_BODY_CHECKPOINTS_PROPERTY = "jdt.core.parser.methodBodyCheckpoints"; //$NON-NLS-1$
 
 	protected final String name;
 	public final WorkingCopyOwner owner;
@@ -251,6 +257,11 @@ protected boolean buildStructure(OpenableElementInfo info, final IProgressMonito
 		if (!computeProblems && !resolveBindings && !createAST) // disable javadoc parsing if not computing problems, not resolving and not creating ast
 			parser.javadocParser.checkDocComment = false;
 		requestor.parser = parser;
+		MethodBodyCheckpoints checkpoints = null;
+		if (perWorkingCopyInfo != null && Boolean.getBoolean(METHOD_BODY_CHECKPOINTS_PROPERTY)) {
+			checkpoints = new MethodBodyCheckpoints(perWorkingCopyInfo.methodBodyCheckpoints);
+			parser.scanner.methodBodyCheckpoints = checkpoints;
+		}
 
 		// compute other problems if needed
 		CompilationUnitDeclaration compilationUnitDeclaration = null;
@@ -278,6 +289,8 @@ protected boolean buildStructure(OpenableElementInfo info, final IProgressMonito
 			} else {
 				compilationUnitDeclaration = parser.parseCompilationUnit(source, true /*full parse to find local elements*/, pm);
 			}
+			if (checkpoints != null)
+				perWorkingCopyInfo.methodBodyCheckpoints = checkpoints;
 
 			if (createAST) {
 				int astLevel = ((ASTHolderCUInfo) info).astLevel;
@@ -272,10 +272,12 @@ public class CompilationUnitProblemFinder extends Compiler {
 		CompilationUnitProblemFinder problemFinder = null;
 		CompilationUnitDeclaration unit = null;
 		try {
+			long stamp = IncrementalReconcileState.isEnabled() ? IncrementalReconcileState.nextStamp() : 0;
 			int release = getRelease(project, unitElement);
 			environment = new CancelableNameEnvironment(project, workingCopyOwner, monitor, !isTestSource(unitElement.getJavaProject(), unitElement), release);
 			problemFactory = new CancelableProblemFactory(monitor);
-			CompilerOptions compilerOptions = getCompilerOptions(project.getOptions(true), creatingAST, ((reconcileFlags & ICompilationUnit.ENABLE_STATEMENTS_RECOVERY) != 0));
+			Map<String, String> options = project.getOptions(true);
+			CompilerOptions compilerOptions = getCompilerOptions(options, creatingAST, ((reconcileFlags & ICompilationUnit.ENABLE_STATEMENTS_RECOVERY) != 0));
 			boolean ignoreMethodBodies = (reconcileFlags & ICompilationUnit.IGNORE_METHOD_BODIES) != 0;
 			compilerOptions.ignoreMethodBodies = ignoreMethodBodies;
 			if (release >= JavaProject.FIRST_MULTI_RELEASE) {
@@ -298,12 +300,17 @@ public class CompilationUnitProblemFinder extends Compiler {
 				if (parser != null) {
 					problemFinder.parser = parser;
 					unit = parser.parseCompilationUnit(unitElement, true/*full parse*/, monitor);
-					problemFinder.resolve(
-						unit,
-						unitElement,
-						true, // verify methods
-						analyzeAndGenerateCode, // analyze code
-						analyzeAndGenerateCode); // generate code
+					JavaModelManager.PerWorkingCopyInfo perWorkingCopyInfo;
+					if (stamp != 0 && analyzeAndGenerateCode && !creatingAST && (perWorkingCopyInfo = unitElement.getPerWorkingCopyInfo()) != null) {
+						problemFinder.resolveIncrementally(unit, parser.scanner.source, perWorkingCopyInfo, stamp, options, reconcileFlags);
+					} else {
+						problemFinder.resolve(
+							unit,
+							unitElement,
+							true, // verify methods
+							analyzeAndGenerateCode, // analyze code
+							analyzeAndGenerateCode); // generate code
+					}
 				} else {
 					unit =
 						problemFinder.resolve(
@@ -363,6 +370,52 @@ public class CompilationUnitProblemFinder extends Compiler {
 		return unit;
 	}
 
+	/*
+	 * Same as resolve(unit, sourceUnit, true, true, true), except that the flow analysis of the method bodies which did
+	 * not change since the previous reconcile of the working copy is skipped, their problems are reused instead.
+	 */
+	private void resolveIncrementally(
+			CompilationUnitDeclaration unit,
+			char[] contents,
+			JavaModelManager.PerWorkingCopyInfo perWorkingCopyInfo,
+			long stamp,
+			Map<String, String> options,
+			int reconcileFlags) {
+
+		IncrementalReconcileState previous = perWorkingCopyInfo.reconcileState;
+		perWorkingCopyInfo.reconcileState = null;
+		IncrementalReconcileState state = null;
+		try {
+			// initial type binding creation
+			this.lookupEnvironment.buildTypeBindings(unit, null /*no access restriction*/);
+			// binding resolution
+			this.lookupEnvironment.completeTypeBindings();
+			this.lookupEnvironment.unitBeingCompleted = unit;
+			this.parser.getMethodBodies(unit);
+			if (unit.scope != null) {
+				// fault in fields & methods
+				unit.scope.faultInTypes();
+				if (unit.scope != null) {
+					// verify inherited methods
+					unit.scope.verifyMethods(this.lookupEnvironment.methodVerifier());
+				}
+				// type checking
+				unit.resolve();
+				// flow analysis and code generation
+				state = IncrementalReconcileState.analyseCode(unit, previous, contents, stamp, options, reconcileFlags);
+				// finalize problems (suppressWarnings)
+				unit.finalizeProblems();
+			}
+			this.requestor.acceptResult(unit.compilationResult.tagAsAccepted());
+			perWorkingCopyInfo.reconcileState = state;
+		} catch (AbortCompilation e) {
+			this.handleInternalException(e, unit);
+		} catch (Error | RuntimeException e) {
+			this.handleInternalException(e, unit, null);
+			throw e; // rethrow
+		}
+	}
+
 	public static CompilationUnitDeclaration process(
 			CompilationUnit unitElement,
 			WorkingCopyOwner workingCopyOwner,
@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -275,6 +276,12 @@ public class DeltaProcessor {
 	/* A set of IJavaProject whose caches need to be reset */
 	public Set<IJavaElement> projectCachesToReset = new HashSet<>();
 
+	/*
+	 * Set of package fragment roots whose package fragments were added or removed (or whose archive changed):
+	 * the caches of the projects which are not reset are updated
+	 */
+	public Set<IPackageFragmentRoot> rootsWithChangedPackages = new LinkedHashSet<>();
+
 	/* A table from IJavaProject to an array of IPackageFragmentRoot.
 	 * This table contains the pkg fragment roots of the project that are being deleted.
 	 */
@@ -711,9 +718,9 @@ public class DeltaProcessor {
 			int flags = IJavaElementDelta.F_CONTENT;
 			if (element instanceof JarPackageFragmentRoot){
 				flags |= IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED;
-				// need also to reset project cache otherwise it will be out-of-date
+				// need also to update project caches otherwise they will be out-of-date
 				// see bug https://bugs.eclipse.org/bugs/show_bug.cgi?id=162621
-				this.projectCachesToReset.add(element.getJavaProject());
+				this.rootsWithChangedPackages.add((IPackageFragmentRoot) element);
 			}
 			if (isPrimary) {
 				flags |= IJavaElementDelta.F_PRIMARY_RESOURCE;
@@ -1285,9 +1292,8 @@ public class DeltaProcessor {
 
 					break;
 				case IJavaElement.PACKAGE_FRAGMENT :
-					// reset project's package fragment cache
-					project = element.getJavaProject();
-					this.projectCachesToReset.add(project);
+					// update package fragment caches
+					this.rootsWithChangedPackages.add((IPackageFragmentRoot) element.getParent());
 
 					break;
 
@@ -1388,9 +1394,8 @@ public class DeltaProcessor {
 
 				break;
 			case IJavaElement.PACKAGE_FRAGMENT :
-				// reset package fragment cache
-				project = element.getJavaProject();
-				this.projectCachesToReset.add(project);
+				// update package fragment caches
+				this.rootsWithChangedPackages.add((IPackageFragmentRoot) element.getParent());
 
 				break;
 
@@ -1564,6 +1569,9 @@ public class DeltaProcessor {
 			trace(deltaToNotify == null ? "<NONE>" : deltaToNotify.toString()); //$NON-NLS-1$
 		}
 		if (deltaToNotify != null) {
+			// the working copies have to be fully reconciled again
+			IncrementalReconcileState.environmentChanged();
+
 			// flush now so as to keep listener reactions to post their own deltas for subsequent iteration
 			flush();
 
@@ -1997,7 +2005,7 @@ public class DeltaProcessor {
 	 * caches and their dependents
 	 */
 	public void resetProjectCaches() {
-		if (this.projectCachesToReset.isEmpty())
+		if (this.projectCachesToReset.isEmpty() && this.rootsWithChangedPackages.isEmpty())
 			return;
 
 		JavaModelManager.getJavaModelManager().resetJarTypeCache();
@@ -2017,6 +2025,23 @@ public class DeltaProcessor {
 			project.resetCaches();
 		}
 
+		// update the caches of the other projects referencing roots whose packages changed
+		if (!this.rootsWithChangedPackages.isEmpty()) {
+			List<JavaProject> projectsToUpdate = new ArrayList<>();
+			try {
+				for (IJavaProject project : this.manager.getJavaModel().getJavaProjects()) {
+					if (!this.projectCachesToReset.contains(project) && !affectedDependents.contains(project))
+						projectsToUpdate.add((JavaProject) project);
+				}
+			} catch (JavaModelException e) {
+				// java model could not be opened: no cache to update
+			}
+			for (IPackageFragmentRoot root : this.rootsWithChangedPackages) {
+				JavaProjectElementInfo.updatePackageFragments(root, projectsToUpdate);
+			}
+			this.rootsWithChangedPackages.clear();
+		}
+
 		this.projectCachesToReset.clear();
 	}
 	/*
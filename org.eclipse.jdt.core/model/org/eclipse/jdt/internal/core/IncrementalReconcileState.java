@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.ast.ASTNode;
+import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.FieldDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.Initializer;
+import org.eclipse.jdt.internal.compiler.ast.TypeDeclaration;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.lookup.ExtraCompilerModifiers;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblem;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * The problems found by the flow analysis of each method body of a working copy, kept between two reconciles so that
+ * the next reconcile only analyses the body which was edited.
+ * <p>
+ * The incremental reconcile is enabled by setting the system property {@value #PROPERTY} to <code>true</code>. The
+ * working copy is still parsed and resolved as a whole, so that the bindings and the problems which depend on the
+ * usage of the declarations (unused private members, unused imports...) stay exact. When the source only changed
+ * inside one method or initializer body, and the Java model did not change since the previous reconcile, the flow
+ * analysis of the other method bodies is skipped and their problems are reused, shifted by the length of the edit.
+ * Any other change, a syntax error or a <code>@SuppressWarnings</code> annotation in the unit causes a full reconcile.
+ * <p>
+ * The code generation is skipped as well by an incremental reconcile: the few problems it finds, such as a method
+ * exceeding the size limit of the class file format, are only reported by the next full reconcile.
+ */
+final class IncrementalReconcileState {
+	static final String PROPERTY = "jdt.core.reconcile.incremental"; //$NON-NLS-1$
+
+	// incremented each time the Java model changes and each time a working copy is reconciled
+	private static final AtomicLong MODIFICATIONS = new AtomicLong();
+
+	private static final char[] SUPPRESS_WARNINGS = "SuppressWarnings".toCharArray(); //$NON-NLS-1$
+
+	private static final int METHOD = 0;
+	private static final int CONSTRUCTOR = 1;
+	private static final int INITIALIZER = 2;
+
+	private final char[] contents;
+	private final long stamp;
+	private final Map<String, String> options;
+	private final int reconcileFlags;
+	private final Body[] bodies;
+
+	private IncrementalReconcileState(char[] contents, long stamp, Map<String, String> options, int reconcileFlags, Body[] bodies) {
+		this.contents = contents;
+		this.stamp = stamp;
+		this.options = options;
+		this.reconcileFlags = reconcileFlags;
+		this.bodies = bodies;
+	}
+
+	static boolean isEnabled() {
+		return Boolean.getBoolean(PROPERTY);
+	}
+
+	/**
+	 * Invalidates the states of all the working copies, called when the Java model changed.
+	 */
+	static void environmentChanged() {
+		MODIFICATIONS.incrementAndGet();
+	}
+
+	/**
+	 * Answers the stamp of a reconcile which is starting. The state of a working copy can only be used by its next
+	 * reconcile if nothing else was reconciled or changed in between.
+	 */
+	static long nextStamp() {
+		return MODIFICATIONS.incrementAndGet();
+	}
+
+	/**
+	 * Analyses the code of a resolved unit, skipping the bodies which did not change since the previous state. Answers
+	 * the state to use for the next reconcile, or null if the next reconcile must be a full one.
+	 */
+	static IncrementalReconcileState analyseCode(CompilationUnitDeclaration unit, IncrementalReconcileState previous,
+			char[] contents, long stamp, Map<String, String> options, int reconcileFlags) {
+		CompilationResult result = unit.compilationResult;
+		List<ASTNode> nodes = new ArrayList<>();
+		boolean reusable = !result.hasSyntaxError && !unit.ignoreFurtherInvestigation && !hasSuppressWarnings(contents)
+				&& collectBodies(unit.types, nodes);
+		Body[] bodies = new Body[nodes.size()];
+		for (int i = 0; i < bodies.length; i++)
+			bodies[i] = new Body(nodes.get(i));
+		int[] edit = reusable && previous != null ? previous.findEdit(contents, stamp, options, reconcileFlags) : null;
+		boolean[] skipped = edit == null ? null : previous.skippedBodies(bodies, edit);
+		if (skipped != null) {
+			for (int i = 0; i < skipped.length; i++) {
+				if (skipped[i])
+					((AbstractMethodDeclaration) nodes.get(i)).ignoreFurtherInvestigation = true;
+			}
+		}
+		int resolved = result.problemCount;
+		unit.analyseCode();
+		if (skipped != null)
+			previous.reuseProblems(result, resolved, skipped, edit);
+		int analysed = result.problemCount;
+		if (skipped == null) {
+			unit.generateCode();
+			if (result.problemCount != analysed)
+				return null; // the problems of the code generation cannot be reused
+		}
+		if (!reusable)
+			return null;
+		CategorizedProblem[] problems = result.problems;
+		for (int i = resolved; i < analysed; i++) {
+			if (problems[i].getClass() != DefaultProblem.class)
+				return null;
+		}
+		for (Body body : bodies)
+			body.collectProblems(problems, resolved, analysed);
+		return new IncrementalReconcileState(contents, stamp, options, reconcileFlags, bodies);
+	}
+
+	private static boolean hasSuppressWarnings(char[] contents) {
+		// suppressed warnings are filtered once all the problems are known, and unused tokens reported
+		return CharOperation.indexOf(SUPPRESS_WARNINGS, contents, true) != -1;
+	}
+
+	/*
+	 * Collects the method and initializer bodies of the given types and their member types, answers false if one of
+	 * the types has errors which prevent its analysis.
+	 */
+	private static boolean collectBodies(TypeDeclaration[] types, List<ASTNode> nodes) {
+		if (types == null)
+			return true;
+		for (TypeDeclaration type : types) {
+			if (type.ignoreFurtherInvestigation)
+				return false;
+			if (type.fields != null) {
+				for (FieldDeclaration field : type.fields) {
+					if (field instanceof Initializer)
+						nodes.add(field);
+				}
+			}
+			if (type.methods != null) {
+				for (AbstractMethodDeclaration method : type.methods) {
+					if (!method.isClinit()
+							&& (method.bits & ASTNode.IsDefaultConstructor) == 0
+							&& (method.modifiers & (ClassFileConstants.AccAbstract | ClassFileConstants.AccNative | ExtraCompilerModifiers.AccSemicolonBody)) == 0
+							&& method.declarationSourceStart < method.bodyStart)
+						nodes.add(method);
+				}
+			}
+			if (!collectBodies(type.memberTypes, nodes))
+				return false;
+		}
+		return true;
+	}
+
+	/*
+	 * Answers the start of the edit and its ends in the previous and the new contents, or null if this state cannot
+	 * be used by the given reconcile.
+	 */
+	private int[] findEdit(char[] newContents, long newStamp, Map<String, String> newOptions, int newReconcileFlags) {
+		if (this.stamp != newStamp - 1 || this.reconcileFlags != newReconcileFlags || !this.options.equals(newOptions))
+			return null;
+		char[] oldContents = this.contents;
+		int start = 0;
+		int oldEnd = oldContents.length;
+		int newEnd = newContents.length;
+		while (start < oldEnd && start < newEnd && oldContents[start] == newContents[start])
+			start++;
+		while (oldEnd > start && newEnd > start && oldContents[oldEnd - 1] == newContents[newEnd - 1]) {
+			oldEnd--;
+			newEnd--;
+		}
+		return new int[] { start, oldEnd, newEnd };
+	}
+
+	/*
+	 * Answers which of the given bodies can skip their flow analysis, or null if the structure of the unit changed.
+	 */
+	private boolean[] skippedBodies(Body[] newBodies, int[] edit) {
+		if (this.bodies.length != newBodies.length)
+			return null;
+		int start = edit[0];
+		int oldEnd = edit[1];
+		int newEnd = edit[2];
+		int delta = newEnd - oldEnd;
+		int changed = -1;
+		for (int i = 0; i < newBodies.length; i++) {
+			Body oldBody = this.bodies[i];
+			Body newBody = newBodies[i];
+			if (oldBody.kind != newBody.kind)
+				return null;
+			if (oldBody.declarationSourceEnd < start) {
+				if (!newBody.isShifted(oldBody, 0))
+					return null;
+			} else if (oldBody.declarationSourceStart >= oldEnd) {
+				if (!newBody.isShifted(oldBody, delta))
+					return null;
+			} else if (changed == -1
+					&& oldBody.bodyStart <= start && oldEnd <= oldBody.bodyEnd + 1
+					&& newBody.bodyStart <= start && newEnd <= newBody.bodyEnd + 1
+					&& newBody.declarationSourceStart == oldBody.declarationSourceStart
+					&& newBody.bodyStart == oldBody.bodyStart
+					&& newBody.bodyEnd == oldBody.bodyEnd + delta
+					&& newBody.declarationSourceEnd == oldBody.declarationSourceEnd + delta) {
+				changed = i;
+			} else {
+				return null;
+			}
+		}
+		if (changed == -1 && (start != oldEnd || start != newEnd))
+			return null; // the edit is outside of the bodies
+		// an initializer can assign the blank final fields checked by the constructors
+		boolean skipConstructors = changed == -1 || newBodies[changed].kind != INITIALIZER;
+		boolean[] skipped = new boolean[newBodies.length];
+		for (int i = 0; i < newBodies.length; i++) {
+			Body oldBody = this.bodies[i];
+			Body newBody = newBodies[i];
+			if (i == changed || newBody.kind == INITIALIZER || (newBody.kind == CONSTRUCTOR && !skipConstructors))
+				continue;
+			// the usage of a method and its errors decide which of its problems are reported
+			if (oldBody.used != newBody.used || oldBody.ignored != newBody.ignored)
+				return null;
+			skipped[i] = true;
+		}
+		return skipped;
+	}
+
+	/*
+	 * Records the problems of the skipped bodies, moved to their new positions.
+	 */
+	private void reuseProblems(CompilationResult result, int resolved, boolean[] skipped, int[] edit) {
+		int start = edit[0];
+		int delta = edit[2] - edit[1];
+		int analysed = result.problemCount;
+		int[] lineEnds = result.getLineSeparatorPositions();
+		for (int i = 0; i < skipped.length; i++) {
+			if (!skipped[i])
+				continue;
+			Body body = this.bodies[i];
+			int shift = body.declarationSourceEnd < start ? 0 : delta;
+			for (CategorizedProblem problem : body.problems) {
+				if (shift != 0)
+					problem = shift((DefaultProblem) problem, shift, lineEnds);
+				if (!contains(result.problems, resolved, analysed, problem))
+					result.record(problem, null);
+			}
+		}
+	}
+
+	private static CategorizedProblem shift(DefaultProblem problem, int delta, int[] lineEnds) {
+		int start = problem.getSourceStart() + delta;
+		int line = Util.getLineNumber(start, lineEnds, 0, lineEnds == null ? -1 : lineEnds.length - 1);
+		return new DefaultProblem(
+				problem.getOriginatingFileName(),
+				problem.getMessage(),
+				problem.getID(),
+				problem.getArguments(),
+				problem.severity,
+				start,
+				problem.getSourceEnd() + delta,
+				line,
+				Util.searchColumnNumber(lineEnds, line, start));
+	}
+
+	private static boolean contains(CategorizedProblem[] problems, int from, int to, CategorizedProblem problem) {
+		for (int i = from; i < to; i++) {
+			CategorizedProblem existing = problems[i];
+			if (existing.getID() == problem.getID()
+					&& existing.getSourceStart() == problem.getSourceStart()
+					&& existing.getSourceEnd() == problem.getSourceEnd()
+					&& existing.getMessage().equals(problem.getMessage()))
+				return true;
+		}
+		return false;
+	}
+
+	private static final class Body {
+		final int kind;
+		final int declarationSourceStart;
+		final int declarationSourceEnd;
+		final int bodyStart;
+		final int bodyEnd;
+		final boolean used;
+		final boolean ignored;
+		CategorizedProblem[] problems;
+
+		Body(ASTNode node) {
+			if (node instanceof Initializer initializer) {
+				this.kind = INITIALIZER;
+				this.declarationSourceStart = initializer.declarationSourceStart;
+				this.declarationSourceEnd = initializer.declarationSourceEnd;
+				this.bodyStart = initializer.bodyStart;
+				this.bodyEnd = initializer.bodyEnd;
+				this.used = false;
+				this.ignored = false;
+			} else {
+				AbstractMethodDeclaration method = (AbstractMethodDeclaration) node;
+				this.kind = method.isConstructor() ? CONSTRUCTOR : METHOD;
+				this.declarationSourceStart = method.declarationSourceStart;
+				this.declarationSourceEnd = method.declarationSourceEnd;
+				this.bodyStart = method.bodyStart;
+				this.bodyEnd = method.bodyEnd;
+				this.used = method.binding != null && method.binding.isUsed();
+				this.ignored = method.ignoreFurtherInvestigation;
+			}
+		}
+
+		boolean isShifted(Body body, int delta) {
+			return this.declarationSourceStart == body.declarationSourceStart + delta
+					&& this.declarationSourceEnd == body.declarationSourceEnd + delta
+					&& this.bodyStart == body.bodyStart + delta
+					&& this.bodyEnd == body.bodyEnd + delta;
+		}
+
+		void collectProblems(CategorizedProblem[] unitProblems, int from, int to) {
+			List<CategorizedProblem> bodyProblems = new ArrayList<>();
+			for (int i = from; i < to; i++) {
+				CategorizedProblem problem = unitProblems[i];
+				int start = problem.getSourceStart();
+				if (start >= this.declarationSourceStart && start <= this.declarationSourceEnd)
+					bodyProblems.add(problem);
+			}
+			this.problems = bodyProblems.toArray(new CategorizedProblem[bodyProblems.size()]);
+		}
+	}
+}
@@ -67,6 +67,7 @@ import org.eclipse.jdt.internal.compiler.env.AccessRestriction;
 import org.eclipse.jdt.internal.compiler.env.IElementInfo;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.parser.MethodBodyCheckpoints;
 import org.eclipse.jdt.internal.compiler.util.HashtableOfObjectToInt;
 import org.eclipse.jdt.internal.compiler.util.ObjectVector;
 import org.eclipse.jdt.internal.core.DeltaProcessor.RootInfo;
@@ -142,6 +143,10 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 		public void flush() {
 			Thread currentThread = Thread.currentThread();
 			for (ZipFile zf : this.map.values()) {
+				if (ZipFilePool.isPooled(zf)) {
+					releasePooledZipFile(zf);
+					continue;
+				}
 				String zipFileName = null;
 				try (ZipFile zipFile = zf) {
 					zipFileName= zipFile.getName();
@@ -161,7 +166,12 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 		}
 
 		public void setCache(IPath path, ZipFile zipFile) {
-			try (ZipFile old = this.map.put(path, zipFile)) {
+			ZipFile previous = this.map.put(path, zipFile);
+			if (ZipFilePool.isPooled(previous)) {
+				releasePooledZipFile(previous);
+				return;
+			}
+			try (ZipFile old = previous) {
 				if (old != null) {
 					if (JavaModelManager.ZIP_ACCESS_VERBOSE) {
 						Thread currentThread = Thread.currentThread();
@@ -175,6 +185,14 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 				}
 			}
 		}
+
+		private void releasePooledZipFile(ZipFile zipFile) {
+			if (JavaModelManager.ZIP_ACCESS_VERBOSE) {
+				trace("(" + Thread.currentThread() + ") [ZipCache[" + this.owner //$NON-NLS-1$//$NON-NLS-2$
+						+ "]] Releasing pooled ZipFile on " + zipFile.getName()); //$NON-NLS-1$
+			}
+			ZipFilePool.release(zipFile);
+		}
 	}
 	/**
 	 * Unique handle onto the JavaModel
@@ -1304,6 +1322,7 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 		public final IProject project;
 		public volatile Object savedState;
 		public volatile boolean triedRead;
+		final Object savedStateLock = new Object(); // guards reading the saved state, distinct from the classpath monitor
 		public volatile IClasspathEntry[] rawClasspath;
 		public volatile IClasspathEntry[] referencedEntries;
 		public volatile IJavaModelStatus rawClasspathStatus;
@@ -1577,6 +1596,8 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 		int useCount = 0;
 		private final IProblemRequestor problemRequestor;
 		final CompilationUnit workingCopy;
+		volatile IncrementalReconcileState reconcileState;
+		volatile MethodBodyCheckpoints methodBodyCheckpoints;
 		public PerWorkingCopyInfo(CompilationUnit workingCopy, IProblemRequestor problemRequestor) {
 			this.workingCopy = workingCopy;
 			this.problemRequestor = problemRequestor;
@@ -2317,13 +2338,18 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 		}
 		PerProjectInfo info = getPerProjectInfo(project, true/*create if missing*/);
 		if (!info.triedRead) {
-			info.triedRead = true;
-			try {
-				if (monitor != null)
-					monitor.subTask(Messages.bind(Messages.build_readStateProgress, project.getName()));
-				info.savedState = readState(project);
-			} catch (CoreException e) {
-				Util.log(e, "Exception while reading last build state for: " + project); //$NON-NLS-1$
+			// projects may be built concurrently: make sure nobody sees triedRead before the state is read
+			synchronized (info.savedStateLock) {
+				if (!info.triedRead) {
+					try {
+						if (monitor != null)
+							monitor.subTask(Messages.bind(Messages.build_readStateProgress, project.getName()));
+						info.savedState = readState(project);
+					} catch (CoreException e) {
+						Util.log(e, "Exception while reading last build state for: " + project); //$NON-NLS-1$
+					}
+					info.triedRead = true;
+				}
 			}
 		}
 		return info.savedState;
@@ -2984,7 +3010,9 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 			if (throwIoExceptionsInGetZipFile) {
 				throw new IOException();
 			}
-			zipFile = new ZipFile(localFile);
+			// only operations caching their zip files give them back to the pool, others close them
+			ZipFilePool pool = zipCache != null ? ZipFilePool.getPool() : null;
+			zipFile = pool != null ? pool.acquire(localFile) : new ZipFile(localFile);
 			if (zipCache != null) {
 				zipCache.setCache(path, zipFile);
 			}
@@ -5568,6 +5596,8 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 			// ignore
 		}
 
+		ZipFilePool.closeAll();
+
 		// Note: no need to close the Java model as this just removes Java element infos from the Java model cache
 	}
 
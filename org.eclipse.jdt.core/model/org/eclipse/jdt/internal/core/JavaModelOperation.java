@@ -774,9 +774,11 @@ public abstract class JavaModelOperation implements IWorkspaceRunnable, IProgres
 						}
 						switch (element.getElementType()) {
 							case IJavaElement.PACKAGE_FRAGMENT_ROOT:
-							case IJavaElement.PACKAGE_FRAGMENT:
 								deltaProcessor.projectCachesToReset.add(element.getJavaProject());
 								break;
+							case IJavaElement.PACKAGE_FRAGMENT:
+								deltaProcessor.rootsWithChangedPackages.add((IPackageFragmentRoot) element.getParent());
+								break;
 						}
 					}
 					deltaProcessor.resetProjectCaches();
@@ -14,8 +14,10 @@
 package org.eclipse.jdt.internal.core;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
@@ -50,39 +52,62 @@ class JavaProjectElementInfo extends OpenableElementInfo {
 
 	static final IPackageFragmentRoot[] NO_ROOTS = new IPackageFragmentRoot[0];
 
+	/*
+	 * The caches are not modified once published: the name lookups and the delta processor publish a new cache with
+	 * their changes (see newNameLookup and updatePackageFragments), so that the name lookups created before keep
+	 * working on the previous one and concurrent changes are not lost.
+	 */
 	static class ProjectCache {
 		ProjectCache(IPackageFragmentRoot[] allPkgFragmentRootsCache, Map<IPackageFragmentRoot, IClasspathEntry> rootToResolvedEntries, Map<IPackageFragmentRoot, HashSetOfArray> pkgFragmentsCaches) {
+			this(allPkgFragmentRootsCache, rootToResolvedEntries, pkgFragmentsCaches, null);
+		}
+
+		private ProjectCache(IPackageFragmentRoot[] allPkgFragmentRootsCache, Map<IPackageFragmentRoot, IClasspathEntry> rootToResolvedEntries,
+				Map<IPackageFragmentRoot, HashSetOfArray> pkgFragmentsCaches, HashtableOfArrayToObject allPkgFragmentsCache) {
 			this.allPkgFragmentRootsCache = allPkgFragmentRootsCache;
 			this.rootToResolvedEntries = rootToResolvedEntries;
 			this.pkgFragmentsCaches = pkgFragmentsCaches;
+			this.allPkgFragmentsCache = allPkgFragmentsCache;
+		}
+
+		/*
+		 * Returns a copy of this cache with the given package fragments.
+		 */
+		ProjectCache withPackageFragments(Map<IPackageFragmentRoot, HashSetOfArray> newPkgFragmentsCaches, HashtableOfArrayToObject newAllPkgFragmentsCache) {
+			return new ProjectCache(this.allPkgFragmentRootsCache, this.rootToResolvedEntries, newPkgFragmentsCaches, newAllPkgFragmentsCache);
 		}
 
 		/*
 		 * A cache of all package fragment roots of this project.
 		 */
-		public IPackageFragmentRoot[] allPkgFragmentRootsCache;
+		public final IPackageFragmentRoot[] allPkgFragmentRootsCache;
 
 		/*
-		 * A cache of all package fragments in this project.
+		 * A cache of all package fragments in this project, null until the first name lookup computes it.
 		 * (a map from String[] (the package name) to IPackageFragmentRoot[] (the package fragment roots that contain a package fragment with this name))
 		 */
-		public HashtableOfArrayToObject allPkgFragmentsCache;
+		public final HashtableOfArrayToObject allPkgFragmentsCache;
 
 		/*
 		 * A cache of package fragments for each package fragment root of this project
 		 * (a map from IPackageFragmentRoot to a set of String[] (the package name))
 		 */
-		public Map<IPackageFragmentRoot, HashSetOfArray>pkgFragmentsCaches;
+		public final Map<IPackageFragmentRoot, HashSetOfArray>pkgFragmentsCaches;
 
 		/*
 		 * A cache of package fragment roots to corresponding resolved CP entry
 		 * (so as to be able to figure inclusion/exclusion rules)
 		 */
-		public Map<IPackageFragmentRoot, IClasspathEntry> rootToResolvedEntries;
+		public final Map<IPackageFragmentRoot, IClasspathEntry> rootToResolvedEntries;
 	}
 
-	ProjectCache projectCache;
-	ProjectCache mainProjectCache;
+	private static final AtomicReferenceFieldUpdater<JavaProjectElementInfo, ProjectCache> PROJECT_CACHE =
+			AtomicReferenceFieldUpdater.newUpdater(JavaProjectElementInfo.class, ProjectCache.class, "projectCache"); //$NON-NLS-1$
+	private static final AtomicReferenceFieldUpdater<JavaProjectElementInfo, ProjectCache> MAIN_PROJECT_CACHE =
+			AtomicReferenceFieldUpdater.newUpdater(JavaProjectElementInfo.class, ProjectCache.class, "mainProjectCache"); //$NON-NLS-1$
+
+	volatile ProjectCache projectCache;
+	volatile ProjectCache mainProjectCache;
 
 	/*
 	 * Adds the given name and its super names to the given set
@@ -264,7 +289,7 @@ class JavaProjectElementInfo extends OpenableElementInfo {
 
 	private static final char[] ALL_ELEMENTS = {'*', '*', '/', '*'};
 
-	private boolean isCompletelyNonAccessible(ClasspathEntry cpEntry) {
+	private static boolean isCompletelyNonAccessible(ClasspathEntry cpEntry) {
 		AccessRuleSet accessRules = cpEntry.getAccessRuleSet();
 		if (accessRules != null) {
 			AccessRule[] rules = accessRules.getAccessRules();
@@ -290,7 +315,7 @@ class JavaProjectElementInfo extends OpenableElementInfo {
 		return resources;
 	}
 
-	private void initializePackageNames(IPackageFragmentRoot root, HashSetOfArray fragmentsCache) {
+	private static void initializePackageNames(IPackageFragmentRoot root, HashSetOfArray fragmentsCache) {
 		IJavaElement[] frags = null;
 		try {
 			if (!root.isOpen()) {
@@ -386,9 +411,136 @@ class JavaProjectElementInfo extends OpenableElementInfo {
 					}
 				}
 			}
-			cache.allPkgFragmentsCache = allPkgFragmentsCache;
+			// publish the package fragments unless the cache was replaced meanwhile, the next name lookup computes them
+			// again from the new cache
+			(excludeTestCode ? MAIN_PROJECT_CACHE : PROJECT_CACHE).compareAndSet(this, cache,
+					cache.withPackageFragments(cache.pkgFragmentsCaches, allPkgFragmentsCache));
+		}
+		return new NameLookup(project, cache.allPkgFragmentRootsCache, allPkgFragmentsCache, workingCopies, cache.rootToResolvedEntries);
+	}
+
+	/*
+	 * Updates the package fragment caches of the given projects after package fragments of the given root were added
+	 * or removed, instead of resetting them. The projects whose classpath does not contain the root are left
+	 * untouched. The caches are copied rather than modified, so the name lookups created before keep working on the
+	 * previous ones.
+	 * Added packages are inserted in the package fragments cache, which is only recomputed from the package names of
+	 * each root (without opening the roots again) when packages were removed.
+	 */
+	static void updatePackageFragments(IPackageFragmentRoot root, Collection<JavaProject> projects) {
+		JavaModelManager manager = JavaModelManager.getJavaModelManager();
+		JavaProjectElementInfo[] infos = new JavaProjectElementInfo[projects.size()];
+		HashSetOfArray previous = null;
+		int i = 0;
+		for (JavaProject project : projects) {
+			JavaProjectElementInfo info = (JavaProjectElementInfo) manager.peekAtInfo(project);
+			infos[i++] = info;
+			if (info != null && previous == null) {
+				previous = getPackageNames(info.projectCache, root);
+				if (previous == null)
+					previous = getPackageNames(info.mainProjectCache, root);
+			}
+		}
+		HashSetOfArray packages = new HashSetOfArray();
+		initializePackageNames(root, packages);
+		for (JavaProjectElementInfo info : infos) {
+			if (info == null)
+				continue;
+			updatePackageFragments(info, PROJECT_CACHE, root, previous, packages);
+			updatePackageFragments(info, MAIN_PROJECT_CACHE, root, previous, packages);
+		}
+	}
+
+	/*
+	 * Publishes the update of the given cache of the given info, updates the new cache again if another thread
+	 * published one meanwhile.
+	 */
+	private static void updatePackageFragments(JavaProjectElementInfo info, AtomicReferenceFieldUpdater<JavaProjectElementInfo, ProjectCache> field,
+			IPackageFragmentRoot root, HashSetOfArray previous, HashSetOfArray packages) {
+		ProjectCache cache, updated;
+		do {
+			cache = field.get(info);
+			if (cache == null)
+				return;
+			updated = updatePackageFragments(cache, root, previous, packages);
+		} while (updated != cache && !field.compareAndSet(info, cache, updated));
+	}
+
+	/*
+	 * Returns the names of the package fragments of the given root known by the given cache, or null if unknown.
+	 */
+	private static HashSetOfArray getPackageNames(ProjectCache cache, IPackageFragmentRoot root) {
+		if (cache == null)
+			return null;
+		if (cache.rootToResolvedEntries.get(root) instanceof ClasspathEntry cpEntry && isCompletelyNonAccessible(cpEntry))
+			return null; // package names were not read
+		return cache.pkgFragmentsCaches.get(root);
+	}
+
+	/*
+	 * Returns the given cache updated with the given package names of the given root, or the given cache if the root
+	 * is not visible in the cache.
+	 */
+	private static ProjectCache updatePackageFragments(ProjectCache cache, IPackageFragmentRoot root, HashSetOfArray previous, HashSetOfArray packages) {
+		IPackageFragmentRoot[] roots = cache.allPkgFragmentRootsCache;
+		int rootIndex = indexOf(roots, root);
+		if (rootIndex == -1)
+			return cache;
+		if (cache.rootToResolvedEntries.get(root) instanceof ClasspathEntry cpEntry && isCompletelyNonAccessible(cpEntry))
+			return cache; // no package is visible
+		Map<IPackageFragmentRoot, HashSetOfArray> pkgFragmentsCaches = cache.pkgFragmentsCaches;
+		if (pkgFragmentsCaches.containsKey(root)) {
+			pkgFragmentsCaches = new HashMap<>(pkgFragmentsCaches);
+			pkgFragmentsCaches.put(root, packages);
+		}
+		HashtableOfArrayToObject allPkgFragmentsCache = cache.allPkgFragmentsCache;
+		if (allPkgFragmentsCache == null)
+			return cache.withPackageFragments(pkgFragmentsCaches, null);
+		if (previous == null)
+			return cache.withPackageFragments(pkgFragmentsCaches, null); // unknown changes
+		for (Object[] pkgName : previous.set) {
+			if (pkgName != null && !packages.contains(pkgName))
+				return cache.withPackageFragments(pkgFragmentsCaches, null); // recompute without the removed packages
+		}
+		try {
+			allPkgFragmentsCache = (HashtableOfArrayToObject) allPkgFragmentsCache.clone();
+		} catch (CloneNotSupportedException e) {
+			// ignore (implementation of HashtableOfArrayToObject supports cloning)
+		}
+		for (Object[] element : packages.set) {
+			String[] pkgName = (String[]) element;
+			if (pkgName == null || previous.contains(pkgName))
+				continue;
+			Object existing = allPkgFragmentsCache.get(pkgName);
+			if (existing == null || existing == NO_ROOTS) {
+				allPkgFragmentsCache.put(pkgName, root);
+				addSuperPackageNames(pkgName, allPkgFragmentsCache);
+				continue;
+			}
+			IPackageFragmentRoot[] existingRoots = existing instanceof PackageFragmentRoot existingRoot
+					? new IPackageFragmentRoot[] { existingRoot }
+					: (IPackageFragmentRoot[]) existing;
+			if (indexOf(existingRoots, root) != -1)
+				continue; // already there
+			// keep the roots in classpath order
+			int position = 0;
+			while (position < existingRoots.length && indexOf(roots, existingRoots[position]) < rootIndex)
+				position++;
+			IPackageFragmentRoot[] newRoots = new IPackageFragmentRoot[existingRoots.length + 1];
+			System.arraycopy(existingRoots, 0, newRoots, 0, position);
+			newRoots[position] = root;
+			System.arraycopy(existingRoots, position, newRoots, position + 1, existingRoots.length - position);
+			allPkgFragmentsCache.put(pkgName, newRoots);
+		}
+		return cache.withPackageFragments(pkgFragmentsCaches, allPkgFragmentsCache);
+	}
+
+	private static int indexOf(IPackageFragmentRoot[] roots, IPackageFragmentRoot root) {
+		for (int i = 0; i < roots.length; i++) {
+			if (roots[i].equals(root))
+				return i;
 		}
-		return new NameLookup(project, cache.allPkgFragmentRootsCache, cache.allPkgFragmentsCache, workingCopies, cache.rootToResolvedEntries);
+		return -1;
 	}
 
 	/*
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core;
+
+import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.internal.core.util.Messages;
+
+/**
+ * Process wide pool of open archives, shared by all the operations which cache their zip files (see
+ * {@link JavaModelManager#cacheZipFiles(Object)}), so that concurrent searches, builds and reconciles on the same jars
+ * do not each open and close their own {@link ZipFile}.
+ * <p>
+ * The pool is enabled by setting the system property {@value #IDLE_TIME_PROPERTY} to the number of milliseconds an
+ * archive which is not used by any operation is kept open. Archives are reference counted: the thread local zip file
+ * cache of an operation acquires each archive once and releases it when it is flushed. An archive is identified by its
+ * path, its size and its last modification time. An archive which changed on disk is opened again, the previous one
+ * is closed when its last user releases it.
+ * <p>
+ * Looking up an open archive does not lock. {@link ZipFile#close()} does nothing on a pooled archive, because other
+ * operations may be reading it: the pool closes it once it has been idle for the configured time.
+ */
+public final class ZipFilePool {
+	static final String IDLE_TIME_PROPERTY = "jdt.core.zipFilePool.idleTime"; //$NON-NLS-1$
+
+	private static final ZipFilePool INSTANCE = new ZipFilePool();
+
+	private final ConcurrentMap<String, PooledZipFile> archives = new ConcurrentHashMap<>();
+
+	private final Job closeIdleArchives = new Job(Messages.closing_idle_archives) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			closeIdleArchives(getIdleTime());
+			return Status.OK_STATUS;
+		}
+	};
+
+	private ZipFilePool() {
+		this.closeIdleArchives.setSystem(true);
+	}
+
+	/**
+	 * Answers the pool, or null when it is not enabled.
+	 */
+	static ZipFilePool getPool() {
+		return getIdleTime() > 0 ? INSTANCE : null;
+	}
+
+	static long getIdleTime() {
+		return Long.getLong(IDLE_TIME_PROPERTY, 0);
+	}
+
+	/**
+	 * Answers the open archive of the given file, which must be given back to {@link #release(ZipFile)}.
+	 */
+	ZipFile acquire(File file) throws IOException {
+		String key = file.getAbsolutePath();
+		long length = file.length();
+		long lastModified = file.lastModified();
+		PooledZipFile zipFile = this.archives.get(key);
+		if (zipFile != null && zipFile.isSameArchive(length, lastModified) && zipFile.acquire())
+			return zipFile;
+		try {
+			return this.archives.compute(key, (path, current) -> {
+				if (current != null && current.isSameArchive(length, lastModified) && current.acquire())
+					return current;
+				PooledZipFile opened;
+				try {
+					opened = new PooledZipFile(key, file, length, lastModified);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				if (current != null)
+					current.retire();
+				if (JavaModelManager.ZIP_ACCESS_VERBOSE) {
+					trace("(" + Thread.currentThread() + ") [ZipFilePool.acquire(File)] Opened pooled ZipFile on " + file); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				return opened;
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Gives back an archive answered by {@link #acquire(File)}.
+	 */
+	static void release(ZipFile zipFile) {
+		((PooledZipFile) zipFile).release();
+	}
+
+	static boolean isPooled(ZipFile zipFile) {
+		return zipFile instanceof PooledZipFile;
+	}
+
+	/**
+	 * Closes the archives which have not been used for the given number of milliseconds, and schedules to check again
+	 * the ones which are idle but not long enough.
+	 */
+	void closeIdleArchives(long idleTime) {
+		long now = System.nanoTime();
+		long nextCheck = Long.MAX_VALUE;
+		for (PooledZipFile zipFile : this.archives.values()) {
+			if (zipFile.references.get() != 0)
+				continue;
+			long idle = TimeUnit.NANOSECONDS.toMillis(now - zipFile.lastRelease);
+			if (idle >= idleTime) {
+				if (zipFile.closeIfUnused())
+					this.archives.remove(zipFile.key, zipFile);
+			} else {
+				nextCheck = Math.min(nextCheck, idleTime - idle);
+			}
+		}
+		if (nextCheck != Long.MAX_VALUE)
+			this.closeIdleArchives.schedule(nextCheck);
+	}
+
+	/**
+	 * Closes all the archives which are not in use, called on shutdown.
+	 */
+	public static void closeAll() {
+		INSTANCE.closeIdleArchives.cancel();
+		INSTANCE.closeIdleArchives(0);
+	}
+
+	private final class PooledZipFile extends ZipFile {
+		final String key;
+		final long length;
+		final long lastModified;
+		/** number of operations using this archive, or -1 once closed **/
+		final AtomicInteger references = new AtomicInteger(1);
+		volatile long lastRelease;
+		/** set when the archive changed on disk, closed as soon as it is not used any longer **/
+		volatile boolean retired;
+
+		PooledZipFile(String key, File file, long length, long lastModified) throws IOException {
+			super(file);
+			this.key = key;
+			this.length = length;
+			this.lastModified = lastModified;
+		}
+
+		boolean isSameArchive(long fileLength, long fileLastModified) {
+			return !this.retired && this.length == fileLength && this.lastModified == fileLastModified;
+		}
+
+		boolean acquire() {
+			int count;
+			do {
+				count = this.references.get();
+				if (count < 0)
+					return false; // closed
+			} while (!this.references.compareAndSet(count, count + 1));
+			return true;
+		}
+
+		void release() {
+			this.lastRelease = System.nanoTime();
+			if (this.references.decrementAndGet() != 0)
+				return;
+			if (this.retired) {
+				closeIfUnused(); // no longer in the pool
+			} else {
+				ZipFilePool.this.closeIdleArchives.schedule(getIdleTime());
+			}
+		}
+
+		/**
+		 * Called when this archive is replaced in the pool.
+		 */
+		void retire() {
+			this.retired = true;
+			closeIfUnused();
+		}
+
+		/**
+		 * Closes this archive if no operation uses it, answers whether it was closed.
+		 */
+		boolean closeIfUnused() {
+			if (!this.references.compareAndSet(0, -1))
+				return false;
+			try {
+				if (JavaModelManager.ZIP_ACCESS_VERBOSE) {
+					trace("(" + Thread.currentThread() + ") [ZipFilePool] Closing pooled ZipFile on " + getName()); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				super.close();
+			} catch (IOException e) {
+				// problem occured closing zip file: cannot do much more
+				if (JavaModelManager.ZIP_ACCESS_VERBOSE) {
+					trace("", e); //$NON-NLS-1$
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public void close() {
+			// other operations may use this archive, it is closed by the pool
+		}
+	}
+}
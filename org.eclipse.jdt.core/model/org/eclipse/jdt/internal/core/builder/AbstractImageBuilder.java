@@ -738,6 +738,8 @@ protected Compiler newCompiler() {
 	// temporary code to allow the compiler to revert to a single thread
 	String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 	newCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+	// number of threads parsing method bodies ahead of processing, see ParseAheadManager
+	newCompiler.parseAheadThreads = Integer.getInteger("jdt.compiler.parseAheadThreads", 1).intValue(); //$NON-NLS-1$
 
 	// enable the compiler reference info support
 	options.produceReferenceInfo = true;
@@ -21,5 +21,15 @@ protected AdditionalTypeCollection(char[][] definedTypeNames, char[][][] qualifi
 	super(qualifiedReferences, simpleNameReferences, rootReferences);
 	this.definedTypeNames = definedTypeNames; // do not bother interning member type names (i.e. 'A$M')
 }
+
+AdditionalTypeCollection(ReferenceNameTable nameTable, char[][] definedTypeNames, char[][][] qualifiedReferences, char[][] simpleNameReferences, char[][] rootReferences) {
+	super(nameTable, qualifiedReferences, simpleNameReferences, rootReferences);
+	this.definedTypeNames = definedTypeNames; // do not bother interning member type names (i.e. 'A$M')
+}
+
+AdditionalTypeCollection(ReferenceNameTable nameTable, char[][] definedTypeNames, int[] qualifiedNameIds, int[] simpleNameIds, int[] rootIds) {
+	super(nameTable, qualifiedNameIds, simpleNameIds, rootIds);
+	this.definedTypeNames = definedTypeNames;
+}
 }
 
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.builder;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
@@ -36,11 +37,17 @@ protected int fixedWarningCount;
 protected int workDone;
 protected int totalWork;
 protected String previousSubtask;
+// counts found by this notifier when it was created, see done()
+private final int initialNewErrorCount;
+private final int initialFixedErrorCount;
+private final int initialNewWarningCount;
+private final int initialFixedWarningCount;
 
-public static int NewErrorCount = 0;
-public static int FixedErrorCount = 0;
-public static int NewWarningCount = 0;
-public static int FixedWarningCount = 0;
+// counts of the builds of all projects since the build started, updated by the concurrent builds when they are done
+private static final AtomicInteger NewErrorCount = new AtomicInteger();
+private static final AtomicInteger FixedErrorCount = new AtomicInteger();
+private static final AtomicInteger NewWarningCount = new AtomicInteger();
+private static final AtomicInteger FixedWarningCount = new AtomicInteger();
 
 private static final int millisecondsBeforeCancelAutoBuild = Integer
 		.getInteger("org.eclipse.jdt.MillisecondsBeforeCancelAutoBuild", 1000); //$NON-NLS-1$
@@ -51,10 +58,10 @@ private final long startTimeNanos;
 private final int buildKind;
 
 public static void resetProblemCounters() {
-	NewErrorCount = 0;
-	FixedErrorCount = 0;
-	NewWarningCount = 0;
-	FixedWarningCount = 0;
+	NewErrorCount.set(0);
+	FixedErrorCount.set(0);
+	NewWarningCount.set(0);
+	FixedWarningCount.set(0);
 }
 
 public BuildNotifier(IProgressMonitor monitor, int buildKind, BooleanSupplier interruptSupplier) {
@@ -62,10 +69,10 @@ public BuildNotifier(IProgressMonitor monitor, int buildKind, BooleanSupplier in
 	this.buildKind = buildKind;
 	this.interruptSupplier = interruptSupplier;
 	this.cancelling = false;
-	this.newErrorCount = NewErrorCount;
-	this.fixedErrorCount = FixedErrorCount;
-	this.newWarningCount = NewWarningCount;
-	this.fixedWarningCount = FixedWarningCount;
+	this.newErrorCount = this.initialNewErrorCount = NewErrorCount.get();
+	this.fixedErrorCount = this.initialFixedErrorCount = FixedErrorCount.get();
+	this.newWarningCount = this.initialNewWarningCount = NewWarningCount.get();
+	this.fixedWarningCount = this.initialFixedWarningCount = FixedWarningCount.get();
 	this.workDone = 0;
 	this.totalWork = 1000000;
 	this.startTimeNanos = System.nanoTime();
@@ -151,10 +158,11 @@ public void compiled(SourceFile unit) {
 }
 
 public void done() {
-	NewErrorCount = this.newErrorCount;
-	FixedErrorCount = this.fixedErrorCount;
-	NewWarningCount = this.newWarningCount;
-	FixedWarningCount = this.fixedWarningCount;
+	// only add the problems found by this build, other builds may have completed in the meantime
+	NewErrorCount.addAndGet(this.newErrorCount - this.initialNewErrorCount);
+	FixedErrorCount.addAndGet(this.fixedErrorCount - this.initialFixedErrorCount);
+	NewWarningCount.addAndGet(this.newWarningCount - this.initialNewWarningCount);
+	FixedWarningCount.addAndGet(this.fixedWarningCount - this.initialFixedWarningCount);
 
 	updateProgress(1.0f);
 	subTask(Messages.build_done);
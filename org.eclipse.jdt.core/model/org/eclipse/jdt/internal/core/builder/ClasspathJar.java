@@ -51,6 +51,7 @@ import org.eclipse.jdt.internal.compiler.env.IBinaryType;
 import org.eclipse.jdt.internal.compiler.env.IModule;
 import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
+import org.eclipse.jdt.internal.compiler.util.ResidentBinaryTypes;
 import org.eclipse.jdt.internal.compiler.util.SuffixConstants;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.util.Util;
@@ -139,6 +140,8 @@ volatile long lastModified;
 volatile long fileSize;
 /** lazy initialized **/
 private volatile Set<String> knownPackageNames;
+/** lazy initialized, reset to null in {@link #cleanup()}, see {@link #getResidentBinaryTypes()} **/
+private volatile ResidentBinaryTypes.Archive residentBinaryTypes;
 // Meant for ClasspathMultiReleaseJar, not used in here
 String compliance;
 
@@ -209,6 +212,7 @@ public void cleanup() {
 	}
 	this.module = null; // TODO(SHMOD): is this safe?
 	this.knownPackageNames = null;
+	this.residentBinaryTypes = null;
 }
 
 @Override
@@ -233,7 +237,7 @@ public NameEnvironmentAnswer findClass(String binaryFileName, String qualifiedPa
 	if (!isPackage(qualifiedPackageName, moduleName)) return null; // most common case
 
 	try {
-		IBinaryType reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+		IBinaryType reader = readClassFile(qualifiedBinaryFileName);
 		if (reader != null) {
 			char[] modName = this.module == null ? null : this.module.name();
 			if (reader instanceof ClassFileReader) {
@@ -251,6 +255,32 @@ public NameEnvironmentAnswer findClass(String binaryFileName, String qualifiedPa
 	return null;
 }
 
+private ClassFileReader readClassFile(String qualifiedBinaryFileName) throws ClassFormatException, IOException {
+	// readers of a modular jar get their module name set, they cannot be shared
+	ResidentBinaryTypes.Archive residentTypes = this.module == null ? getResidentBinaryTypes() : null;
+	if (residentTypes == null)
+		return ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+	ClassFileReader reader = residentTypes.get(qualifiedBinaryFileName);
+	if (reader == null) {
+		reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName, true);
+		if (reader != null)
+			residentTypes.put(qualifiedBinaryFileName, reader);
+	}
+	return reader;
+}
+/**
+ * Answers the decoded class files of this jar shared with the other name environments of the workspace (searches,
+ * builds), or null when {@link ResidentBinaryTypes} is not enabled.
+ */
+private ResidentBinaryTypes.Archive getResidentBinaryTypes() {
+	if (!ResidentBinaryTypes.isEnabled())
+		return null;
+	ResidentBinaryTypes.Archive archive = this.residentBinaryTypes;
+	if (archive == null)
+		this.residentBinaryTypes = archive = ResidentBinaryTypes.forArchive(new File(this.zipFilename));
+	return archive;
+}
+
 @Override
 public IPath getProjectRelativePath() {
 	if (this.resource == null) return null;
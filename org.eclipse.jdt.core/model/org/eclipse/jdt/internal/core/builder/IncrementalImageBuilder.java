@@ -258,12 +258,13 @@ protected void addAffectedSourceFiles(Set<String> qualifiedSet, Set<String> simp
 	if (internedSimpleNames.length < simpleSet.size())
 		internedSimpleNames = null;
 	char[][] internedRootNames = ReferenceCollection.internSimpleNames(rootSet, false);
+	ReferenceCollection.Query query = ReferenceCollection.query(internedQualifiedNames, internedSimpleNames, internedRootNames);
 
 	next: for (Entry<String, ReferenceCollection> entry : this.newState.references.entrySet()) {
 		String typeLocator = entry.getKey();
 		if (affectedTypes != null && !affectedTypes.contains(typeLocator)) continue next;
 		ReferenceCollection refs = entry.getValue();
-		if (refs.includes(internedQualifiedNames, internedSimpleNames, internedRootNames)) {
+		if (refs.includes(query)) {
 			IFile file = this.javaBuilder.currentProject.getFile(typeLocator);
 			SourceFile sourceFile = findSourceFile(file, true);
 			if (sourceFile == null) continue next;
@@ -20,6 +20,7 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -41,6 +42,8 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaModelMarker;
 import org.eclipse.jdt.core.IJavaModelStatusConstants;
@@ -83,6 +86,12 @@ public static boolean SHOW_STATS;
  * specify VM property: {@code -Dorg.eclipse.disableAutoBuildOnSettingsChange=true}
  */
 private static final boolean DISABLE_AUTO_BUILDING_ON_SETTINGS_CHANGE = Boolean.getBoolean("org.eclipse.disableAutoBuildOnSettingsChange"); //$NON-NLS-1$
+/**
+ * In case projects that do not depend on each other should be built concurrently, specify VM property:
+ * {@code -Dorg.eclipse.jdt.core.builder.parallelBuild=true}. The number of concurrent builds is bounded by the
+ * maximum number of concurrent builds of the workspace description. The property is read each time a build is scheduled.
+ */
+static final String PARALLEL_BUILD_PROPERTY = "org.eclipse.jdt.core.builder.parallelBuild"; //$NON-NLS-1$
 private static final IPath JDT_CORE_SETTINGS_PATH = Path.fromPortableString(JavaProject.DEFAULT_PREFERENCES_DIRNAME + IPath.SEPARATOR + JavaProject.JAVA_CORE_PREFS_FILE);
 
 /**
@@ -340,6 +349,38 @@ private void buildDeltas(Map<IProject, IResourceDelta> deltas) {
 	}
 }
 
+/**
+ * The builder writes into the output folders and markers of its own project, so the project is enough as scheduling
+ * rule when parallel builds are enabled. The state shared by the builders of all projects (the names interned by
+ * {@link ReferenceCollection} and the built projects) is synchronized, each project has a {@link ReferenceNameTable} of
+ * its own. The build manager still builds the projects required through project entries first since they are
+ * referenced by the project.
+ * <p>
+ * Libraries in another project (e.g. in its output folder) are not project references, so nothing orders the build of
+ * that project with this one: the rule also contains these projects, so that they are not built while this project
+ * reads their libraries.
+ */
+@Override
+public ISchedulingRule getRule(int kind, Map<String, String> args) {
+	if (!Boolean.getBoolean(PARALLEL_BUILD_PROPERTY))
+		return super.getRule(kind, args);
+	IProject project = getProject();
+	this.currentProject = project;
+	this.javaProject = (JavaProject) JavaCore.create(project);
+	this.workspaceRoot = project.getWorkspace().getRoot();
+	Set<IProject> binaryPrerequisites = new LinkedHashSet<>(Arrays.asList(getRequiredProjects(true)));
+	binaryPrerequisites.removeAll(Arrays.asList(getRequiredProjects(false)));
+	binaryPrerequisites.remove(project);
+	if (binaryPrerequisites.isEmpty())
+		return project;
+	ISchedulingRule[] rules = new ISchedulingRule[binaryPrerequisites.size() + 1];
+	rules[0] = project;
+	int index = 1;
+	for (IProject prerequisite : binaryPrerequisites)
+		rules[index++] = prerequisite;
+	return MultiRule.combine(rules);
+}
+
 @Override
 protected void clean(IProgressMonitor monitor) throws CoreException {
 	this.currentProject = getProject();
@@ -706,10 +747,12 @@ private int initializeBuilder(int kind, boolean forBuild) throws CoreException {
 
 		// Flush the existing external files cache if this is the beginning of a build cycle
 		String projectName = this.currentProject.getName();
-		if (builtProjects == null || builtProjects.contains(projectName)) {
-			builtProjects = new LinkedHashSet<>();
+		synchronized (JavaBuilder.class) { // projects may be built concurrently
+			if (builtProjects == null || builtProjects.contains(projectName)) {
+				builtProjects = new LinkedHashSet<>();
+			}
+			builtProjects.add(projectName);
 		}
-		builtProjects.add(projectName);
 
 		if (kind != CLEAN_BUILD && kind != FULL_BUILD) {
 			// check if we need to switch to full build due to missing output folder(s)
@@ -17,7 +17,6 @@
 package org.eclipse.jdt.internal.core.builder;
 
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -27,16 +26,109 @@ import org.eclipse.jdt.internal.compiler.util.SortedCharArrays;
 
 public class ReferenceCollection {
 
-// contains no simple names as in just 'a' which is kept in simpleNameReferences instead
+/**
+ * The names of the collections of one build state, the collections only keep the ids of their names.
+ */
+final ReferenceNameTable nameTable;
+
+// sorted ids of the names in the nameTable
+// contains no simple names as in just 'a' which is kept in simpleNameIds instead
 // TODO after #addDependencies, it will contain simple names, though. See ReferenceCollectionTest
-char[][][] qualifiedNameReferences;
-char[][] simpleNameReferences;
-char[][] rootReferences;
+int[] qualifiedNameIds;
+int[] simpleNameIds;
+int[] rootIds;
 
+/**
+ * Creates a collection with a name table of its own, the collections of a build state share the name table of the
+ * state instead.
+ */
 protected ReferenceCollection(char[][][] qualifiedNameReferences, char[][] simpleNameReferences, char[][] rootReferences) {
-	this.qualifiedNameReferences = internQualifiedNames(qualifiedNameReferences, false);
-	this.simpleNameReferences = internSimpleNames(simpleNameReferences, true);
-	this.rootReferences = internSimpleNames(rootReferences, false);
+	this(new ReferenceNameTable(), qualifiedNameReferences, simpleNameReferences, rootReferences);
+}
+
+ReferenceCollection(ReferenceNameTable nameTable, char[][][] qualifiedNameReferences, char[][] simpleNameReferences, char[][] rootReferences) {
+	this(nameTable, qualifiedNameIds(nameTable, qualifiedNameReferences),
+		simpleNameIds(nameTable, simpleNameReferences, true),
+		simpleNameIds(nameTable, rootReferences, false));
+}
+
+/**
+ * Creates a collection from the given sorted ids of the given table, as answered by {@link #sortedIds(int[], int)}.
+ */
+ReferenceCollection(ReferenceNameTable nameTable, int[] qualifiedNameIds, int[] simpleNameIds, int[] rootIds) {
+	this.nameTable = nameTable;
+	this.qualifiedNameIds = qualifiedNameIds;
+	this.simpleNameIds = simpleNameIds;
+	this.rootIds = rootIds;
+}
+
+/**
+ * Answers the sorted ids of the given qualified names, well known names are dropped.
+ */
+private static int[] qualifiedNameIds(ReferenceNameTable nameTable, char[][][] qualifiedNames) {
+	if (qualifiedNames == null)
+		return EmptyIds;
+	int[] ids = new int[qualifiedNames.length];
+	int count = 0;
+	for (char[][] qualifiedName : qualifiedNames) {
+		if (!isWellKnownQualifiedName(qualifiedName))
+			ids[count++] = nameTable.qualifiedNameId(qualifiedName, true);
+	}
+	return sortedIds(ids, count);
+}
+
+/**
+ * Answers the sorted ids of the given simple names.
+ */
+private static int[] simpleNameIds(ReferenceNameTable nameTable, char[][] simpleNames, boolean removeWellKnown) {
+	if (simpleNames == null)
+		return EmptyIds;
+	int[] ids = new int[simpleNames.length];
+	int count = 0;
+	for (char[] simpleName : simpleNames) {
+		if (!removeWellKnown || !isWellKnownSimpleName(simpleName))
+			ids[count++] = nameTable.simpleNameId(simpleName, true);
+	}
+	return sortedIds(ids, count);
+}
+
+/**
+ * Adds the given names to the given table, answers their ids in the same order. Well known names get
+ * {@link ReferenceNameTable#NOT_FOUND}.
+ */
+static int[] qualifiedNameIdTable(ReferenceNameTable nameTable, char[][][] qualifiedNames) {
+	int[] ids = new int[qualifiedNames.length];
+	for (int i = 0; i < ids.length; i++)
+		ids[i] = isWellKnownQualifiedName(qualifiedNames[i]) ? ReferenceNameTable.NOT_FOUND : nameTable.qualifiedNameId(qualifiedNames[i], true);
+	return ids;
+}
+
+/**
+ * Adds the given names to the given table, answers their ids in the same order. Well known names get
+ * {@link ReferenceNameTable#NOT_FOUND} if they should be removed.
+ */
+static int[] simpleNameIdTable(ReferenceNameTable nameTable, char[][] simpleNames, boolean removeWellKnown) {
+	int[] ids = new int[simpleNames.length];
+	for (int i = 0; i < ids.length; i++)
+		ids[i] = removeWellKnown && isWellKnownSimpleName(simpleNames[i]) ? ReferenceNameTable.NOT_FOUND : nameTable.simpleNameId(simpleNames[i], true);
+	return ids;
+}
+
+/**
+ * Sorts the first count ids of the given array and drops duplicates, answers the resulting array.
+ */
+static int[] sortedIds(int[] ids, int count) {
+	if (count == 0)
+		return EmptyIds;
+	Arrays.sort(ids, 0, count);
+	int length = 1;
+	for (int i = 1; i < count; i++) {
+		if (ids[i] != ids[length - 1])
+			ids[length++] = ids[i];
+	}
+	if (length < ids.length)
+		System.arraycopy(ids, 0, ids = new int[length], 0, length);
+	return ids;
 }
 
 /**
@@ -50,34 +142,26 @@ public void addDependencies(String[] typeNameDependencies) {
 	// if each qualified type name is already known then all of its subNames can be skipped
 	// and its expected that very few qualified names in typeNameDependencies need to be added
 	// but could always take 'p1.p2.p3.X' and make all qualified names 'p1' 'p1.p2' 'p1.p2.p3' 'p1.p2.p3.X', then intern
+	ReferenceNameTable names = this.nameTable;
 	next: for(String typeNameDependency: typeNameDependencies) {
 		char[][] qualifiedTypeName = CharOperation.splitOn('.', typeNameDependency.toCharArray());
 		if (!isWellKnownQualifiedName(qualifiedTypeName)) {
-			int qLength = qualifiedTypeName.length;
-			QualifiedNameSet internedNames = InternedQualifiedNames[qLength <= MaxQualifiedNames ? qLength - 1 : 0];
-			qualifiedTypeName = internSimpleNames(qualifiedTypeName, false, false);
-			qualifiedTypeName = internedNames.add(qualifiedTypeName);
 			int idx;
-			while ((idx = Arrays.binarySearch(this.qualifiedNameReferences, qualifiedTypeName, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR)) < 0) {
-				this.simpleNameReferences = ensureContainedInSortedOrder(this.simpleNameReferences, qualifiedTypeName[qualifiedTypeName.length - 1]);
-				this.rootReferences = ensureContainedInSortedOrder(this.rootReferences, qualifiedTypeName[0]);
-
-				int length = this.qualifiedNameReferences.length;
-				idx = -(idx+1);
-				this.qualifiedNameReferences = SortedCharArrays.insertIntoArray(this.qualifiedNameReferences, new char[length + 1][][], qualifiedTypeName, idx, this.qualifiedNameReferences.length);
+			while ((idx = Arrays.binarySearch(this.qualifiedNameIds, names.qualifiedNameId(qualifiedTypeName, true))) < 0) {
+				this.simpleNameIds = ensureContainedInSortedOrder(this.simpleNameIds, names.simpleNameId(qualifiedTypeName[qualifiedTypeName.length - 1], true));
+				this.rootIds = ensureContainedInSortedOrder(this.rootIds, names.simpleNameId(qualifiedTypeName[0], true));
+				this.qualifiedNameIds = insertIntoArray(this.qualifiedNameIds, names.qualifiedNameId(qualifiedTypeName, true), -(idx + 1));
 
 				qualifiedTypeName = CharOperation.subarray(qualifiedTypeName, 0, qualifiedTypeName.length - 1);
-				char[][][] temp = internQualifiedNames(new char[][][] {qualifiedTypeName}, false);
-				if (temp == EmptyQualifiedNames)
-					continue next; // qualifiedTypeName is a well known name
-				qualifiedTypeName = temp[0];
+				if (isWellKnownQualifiedName(qualifiedTypeName))
+					continue next;
 			}
 		}
 	}
 }
 
 public boolean includes(char[] simpleName) {
-	boolean result = sortedArrayContains(this.simpleNameReferences, simpleName, SortedCharArrays.CHAR_ARR_COMPARATOR);
+	boolean result = sortedArrayContains(this.simpleNameIds, this.nameTable.simpleNameId(simpleName, false));
 	if (REFERENCE_COLLECTION_DEBUG) {
 		assertIncludes(result, simpleName);
 	}
@@ -85,7 +169,7 @@ public boolean includes(char[] simpleName) {
 }
 
 public boolean includes(char[][] qualifiedName) {
-	boolean result = sortedArrayContains(this.qualifiedNameReferences, qualifiedName, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR);
+	boolean result = sortedArrayContains(this.qualifiedNameIds, this.nameTable.qualifiedNameId(qualifiedName, false));
 	if (REFERENCE_COLLECTION_DEBUG) {
 		assertIncludes(result, qualifiedName);
 	}
@@ -105,82 +189,82 @@ public boolean includes(char[][][] qualifiedNames, char[][] simpleNames) {
 	return includes(qualifiedNames, simpleNames, null);
 }
 
+/**
+ * Answers whether this collection includes the given names, see {@link Query}. Callers checking the same names
+ * against many collections should create the query once with {@link #query(char[][][], char[][], char[][])}.
+ */
 public boolean includes(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
-	boolean result = doIncludes(qualifiedNames, simpleNames, rootNames);
+	return includes(query(qualifiedNames, simpleNames, rootNames));
+}
+
+/**
+ * Answers whether this collection includes at least one of the root names of the query (if any) and at least one
+ * of its qualified names and at least one of its simple names.
+ */
+public boolean includes(Query query) {
+	boolean result = doIncludes(query);
 	if (REFERENCE_COLLECTION_DEBUG) {
-		assertIncludes(result, qualifiedNames, simpleNames, rootNames);
+		assertIncludes(result, query.qualifiedNames, query.simpleNames, query.rootNames);
 	}
 	return result;
 }
 
-private boolean doIncludes(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
-	if (rootNames != null) {
-		if (!includesRootName(rootNames))
+private boolean doIncludes(Query names) {
+	Query.Ids query = names.idsIn(this.nameTable);
+	if (query.rootNameIds != null) {
+		if (!intersects(query.rootNameIds, this.rootIds))
 			return false;
 	}
+	int[] simpleNames = query.simpleNameIds;
 	// if either collection of names is null, it means it contained a well known name so we know it already has a match
-	if (simpleNames == null || qualifiedNames == null) {
-		if (simpleNames == null && qualifiedNames == null) {
+	if (simpleNames == null || query.qualifiedNameIds == null) {
+		if (simpleNames == null && query.qualifiedNameIds == null) {
 			if (JavaBuilder.DEBUG)
 				System.out.println("Found well known match"); //$NON-NLS-1$
 			return true;
-		} else if (qualifiedNames == null) {
-			return includesSimpleName(simpleNames);
+		} else if (query.qualifiedNameIds == null) {
+			return intersects(simpleNames, this.simpleNameIds);
 		}
-		return includesQualifiedName(qualifiedNames);
+		return includesQualifiedName(query);
 	}
 
-	if (simpleNames.length <= qualifiedNames.length) {
-		return includesSimpleName(simpleNames) && includesQualifiedName(qualifiedNames);
+	if (simpleNames.length <= query.qualifiedNameIds.length) {
+		return intersects(simpleNames, this.simpleNameIds) && includesQualifiedName(query);
 	} else {
-		return includesQualifiedName(qualifiedNames) && includesSimpleName(simpleNames);
+		return includesQualifiedName(query) && intersects(simpleNames, this.simpleNameIds);
 	}
 }
 
 public boolean insideRoot(char[] rootName) {
-	boolean result = sortedArrayContains(this.rootReferences, rootName, SortedCharArrays.CHAR_ARR_COMPARATOR);
+	boolean result = sortedArrayContains(this.rootIds, this.nameTable.simpleNameId(rootName, false));
 	if (REFERENCE_COLLECTION_DEBUG) {
-		if (result != debugIncludes(rootName)) {
+		if (result != debugInsideRoot(rootName)) {
 			String message = "Mismatch: " + String.valueOf(rootName) + (result ? " should not " : " should ") + " be included in "  //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
-					+ Arrays.asList(CharOperation.toStrings(this.rootReferences));
+					+ Arrays.asList(CharOperation.toStrings(getRootReferences()));
 			throw new IllegalStateException(message);
 		}
 	}
 	return result;
 }
 
-private static <T> boolean sortedArrayContains(T[] array, T element, Comparator<? super T> comparator) {
+private static boolean sortedArrayContains(int[] array, int id) {
+	if (id == ReferenceNameTable.NOT_FOUND)
+		return false; // the name is not referenced by any collection
 	int l = array.length;
 	if (l < SortedCharArrays.BINARY_SEARCH_THRESHOLD) {
 		for (int i = 0; i < l; i++)
-			if (element == array[i]) return true;
+			if (id == array[i]) return true;
 		return false;
 	}
-	return Arrays.binarySearch(array, element, comparator) >= 0;
+	return Arrays.binarySearch(array, id) >= 0;
 }
 
-private boolean includesSimpleName(char[][] simpleNames) {
-	return intersects(simpleNames, this.simpleNameReferences, SortedCharArrays.CHAR_ARR_COMPARATOR);
+private boolean includesQualifiedName(Query.Ids query) {
+	return intersects(query.qualifiedNameIds, this.qualifiedNameIds)
+			|| intersects(query.singleSegmentIds, this.simpleNameIds);
 }
 
-private boolean includesQualifiedName(char[][][] qualifiedNames) {
-	if (intersects(qualifiedNames, this.qualifiedNameReferences, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR)) {
-		return true;
-	}
-	char[][] maybeSimpleName;
-	for(int i = qualifiedNames.length - 1; i >= 0 && (maybeSimpleName = qualifiedNames[i]).length == 1; i--) {
-		if (includes(maybeSimpleName[0])) {
-			return true;
-		}
-	}
-	return false;
-}
-
-private boolean includesRootName(char[][] rootNames) {
-	return intersects(rootNames, this.rootReferences, SortedCharArrays.CHAR_ARR_COMPARATOR);
-}
-
-private static <T> boolean intersects(T[] firstSortedArr, T[] secondSortedArr, Comparator<? super T> comparator) {
+private static boolean intersects(int[] firstSortedArr, int[] secondSortedArr) {
 	/*
 	 * Both arrays are sorted, so we can walk them in pairs.
 	 * Using binary search for the remaining array elements to figure the next
@@ -188,12 +272,11 @@ private static <T> boolean intersects(T[] firstSortedArr, T[] secondSortedArr, C
 	 * have more than a few elements.
 	 */
 	for(int i = 0, l = firstSortedArr.length, j = 0, k = secondSortedArr.length; i < l && j < k;) {
-		T firstElement = firstSortedArr[i];
-		T secondElement = secondSortedArr[j];
-		int compare = comparator.compare(firstElement, secondElement);
-		if (compare == 0) {
+		int firstElement = firstSortedArr[i];
+		int secondElement = secondSortedArr[j];
+		if (firstElement == secondElement) {
 			return true;
-		} else if (compare < 0) {
+		} else if (firstElement < secondElement) {
 			/*
 			 * left side is smaller than the right side, but not exactly the right side.
 			 * Take the next element from the left and proceed.
@@ -203,7 +286,7 @@ private static <T> boolean intersects(T[] firstSortedArr, T[] secondSortedArr, C
 			 */
 			i++;
 			if (l - i > SortedCharArrays.BINARY_SEARCH_THRESHOLD) {
-				i = Arrays.binarySearch(firstSortedArr, i, l, secondElement, comparator);
+				i = Arrays.binarySearch(firstSortedArr, i, l, secondElement);
 				if (i >= 0) {
 					return true;
 				}
@@ -215,7 +298,7 @@ private static <T> boolean intersects(T[] firstSortedArr, T[] secondSortedArr, C
 			 */
 			j++;
 			if (k - j > SortedCharArrays.BINARY_SEARCH_THRESHOLD) {
-				j = Arrays.binarySearch(secondSortedArr, j, k, firstElement, comparator);
+				j = Arrays.binarySearch(secondSortedArr, j, k, firstElement);
 				if (j >= 0) {
 					return true;
 				}
@@ -226,14 +309,135 @@ private static <T> boolean intersects(T[] firstSortedArr, T[] secondSortedArr, C
 	return false;
 }
 
-private static char[][] ensureContainedInSortedOrder(char[][] sortedArray, char[] entry) {
-	int idx = Arrays.binarySearch(sortedArray, entry, SortedCharArrays.CHAR_ARR_COMPARATOR);
-	if (idx < 0) {
-		idx = -(idx + 1);
-		char[][] result = SortedCharArrays.insertIntoArray(sortedArray, new char[sortedArray.length + 1][], entry, idx, sortedArray.length);
+private static int[] ensureContainedInSortedOrder(int[] sortedArray, int id) {
+	int idx = Arrays.binarySearch(sortedArray, id);
+	if (idx < 0)
+		return insertIntoArray(sortedArray, id, -(idx + 1));
+	return sortedArray;
+}
+
+private static int[] insertIntoArray(int[] sortedArray, int id, int idx) {
+	int length = sortedArray.length;
+	int[] result = new int[length + 1];
+	System.arraycopy(sortedArray, 0, result, 0, idx);
+	result[idx] = id;
+	System.arraycopy(sortedArray, idx, result, idx + 1, length - idx);
+	return result;
+}
+
+/**
+ * Answers the qualified names of this collection, sorted like the result of
+ * {@link #internQualifiedNames(char[][][])}.
+ */
+public char[][][] getQualifiedNameReferences() {
+	char[][][] names = new char[this.qualifiedNameIds.length][][];
+	for (int i = 0; i < names.length; i++)
+		names[i] = this.nameTable.qualifiedName(this.qualifiedNameIds[i]);
+	Arrays.sort(names, SortedCharArrays.CHAR_CHAR_ARR_COMPARATOR);
+	return names;
+}
+
+/**
+ * Answers the simple names of this collection, sorted like the result of
+ * {@link #internSimpleNames(char[][], boolean)}.
+ */
+public char[][] getSimpleNameReferences() {
+	return simpleNames(this.nameTable, this.simpleNameIds);
+}
+
+/**
+ * Answers the root names of this collection, sorted like the result of
+ * {@link #internSimpleNames(char[][], boolean)}.
+ */
+public char[][] getRootReferences() {
+	return simpleNames(this.nameTable, this.rootIds);
+}
+
+private static char[][] simpleNames(ReferenceNameTable nameTable, int[] ids) {
+	char[][] names = new char[ids.length][];
+	for (int i = 0; i < names.length; i++)
+		names[i] = nameTable.simpleName(ids[i]);
+	Arrays.sort(names, SortedCharArrays.CHAR_ARR_COMPARATOR);
+	return names;
+}
+
+/**
+ * Names to look up in many collections, converted once to the ids of the name table of the collections.
+ * <p>
+ * A null array of qualified or simple names means that the names contained a well known name, which every
+ * collection is assumed to include, a null array of root names means that the root names are not checked. Names
+ * which no collection references are dropped.
+ */
+public static final class Query {
+	final char[][][] qualifiedNames;
+	final char[][] simpleNames;
+	final char[][] rootNames;
+	// the ids of the names in the table of the last collection asked, the collections of a state share one table
+	private volatile Ids ids;
+
+	Query(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
+		this.qualifiedNames = qualifiedNames;
+		this.simpleNames = simpleNames;
+		this.rootNames = rootNames;
+	}
+
+	Ids idsIn(ReferenceNameTable nameTable) {
+		Ids result = this.ids;
+		if (result == null || result.nameTable != nameTable)
+			this.ids = result = new Ids(nameTable, this);
 		return result;
 	}
-	return sortedArray;
+
+	static final class Ids {
+		final ReferenceNameTable nameTable;
+		final int[] qualifiedNameIds;
+		// ids of the simple names which are qualified names as well, they match the simple names of a collection
+		final int[] singleSegmentIds;
+		final int[] simpleNameIds;
+		final int[] rootNameIds;
+
+		Ids(ReferenceNameTable nameTable, Query query) {
+			this.nameTable = nameTable;
+			if (query.qualifiedNames == null) {
+				this.qualifiedNameIds = null;
+				this.singleSegmentIds = null;
+			} else {
+				int[] ids = new int[query.qualifiedNames.length];
+				int[] singleSegmentIds = new int[query.qualifiedNames.length];
+				int count = 0, singleSegmentCount = 0;
+				for (char[][] qualifiedName : query.qualifiedNames) {
+					int id = nameTable.qualifiedNameId(qualifiedName, false);
+					if (id != ReferenceNameTable.NOT_FOUND)
+						ids[count++] = id;
+					if (qualifiedName.length == 1 && (id = nameTable.simpleNameId(qualifiedName[0], false)) != ReferenceNameTable.NOT_FOUND)
+						singleSegmentIds[singleSegmentCount++] = id;
+				}
+				this.qualifiedNameIds = sortedIds(ids, count);
+				this.singleSegmentIds = sortedIds(singleSegmentIds, singleSegmentCount);
+			}
+			this.simpleNameIds = query.simpleNames == null ? null : knownSimpleNameIds(nameTable, query.simpleNames);
+			this.rootNameIds = query.rootNames == null ? null : knownSimpleNameIds(nameTable, query.rootNames);
+		}
+
+		private static int[] knownSimpleNameIds(ReferenceNameTable nameTable, char[][] simpleNames) {
+			int[] ids = new int[simpleNames.length];
+			int count = 0;
+			for (char[] simpleName : simpleNames) {
+				int id = nameTable.simpleNameId(simpleName, false);
+				if (id != ReferenceNameTable.NOT_FOUND)
+					ids[count++] = id;
+			}
+			return sortedIds(ids, count);
+		}
+	}
+}
+
+/**
+ * Answers the query for the given names, with the same meaning as the arguments of
+ * {@link #includes(char[][][], char[][], char[][])}.
+ */
+public static Query query(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
+	return new Query(qualifiedNames, simpleNames, rootNames);
 }
 
 private static boolean isWellKnownQualifiedName(char[][] qualifiedName) {
@@ -248,6 +452,18 @@ private static boolean isWellKnownQualifiedName(char[][] qualifiedName) {
 	return false;
 }
 
+private static boolean isWellKnownSimpleName(char[] simpleName) {
+	for (int i = 0, m = WellKnownSimpleNames.length, sLength = simpleName.length; i < m; i++) {
+		char[] wellKnownName = WellKnownSimpleNames[i];
+		if (sLength > wellKnownName.length)
+			break; // all remaining well known names are shorter
+		if (CharOperation.equals(simpleName, wellKnownName)) {
+			return true;
+		}
+	}
+	return false;
+}
+
 // When any type is compiled, its methods are verified for certain problems
 // the MethodVerifier requests 3 well known types which end up in the reference collection
 // having WellKnownQualifiedNames & WellKnownSimpleNames, saves every type 40 bytes
@@ -272,7 +488,11 @@ static final char[][] WellKnownSimpleNames = new char[][] {
 
 static final char[][][] EmptyQualifiedNames = new char[0][][];
 static final char[][] EmptySimpleNames = CharOperation.NO_CHAR_CHAR;
+static final int[] EmptyIds = new int[0];
 
+// the interned names are shared by the builders of all projects, which may run concurrently (see
+// JavaBuilder#getRule(int, Map)), so they are only accessed while holding this lock
+private static final Object InternedNamesLock = new Object();
 // each array contains qualified char[][], one for size 2, 3, 4, 5, 6, 7 & the rest
 static final int MaxQualifiedNames = 7;
 static QualifiedNameSet[] InternedQualifiedNames = new QualifiedNameSet[MaxQualifiedNames];
@@ -378,7 +598,9 @@ static char[][][] internQualifiedNames(char[][][] qualifiedNames, boolean keepWe
 			}
 			prev = qualifiedName;
 		}
-		keepers[index++] = internedNames.add(qualifiedName);
+		synchronized (InternedNamesLock) {
+			keepers[index++] = internedNames.add(qualifiedName);
+		}
 	}
 	if (length > index) {
 		if (index == 0) return EmptyQualifiedNames;
@@ -471,7 +693,9 @@ static char[][] internSimpleNames(char[][] simpleNames, boolean removeWellKnown,
 		// InternedSimpleNames[1] is for size 1...
 		// InternedSimpleNames[29] is for size 29
 		NameSet internedNames = InternedSimpleNames[sLength < MaxSimpleNames ? sLength : 0];
-		keepers[index++] = internedNames.add(name);
+		synchronized (InternedNamesLock) {
+			keepers[index++] = internedNames.add(name);
+		}
 		// This code is duplicated to encourage the JIT to inline more stuff
 		if (doSort && isSorted) {
 			if (prev != null && SortedCharArrays.compareCharArray(prev, name) > 0) {
@@ -496,7 +720,7 @@ public static boolean REFERENCE_COLLECTION_DEBUG = false;
 private void assertIncludes(boolean expectation, char[] simpleName) {
 	if (expectation != debugIncludes(simpleName)) {
 		String message = "Mismatch: " + String.valueOf(simpleName) + (expectation ? " should not " : " should ") + " be included in "  //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
-				+ Arrays.asList(CharOperation.toStrings(this.simpleNameReferences));
+				+ Arrays.asList(CharOperation.toStrings(getSimpleNameReferences()));
 		throw new IllegalStateException(message);
 	}
 }
@@ -504,7 +728,7 @@ private void assertIncludes(boolean expectation, char[] simpleName) {
 private void assertIncludes(boolean expectation, char[][] qualifiedName) {
 	if (expectation != debugIncludes(qualifiedName)) {
 		String message = "Mismatch: " + CharOperation.toString(qualifiedName) + (expectation ? " should not " : " should ") + " be included in "  //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
-				+ qualifiedNamesToString(this.qualifiedNameReferences);
+				+ qualifiedNamesToString(getQualifiedNameReferences());
 		throw new IllegalStateException(message);
 	}
 }
@@ -512,9 +736,9 @@ private void assertIncludes(boolean expectation, char[][] qualifiedName) {
 private void assertIncludes(boolean expectation, char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
 	if (expectation != debugIncludes(qualifiedNames, simpleNames, rootNames)) {
 		String message = String.format("Mismatched includes(..): ReferenceCollection([%s], %s, %s).includes([%s], %s, %s)", //$NON-NLS-1$
-				qualifiedNamesToString(this.qualifiedNameReferences),
-				Arrays.toString(CharOperation.toStrings(this.simpleNameReferences)),
-				Arrays.toString(CharOperation.toStrings(this.rootReferences)),
+				qualifiedNamesToString(getQualifiedNameReferences()),
+				Arrays.toString(CharOperation.toStrings(getSimpleNameReferences())),
+				Arrays.toString(CharOperation.toStrings(getRootReferences())),
 				qualifiedNamesToString(qualifiedNames),
 				Arrays.toString(CharOperation.toStrings(simpleNames)),
 				Arrays.toString(CharOperation.toStrings(rootNames))
@@ -594,20 +818,20 @@ private boolean debugIncludes(char[][][] qualifiedNames, char[][] simpleNames, c
 }
 
 private boolean debugInsideRoot(char[] rootName) {
-	for (char[] name : this.rootReferences)
-		if (rootName == name) return true;
+	for (char[] name : getRootReferences())
+		if (CharOperation.equals(rootName, name)) return true;
 	return false;
 }
 
 private boolean debugIncludes(char[] simpleName) {
-	for (char[] name : this.simpleNameReferences)
-		if (simpleName == name) return true;
+	for (char[] name : getSimpleNameReferences())
+		if (CharOperation.equals(simpleName, name)) return true;
 	return false;
 }
 
 private boolean debugIncludes(char[][] qualifiedName) {
-	for (char[][] name : this.qualifiedNameReferences)
-		if (qualifiedName == name) return true;
+	for (char[][] name : getQualifiedNameReferences())
+		if (CharOperation.equals(qualifiedName, name)) return true;
 	return false;
 }
 
@@ -625,9 +849,15 @@ public boolean equals(Object obj) {
 		return false;
 	}
 	ReferenceCollection other = (ReferenceCollection) obj;
-	return Arrays.deepEquals(this.qualifiedNameReferences, other.qualifiedNameReferences)
-			&& Arrays.deepEquals(this.rootReferences, other.rootReferences)
-			&& Arrays.deepEquals(this.simpleNameReferences, other.simpleNameReferences);
+	if (this.nameTable != other.nameTable) {
+		// the collections of different states, like a state and the state read back from disk
+		return Arrays.deepEquals(getQualifiedNameReferences(), other.getQualifiedNameReferences())
+				&& Arrays.deepEquals(getRootReferences(), other.getRootReferences())
+				&& Arrays.deepEquals(getSimpleNameReferences(), other.getSimpleNameReferences());
+	}
+	return Arrays.equals(this.qualifiedNameIds, other.qualifiedNameIds)
+			&& Arrays.equals(this.rootIds, other.rootIds)
+			&& Arrays.equals(this.simpleNameIds, other.simpleNameIds);
 }
 
 }
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.util.Arrays;
+import org.eclipse.jdt.core.compiler.CharOperation;
+
+/**
+ * Table of the names referenced by the {@link ReferenceCollection}s of one build {@link State}, which identifies each
+ * simple name by an int and each qualified name by another int (the two kinds of ids are unrelated). A qualified name
+ * is stored as the ids of its simple names.
+ * <p>
+ * Ids are assigned in the order names are added and are never reused. An incremental build shares the table of the
+ * state it starts from, a full build starts a new table and reading a state from disk rebuilds the table from the
+ * names the state still references, so the names of removed types are dropped with the last state using them.
+ */
+final class ReferenceNameTable {
+
+static final int NOT_FOUND = -1;
+
+// id -> name
+private char[][] simpleNames = new char[1024][];
+private int simpleNameCount;
+// open addressing table of the simple names, holds (id + 1) or 0 for an empty slot
+private int[] simpleNameSlots = new int[2048];
+
+// id -> ids of the simple names
+private int[][] qualifiedNames = new int[1024][];
+private int qualifiedNameCount;
+// open addressing table of the qualified names, holds (id + 1) or 0 for an empty slot
+private int[] qualifiedNameSlots = new int[2048];
+
+/**
+ * Answers the id of the given simple name, or {@link #NOT_FOUND} if the name is not in the table and should not be
+ * added.
+ */
+synchronized int simpleNameId(char[] name, boolean add) {
+	int mask = this.simpleNameSlots.length - 1;
+	int index = CharOperation.hashCode(name) & mask;
+	int slot;
+	while ((slot = this.simpleNameSlots[index]) != 0) {
+		if (CharOperation.equals(this.simpleNames[slot - 1], name))
+			return slot - 1;
+		index = (index + 1) & mask;
+	}
+	if (!add)
+		return NOT_FOUND;
+
+	int id = this.simpleNameCount++;
+	if (id == this.simpleNames.length)
+		System.arraycopy(this.simpleNames, 0, this.simpleNames = new char[id * 2][], 0, id);
+	this.simpleNames[id] = name;
+	this.simpleNameSlots[index] = id + 1;
+	if (this.simpleNameCount * 2 > this.simpleNameSlots.length)
+		rehashSimpleNames();
+	return id;
+}
+
+/**
+ * Answers the id of the given qualified name, or {@link #NOT_FOUND} if the name is not in the table and should not
+ * be added.
+ */
+synchronized int qualifiedNameId(char[][] name, boolean add) {
+	int[] segments = new int[name.length];
+	for (int i = 0; i < segments.length; i++) {
+		if ((segments[i] = simpleNameId(name[i], add)) == NOT_FOUND)
+			return NOT_FOUND;
+	}
+	int mask = this.qualifiedNameSlots.length - 1;
+	int index = Arrays.hashCode(segments) & mask;
+	int slot;
+	while ((slot = this.qualifiedNameSlots[index]) != 0) {
+		if (Arrays.equals(this.qualifiedNames[slot - 1], segments))
+			return slot - 1;
+		index = (index + 1) & mask;
+	}
+	if (!add)
+		return NOT_FOUND;
+
+	int id = this.qualifiedNameCount++;
+	if (id == this.qualifiedNames.length)
+		System.arraycopy(this.qualifiedNames, 0, this.qualifiedNames = new int[id * 2][], 0, id);
+	this.qualifiedNames[id] = segments;
+	this.qualifiedNameSlots[index] = id + 1;
+	if (this.qualifiedNameCount * 2 > this.qualifiedNameSlots.length)
+		rehashQualifiedNames();
+	return id;
+}
+
+synchronized char[] simpleName(int id) {
+	return this.simpleNames[id];
+}
+
+/**
+ * Answers the ids of the simple names of the given qualified name, the array must not be modified.
+ */
+synchronized int[] qualifiedNameSegments(int id) {
+	return this.qualifiedNames[id];
+}
+
+synchronized char[][] qualifiedName(int id) {
+	int[] segments = this.qualifiedNames[id];
+	char[][] name = new char[segments.length][];
+	for (int i = 0; i < segments.length; i++)
+		name[i] = this.simpleNames[segments[i]];
+	return name;
+}
+
+private void rehashSimpleNames() {
+	int[] slots = new int[this.simpleNameSlots.length * 2];
+	int mask = slots.length - 1;
+	for (int id = 0; id < this.simpleNameCount; id++) {
+		int index = CharOperation.hashCode(this.simpleNames[id]) & mask;
+		while (slots[index] != 0)
+			index = (index + 1) & mask;
+		slots[index] = id + 1;
+	}
+	this.simpleNameSlots = slots;
+}
+
+private void rehashQualifiedNames() {
+	int[] slots = new int[this.qualifiedNameSlots.length * 2];
+	int mask = slots.length - 1;
+	for (int id = 0; id < this.qualifiedNameCount; id++) {
+		int index = Arrays.hashCode(this.qualifiedNames[id]) & mask;
+		while (slots[index] != 0)
+			index = (index + 1) & mask;
+		slots[index] = id + 1;
+	}
+	this.qualifiedNameSlots = slots;
+}
+
+@Override
+public synchronized String toString() {
+	return this.simpleNameCount + " simple names, " + this.qualifiedNameCount + " qualified names"; //$NON-NLS-1$ //$NON-NLS-2$
+}
+}
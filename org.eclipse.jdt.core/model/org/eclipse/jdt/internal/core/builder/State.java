@@ -52,8 +52,6 @@ import org.eclipse.jdt.internal.compiler.env.IUpdatableModule;
 import org.eclipse.jdt.internal.compiler.env.IUpdatableModule.AddExports;
 import org.eclipse.jdt.internal.compiler.env.IUpdatableModule.AddReads;
 import org.eclipse.jdt.internal.compiler.env.IUpdatableModule.UpdateKind;
-import org.eclipse.jdt.internal.compiler.util.CharArray;
-import org.eclipse.jdt.internal.compiler.util.CharCharArray;
 import org.eclipse.jdt.internal.compiler.util.Util;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.util.DeduplicationUtil;
@@ -69,6 +67,8 @@ public ClasspathLocation[] binaryLocations;
 public ClasspathLocation[] testBinaryLocations;
 // keyed by the project relative path of the type (i.e. "src1/p1/p2/A.java"), value is a ReferenceCollection or an AdditionalTypeCollection
 Map<String, ReferenceCollection> references;
+// the names of the references, shared with the states of the incremental builds which start from this state
+ReferenceNameTable nameTable;
 // Holds a mapping of types to a path to detect duplicate type definitions (possibly depending on the release for multi-release types)
 public TypeLocators typeLocators;
 
@@ -106,6 +106,7 @@ protected State(JavaBuilder javaBuilder) {
 	this.testSourceLocations = javaBuilder.testNameEnvironment.sourceLocations;
 	this.testBinaryLocations = javaBuilder.testNameEnvironment.binaryLocations;
 	this.references = new LinkedHashMap<>(7);
+	this.nameTable = new ReferenceNameTable();
 	this.typeLocators = new TypeLocators();
 
 	this.buildNumber = 0; // indicates a full build
@@ -128,6 +129,7 @@ void copyFrom(State lastState) {
 	this.structuralBuildTimes = lastState.structuralBuildTimes;
 
 	this.references = new LinkedHashMap<>(lastState.references);
+	this.nameTable = lastState.nameTable;
 	this.typeLocators = new TypeLocators(lastState.typeLocators);
 }
 
@@ -203,11 +205,11 @@ boolean isSourceFolderEmpty(IContainer sourceFolder) {
 
 void record(String typeLocator, char[][][] qualifiedRefs, char[][] simpleRefs, char[][] rootRefs, char[] mainTypeName, ArrayList typeNames) {
 	if (typeNames.size() == 1 && CharOperation.equals(mainTypeName, (char[]) typeNames.get(0))) {
-		this.references.put(typeLocator, new ReferenceCollection(qualifiedRefs, simpleRefs, rootRefs));
+		this.references.put(typeLocator, new ReferenceCollection(this.nameTable, qualifiedRefs, simpleRefs, rootRefs));
 	} else {
 		char[][] definedTypeNames = new char[typeNames.size()][]; // can be empty when no types are defined
 		typeNames.toArray(definedTypeNames);
-		this.references.put(typeLocator, new AdditionalTypeCollection(definedTypeNames, qualifiedRefs, simpleRefs, rootRefs));
+		this.references.put(typeLocator, new AdditionalTypeCollection(this.nameTable, definedTypeNames, qualifiedRefs, simpleRefs, rootRefs));
 	}
 }
 
@@ -290,19 +292,25 @@ static State read(IProject project, DataInputStream input) throws IOException, C
 	newState.typeLocators.read(in, internedTypeLocators);
 
 	/*
-	 * Here we read global arrays of names for the entire project - do not mess up the ordering while interning
+	 * Here we read arrays of names for the entire project - do not mess up the ordering, the collections refer to
+	 * the names by index
 	 */
-	char[][] internedRootNames = ReferenceCollection.internSimpleNames(readNames(in), false /* keep well known */, false /* do not sort */);
-	char[][] internedSimpleNames = ReferenceCollection.internSimpleNames(readNames(in), false /* keep well known */, false /* do not sort */);
-	char[][][] internedQualifiedNames = new char[length = in.readInt()][][];
+	char[][] rootNames = readNames(in);
+	char[][] simpleNames = readNames(in);
+	char[][][] qualifiedNames = new char[length = in.readInt()][][];
 	for (int i = 0; i < length; i++) {
 		int qLength = in.readInt();
 		char[][] qName = new char[qLength][];
 		for (int j = 0; j < qLength; j++)
-			qName[j] = internedSimpleNames[in.readIntInRange(internedSimpleNames.length)];
-		internedQualifiedNames[i] = qName;
+			qName[j] = simpleNames[in.readIntInRange(simpleNames.length)];
+		qualifiedNames[i] = qName;
 	}
-	internedQualifiedNames = ReferenceCollection.internQualifiedNames(internedQualifiedNames, false /* drop well known */, false /* do not sort */);
+	// the file only holds the names still referenced, they make up the name table of the state,
+	// well known names are dropped from the collections
+	ReferenceNameTable nameTable = newState.nameTable = new ReferenceNameTable();
+	int[] rootNameIds = ReferenceCollection.simpleNameIdTable(nameTable, rootNames, false /* keep well known */);
+	int[] simpleNameIds = ReferenceCollection.simpleNameIdTable(nameTable, simpleNames, true /* drop well known */);
+	int[] qualifiedNameIds = ReferenceCollection.qualifiedNameIdTable(nameTable, qualifiedNames);
 
 	length = in.readInt();
 	newState.references = new LinkedHashMap((int) (length / 0.75 + 1));
@@ -312,28 +320,12 @@ static State read(IProject project, DataInputStream input) throws IOException, C
 		switch (in.readByte()) {
 			case 1 :
 				char[][] additionalTypeNames = readNames(in);
-				char[][][] qualifiedNames = new char[in.readInt()][][];
-				for (int j = 0, m = qualifiedNames.length; j < m; j++)
-					qualifiedNames[j] = internedQualifiedNames[in.readIntInRange(internedQualifiedNames.length)];
-				char[][] simpleNames = new char[in.readInt()][];
-				for (int j = 0, m = simpleNames.length; j < m; j++)
-					simpleNames[j] = internedSimpleNames[in.readIntInRange(internedSimpleNames.length)];
-				char[][] rootNames = new char[in.readInt()][];
-				for (int j = 0, m = rootNames.length; j < m; j++)
-					rootNames[j] = internedRootNames[in.readIntInRange(internedRootNames.length)];
-				collection = new AdditionalTypeCollection(additionalTypeNames, qualifiedNames, simpleNames, rootNames);
+				collection = new AdditionalTypeCollection(nameTable, additionalTypeNames, readNameIds(in, qualifiedNameIds),
+						readNameIds(in, simpleNameIds), readNameIds(in, rootNameIds));
 				break;
 			case 2 :
-				char[][][] qNames = new char[in.readInt()][][];
-				for (int j = 0, m = qNames.length; j < m; j++)
-					qNames[j] = internedQualifiedNames[in.readIntInRange(internedQualifiedNames.length)];
-				char[][] sNames = new char[in.readInt()][];
-				for (int j = 0, m = sNames.length; j < m; j++)
-					sNames[j] = internedSimpleNames[in.readIntInRange(internedSimpleNames.length)];
-				char[][] rNames = new char[in.readInt()][];
-				for (int j = 0, m = rNames.length; j < m; j++)
-					rNames[j] = internedRootNames[in.readIntInRange(internedRootNames.length)];
-				collection = new ReferenceCollection(qNames, sNames, rNames);
+				collection = new ReferenceCollection(nameTable, readNameIds(in, qualifiedNameIds), readNameIds(in, simpleNameIds),
+						readNameIds(in, rootNameIds));
 		}
 		newState.references.put(typeLocator, collection);
 	}
@@ -561,53 +553,55 @@ void write(DataOutputStream output) throws IOException {
  * char[][][]	Interned qualified names
  * char[][]	Interned simple names
  */
-	Map<CharArray, Integer> internedRootNames = new HashMap<>();
-	Map<CharCharArray, Integer> internedQualifiedNames = new HashMap<>();
-	Map<CharArray, Integer> internedSimpleNames = new HashMap<>();
+	// the collections keep the ids of their names in the name table of the state, map them to indexes in this file
+	Map<Integer, Integer> internedRootNames = new HashMap<>();
+	Map<Integer, Integer> internedQualifiedNames = new HashMap<>();
+	Map<Integer, Integer> internedSimpleNames = new HashMap<>();
+	ReferenceNameTable nameTable = this.nameTable;
 	for (ReferenceCollection collection : this.references.values()) {
-		for (char[] rName : collection.rootReferences) {
+		for (int rId : collection.rootIds) {
 			// remember the names have been interned
-			internedRootNames.putIfAbsent(new CharArray(rName), internedRootNames.size());
+			internedRootNames.putIfAbsent(rId, internedRootNames.size());
 		}
-		for (char[][] qName : collection.qualifiedNameReferences) {
+		for (int qId : collection.qualifiedNameIds) {
 			// remember the names have been interned
-			if (internedQualifiedNames.putIfAbsent(new CharCharArray(qName), internedQualifiedNames.size()) == null) {
-				for (char[] sName : qName) {
+			if (internedQualifiedNames.putIfAbsent(qId, internedQualifiedNames.size()) == null) {
+				for (int sId : nameTable.qualifiedNameSegments(qId)) {
 					// remember the names have been interned
-					internedSimpleNames.putIfAbsent(new CharArray(sName), internedSimpleNames.size());
+					internedSimpleNames.putIfAbsent(sId, internedSimpleNames.size());
 				}
 			}
 		}
-		for (char[] sName : collection.simpleNameReferences) {
+		for (int sId : collection.simpleNameIds) {
 			// remember the names have been interned
-			internedSimpleNames.putIfAbsent(new CharArray(sName), internedSimpleNames.size());
+			internedSimpleNames.putIfAbsent(sId, internedSimpleNames.size());
 		}
 	}
 	char[][] internedArray = new char[internedRootNames.size()][];
-	for (Entry<CharArray, Integer> entry: internedRootNames.entrySet()) {
+	for (Entry<Integer, Integer> entry: internedRootNames.entrySet()) {
 			int index = entry.getValue().intValue();
-			internedArray[index] = entry.getKey().getKey();
+			internedArray[index] = nameTable.simpleName(entry.getKey().intValue());
 	}
 	writeNames(internedArray, out);
 	// now write the interned simple names
 	internedArray = new char[internedSimpleNames.size()][];
-	for (Entry<CharArray, Integer> entry: internedSimpleNames.entrySet()) {
+	for (Entry<Integer, Integer> entry: internedSimpleNames.entrySet()) {
 		int index = entry.getValue().intValue();
-		internedArray[index] = entry.getKey().getKey();
+		internedArray[index] = nameTable.simpleName(entry.getKey().intValue());
 	}
 	writeNames(internedArray, out);
 	// now write the interned qualified names as arrays of interned simple names
-	char[][][] internedQArray = new char[internedQualifiedNames.size()][][];
-	for (Entry<CharCharArray, Integer> entry: internedQualifiedNames.entrySet()) {
+	int[][] internedQArray = new int[internedQualifiedNames.size()][];
+	for (Entry<Integer, Integer> entry: internedQualifiedNames.entrySet()) {
 		int index = entry.getValue().intValue();
-		internedQArray[index] = entry.getKey().getKey();
+		internedQArray[index] = nameTable.qualifiedNameSegments(entry.getKey().intValue());
 	}
 	out.writeInt(internedQArray.length);
-	for (char[][] qName : internedQArray) {
+	for (int[] qName : internedQArray) {
 		int qLength = qName.length;
 		out.writeInt(qLength);
-		for (char[] qN:qName) {
-			Integer index = internedSimpleNames.get(new CharArray(qN));
+		for (int qN : qName) {
+			Integer index = internedSimpleNames.get(qN);
 			out.writeIntInRange(index.intValue(), internedSimpleNames.size());
 		}
 	}
@@ -630,27 +624,17 @@ void write(DataOutputStream output) throws IOException {
 		} else {
 			out.writeByte(2);
 		}
-		char[][][] qNames = collection.qualifiedNameReferences;
-		int qLength = qNames.length;
-		out.writeInt(qLength);
-		for (char[][] qName:qNames) {
-			Integer i = internedQualifiedNames.get(new CharCharArray(qName));
-			out.writeIntInRange(i.intValue(), internedQualifiedNames.size());
-		}
-		char[][] sNames = collection.simpleNameReferences;
-		int sLength = sNames.length;
-		out.writeInt(sLength);
-		for (char[] sName: sNames) {
-			Integer i = internedSimpleNames.get(new CharArray(sName));
-			out.writeIntInRange(i.intValue(), internedSimpleNames.size());
-		}
-		char[][] rNames = collection.rootReferences;
-		int rLength = rNames.length;
-		out.writeInt(rLength);
-		for (char[] rName: rNames) {
-			Integer i = internedRootNames.get(new CharArray(rName));
-			out.writeIntInRange(i.intValue(), internedRootNames.size());
-		}
+		writeNameIds(collection.qualifiedNameIds, internedQualifiedNames, out);
+		writeNameIds(collection.simpleNameIds, internedSimpleNames, out);
+		writeNameIds(collection.rootIds, internedRootNames, out);
+	}
+}
+
+private static void writeNameIds(int[] ids, Map<Integer, Integer> internedNames, CompressedWriter out) throws IOException {
+	out.writeInt(ids.length);
+	for (int id : ids) {
+		Integer i = internedNames.get(id);
+		out.writeIntInRange(i.intValue(), internedNames.size());
 	}
 }
 
@@ -790,6 +774,17 @@ private static char[][] readNames(CompressedReader in) throws IOException {
 	return names;
 }
 
+private static int[] readNameIds(CompressedReader in, int[] nameIds) throws IOException {
+	int[] ids = new int[in.readInt()];
+	int count = 0;
+	for (int i = 0; i < ids.length; i++) {
+		int id = nameIds[in.readIntInRange(nameIds.length)];
+		if (id != ReferenceNameTable.NOT_FOUND)
+			ids[count++] = id;
+	}
+	return ReferenceCollection.sortedIds(ids, count);
+}
+
 private void writeNullablePath(String path, CompressedWriter out) throws IOException {
 	out.writeStringUsingDictionary(path != null ? path : ""); //$NON-NLS-1$
 }
@@ -18,10 +18,18 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
@@ -37,6 +45,7 @@ import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.internal.compiler.env.AccessRuleSet;
 import org.eclipse.jdt.internal.compiler.env.IBinaryType;
+import org.eclipse.jdt.internal.compiler.env.IGenericType;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
 import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
 import org.eclipse.jdt.internal.compiler.util.HashtableOfObjectToInt;
@@ -53,7 +62,6 @@ import org.eclipse.jdt.internal.core.search.IndexQueryRequestor;
 import org.eclipse.jdt.internal.core.search.JavaSearchParticipant;
 import org.eclipse.jdt.internal.core.search.SubTypeSearchJob;
 import org.eclipse.jdt.internal.core.search.indexing.IIndexConstants;
-import org.eclipse.jdt.internal.core.search.indexing.IndexManager;
 import org.eclipse.jdt.internal.core.search.indexing.QualifierQuery;
 import org.eclipse.jdt.internal.core.search.indexing.QualifierQuery.QueryCategory;
 import org.eclipse.jdt.internal.core.search.matching.MatchLocator;
@@ -66,6 +74,13 @@ import org.eclipse.jdt.internal.core.util.Util;
 public class IndexBasedHierarchyBuilder extends HierarchyBuilder implements SuffixConstants {
 	public static final int MAXTICKS = 800; // heuristic so that there still progress for deep hierachies
 
+	/**
+	 * System property giving the number of threads which search the possible subtypes of a level of the hierarchy
+	 * and resolve the possible subtypes of the projects concurrently. The hierarchy is built by the calling thread
+	 * alone when it is not set or less than 2.
+	 */
+	public static final String THREADS_PROPERTY = "jdt.core.hierarchy.threads"; //$NON-NLS-1$
+
 	/**
 	 * The scope this hierarchy builder should restrain results to.
 	 */
@@ -121,6 +136,57 @@ public class IndexBasedHierarchyBuilder extends HierarchyBuilder implements Suff
 		final char[] qualifiedName;
 	}
 
+	/**
+	 * The possible subtypes found in a project.
+	 */
+	private static class ProjectSubtypes {
+		ProjectSubtypes(JavaProject project, ArrayList subtypes) {
+			this.project = project;
+			this.subtypes = subtypes;
+		}
+
+		final JavaProject project;
+		final ArrayList subtypes;
+	}
+
+	/**
+	 * Resolves the possible subtypes of a project on a worker thread. The types it connects are recorded and connected
+	 * in the hierarchy by the building thread, in the order of the projects.
+	 */
+	private static final class ProjectBuilder extends IndexBasedHierarchyBuilder {
+		private final IndexBasedHierarchyBuilder builder;
+		private final List<Runnable> connections = new ArrayList<>();
+
+		ProjectBuilder(IndexBasedHierarchyBuilder builder, TypeHierarchy hierarchy) throws JavaModelException {
+			super(hierarchy, builder.scope);
+			this.builder = builder;
+			this.binariesFromIndexMatches = builder.binariesFromIndexMatches;
+		}
+		@Override
+		public void connect(IGenericType type, IType typeHandle, IType superclassHandle, IType[] superinterfaceHandles) {
+			this.connections.add(() -> this.builder.connect(type, typeHandle, superclassHandle, superinterfaceHandles));
+		}
+		void connectAll() {
+			this.connections.forEach(Runnable::run);
+			this.builder.hierarchy.missingTypes.addAll(this.hierarchy.missingTypes);
+		}
+	}
+
+	/**
+	 * Forwards the cancelation of the building thread's monitor to the worker threads.
+	 */
+	private static final class CancelMonitor extends NullProgressMonitor {
+		private final IProgressMonitor monitor;
+
+		CancelMonitor(IProgressMonitor monitor) {
+			this.monitor = monitor;
+		}
+		@Override
+		public boolean isCanceled() {
+			return this.monitor.isCanceled();
+		}
+	}
+
 public IndexBasedHierarchyBuilder(TypeHierarchy hierarchy, IJavaSearchScope scope) throws JavaModelException {
 	super(hierarchy);
 	this.binariesFromIndexMatches = new HashMap(10);
@@ -300,6 +366,8 @@ private void buildFromPotentialSubtypes(String[] allPotentialSubTypes, HashSet l
 	Arrays.sort(allPotentialSubTypes);
 
 	ArrayList potentialSubtypes = new ArrayList();
+	int threads = Integer.getInteger(THREADS_PROPERTY, 1).intValue();
+	List<ProjectSubtypes> projects = threads > 1 ? new ArrayList<>() : null; // resolved concurrently once all are known
 	try {
 		SubMonitor loopMonitor = SubMonitor.convert(subMonitor.split(95), length);
 		// create element infos for subtypes
@@ -333,7 +401,10 @@ private void buildFromPotentialSubtypes(String[] allPotentialSubTypes, HashSet l
 				} else if (!currentProject.equals(project)) {
 					nextProject = project;
 					// build current project
-					buildForProject((JavaProject)currentProject, potentialSubtypes, workingCopies, localTypes, split);
+					if (projects != null)
+						projects.add(new ProjectSubtypes((JavaProject)currentProject, potentialSubtypes));
+					else
+						buildForProject((JavaProject)currentProject, potentialSubtypes, workingCopies, localTypes, split);
 					potentialSubtypes = new ArrayList(5);
 				}
 
@@ -358,7 +429,12 @@ private void buildFromPotentialSubtypes(String[] allPotentialSubTypes, HashSet l
 					potentialSubtypes.add(focusType.getCompilationUnit());
 				}
 			}
-			buildForProject((JavaProject)currentProject, potentialSubtypes, workingCopies, localTypes, subMonitor.split(1));
+			if (projects != null) {
+				projects.add(new ProjectSubtypes((JavaProject)currentProject, potentialSubtypes));
+				buildConcurrently(projects, workingCopies, localTypes, threads, subMonitor.split(1));
+			} else {
+				buildForProject((JavaProject)currentProject, potentialSubtypes, workingCopies, localTypes, subMonitor.split(1));
+			}
 		} catch (JavaModelException e) {
 			// ignore
 		}
@@ -388,6 +464,67 @@ private void buildFromPotentialSubtypes(String[] allPotentialSubTypes, HashSet l
 	}
 }
 
+/**
+ * Resolves the possible subtypes of the given projects on several threads, then connects the types they found in the
+ * order of the projects, as {@link #buildForProject(JavaProject, ArrayList, org.eclipse.jdt.core.ICompilationUnit[], HashSet, IProgressMonitor)}
+ * would have.
+ */
+private void buildConcurrently(List<ProjectSubtypes> projects, org.eclipse.jdt.core.ICompilationUnit[] workingCopies, HashSet localTypes, int threads, IProgressMonitor monitor) {
+	SubMonitor subMonitor = SubMonitor.convert(monitor, projects.size());
+	IProgressMonitor cancelMonitor = new CancelMonitor(subMonitor);
+	IType focusType = getType();
+	ExecutorService workers = newWorkers(Math.min(threads, projects.size()));
+	try {
+		List<Future<ProjectBuilder>> results = new ArrayList<>(projects.size());
+		for (ProjectSubtypes project : projects) {
+			results.add(workers.submit(() -> {
+				TypeHierarchy projectHierarchy = new TypeHierarchy(focusType, workingCopies, this.scope, true);
+				projectHierarchy.progressMonitor = SubMonitor.convert(cancelMonitor);
+				JavaModelManager manager = JavaModelManager.getJavaModelManager();
+				manager.cacheZipFiles(projectHierarchy);
+				try {
+					ProjectBuilder projectBuilder = new ProjectBuilder(this, projectHierarchy);
+					((IndexBasedHierarchyBuilder) projectBuilder).buildForProject(project.project, project.subtypes, workingCopies, localTypes, cancelMonitor);
+					return projectBuilder;
+				} catch (JavaModelException e) {
+					return null; // ignore, as when resolving on the building thread
+				} finally {
+					manager.flushZipFiles(projectHierarchy);
+				}
+			}));
+		}
+		for (Future<ProjectBuilder> result : results) {
+			ProjectBuilder projectBuilder = join(result);
+			if (projectBuilder != null)
+				projectBuilder.connectAll();
+			subMonitor.worked(1);
+		}
+	} finally {
+		workers.shutdownNow();
+	}
+}
+private static ExecutorService newWorkers(int threads) {
+	return Executors.newFixedThreadPool(threads, runnable -> {
+		Thread thread = new Thread(runnable, "Java Type Hierarchy Builder"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+}
+private static <T> T join(Future<T> future) {
+	try {
+		return future.get();
+	} catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+		throw new OperationCanceledException();
+	} catch (ExecutionException e) {
+		Throwable cause = e.getCause();
+		if (cause instanceof RuntimeException)
+			throw (RuntimeException) cause;
+		if (cause instanceof Error)
+			throw (Error) cause;
+		throw new IllegalStateException(cause);
+	}
+}
 @Override
 protected IBinaryType createInfoFromClassFile(Openable classFile, IResource file) {
 	String documentPath = classFile.getPath().toString();
@@ -475,8 +612,14 @@ public static void searchAllPossibleSubTypes(
 	int waitingPolicy,	// WaitUntilReadyToSearch | ForceImmediateSearch | CancelIfNotReadyToSearch
 	final IProgressMonitor monitor) {
 
-	legacySearchAllPossibleSubTypes(type, scope, binariesFromIndexMatches, pathRequestor, waitingPolicy,
-			monitor);
+	int threads = Integer.getInteger(THREADS_PROPERTY, 1).intValue();
+	if (threads > 1) {
+		concurrentSearchAllPossibleSubTypes(type, scope, binariesFromIndexMatches, pathRequestor, waitingPolicy,
+				threads, monitor);
+	} else {
+		legacySearchAllPossibleSubTypes(type, scope, binariesFromIndexMatches, pathRequestor, waitingPolicy,
+				monitor);
+	}
 }
 
 private static void legacySearchAllPossibleSubTypes(
@@ -493,10 +636,155 @@ private static void legacySearchAllPossibleSubTypes(
 	final Queue queue = new Queue();
 	final HashtableOfObject foundSuperNames = new HashtableOfObject(5);
 
-	IndexManager indexManager = JavaModelManager.getIndexManager();
+	IndexQueryRequestor searchRequestor = newSubTypesRequestor(queue, foundSuperNames, binariesFromIndexMatches, pathRequestor);
+	SuperTypeReferencePattern pattern = newSubTypesPattern(type);
+	SubTypeSearchJob job = new SubTypeSearchJob(
+		pattern,
+		new JavaSearchParticipant(), // java search only
+		scope,
+		searchRequestor);
+
+	queue.add(new SubtypeQuery(type.getFullyQualifiedName().toCharArray(), type.getElementName().toCharArray()));
+	long startTime = System.currentTimeMillis();
+	try {
+		while (queue.start <= queue.end) {
+			subMonitor.setWorkRemaining(Math.max(queue.end - queue.start + 1, 100));
+
+			// in case, we search all subtypes, no need to search further
+			if (!searchSubTypes(queue.retrieve(), pattern, job, waitingPolicy, subMonitor.split(1))) break;
+		}
+	} finally {
+		job.finished();
+		if (JobManager.VERBOSE) {
+			long wallClockTime = System.currentTimeMillis() - startTime;
+			JavaModelManager.trace("-> execution time: " + wallClockTime + "ms - " + IndexBasedHierarchyBuilder.class.getSimpleName());//$NON-NLS-1$//$NON-NLS-2$
+		}
+	}
+}
+
+/**
+ * Searches the possible subtypes level by level: the queries of a level, which are the subtypes found by the previous
+ * level, are searched on several threads, each thread querying the indexes with its own pattern and job.
+ */
+private static void concurrentSearchAllPossibleSubTypes(
+	IType type,
+	IJavaSearchScope scope,
+	final Map binariesFromIndexMatches,
+	final IPathRequestor pathRequestor,
+	int waitingPolicy,	// WaitUntilReadyToSearch | ForceImmediateSearch | CancelIfNotReadyToSearch
+	int threads,
+	final IProgressMonitor progressMonitor) {
+
+	SubMonitor subMonitor = SubMonitor.convert(progressMonitor, 100);
+	IProgressMonitor cancelMonitor = new CancelMonitor(subMonitor);
+
+	final Queue queue = new Queue();
+	final HashtableOfObject foundSuperNames = new HashtableOfObject(5);
 
-	/* use a special collector to collect paths and queue new subtype names */
+	final IndexQueryRequestor subTypesRequestor = newSubTypesRequestor(queue, foundSuperNames, binariesFromIndexMatches, pathRequestor);
 	IndexQueryRequestor searchRequestor = new IndexQueryRequestor() {
+		@Override
+		public synchronized boolean acceptIndexMatch(String documentPath, SearchPattern indexRecord, SearchParticipant participant, AccessRuleSet access) {
+			// matches are reported by all the threads searching a level
+			return subTypesRequestor.acceptIndexMatch(documentPath, indexRecord, participant, access);
+		}
+	};
+	SuperTypeReferencePattern[] patterns = new SuperTypeReferencePattern[threads];
+	SubTypeSearchJob[] jobs = new SubTypeSearchJob[threads];
+	for (int i = 0; i < threads; i++) {
+		patterns[i] = newSubTypesPattern(type);
+		jobs[i] = new SubTypeSearchJob(patterns[i], new JavaSearchParticipant(), scope, searchRequestor);
+	}
+
+	queue.add(new SubtypeQuery(type.getFullyQualifiedName().toCharArray(), type.getElementName().toCharArray()));
+	long startTime = System.currentTimeMillis();
+	ExecutorService workers = newWorkers(threads);
+	try {
+		while (queue.start <= queue.end) {
+			int size = queue.end - queue.start + 1;
+			subMonitor.setWorkRemaining(Math.max(size, 100));
+			SubtypeQuery[] level = new SubtypeQuery[size];
+			for (int i = 0; i < size; i++)
+				level[i] = queue.retrieve();
+
+			AtomicInteger next = new AtomicInteger();
+			List<Future<Boolean>> results = new ArrayList<>(threads);
+			for (int i = 0, workerCount = Math.min(threads, size); i < workerCount; i++) {
+				SuperTypeReferencePattern pattern = patterns[i];
+				SubTypeSearchJob job = jobs[i];
+				results.add(workers.submit(() -> {
+					boolean searchFurther = true;
+					int index;
+					while (searchFurther && (index = next.getAndIncrement()) < size)
+						searchFurther = searchSubTypes(level[index], pattern, job, waitingPolicy, cancelMonitor);
+					return Boolean.valueOf(searchFurther);
+				}));
+			}
+			boolean searchFurther = true;
+			for (Future<Boolean> result : results)
+				searchFurther &= join(result).booleanValue();
+			subMonitor.split(size);
+
+			// in case, we search all subtypes, no need to search further
+			if (!searchFurther) break;
+		}
+	} finally {
+		workers.shutdownNow();
+		for (SubTypeSearchJob job : jobs)
+			job.finished();
+		if (JobManager.VERBOSE) {
+			long wallClockTime = System.currentTimeMillis() - startTime;
+			JavaModelManager.trace("-> execution time: " + wallClockTime + "ms - " + IndexBasedHierarchyBuilder.class.getSimpleName() + " (" + threads + " threads)");//$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+}
+
+private static SuperTypeReferencePattern newSubTypesPattern(IType type) {
+	int superRefKind;
+	try {
+		superRefKind = type.isClass() ? SuperTypeReferencePattern.ONLY_SUPER_CLASSES : SuperTypeReferencePattern.ALL_SUPER_TYPES;
+	} catch (JavaModelException e) {
+		superRefKind = SuperTypeReferencePattern.ALL_SUPER_TYPES;
+	}
+	SuperTypeReferencePattern pattern =
+		new SuperTypeReferencePattern(null, null, superRefKind, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+	MatchLocator.setFocus(pattern, type);
+	return pattern;
+}
+
+/**
+ * Searches all index references to the supertype of the given query, answers false when they are the references to
+ * Object, in which case all types were found.
+ */
+private static boolean searchSubTypes(SubtypeQuery query, SuperTypeReferencePattern pattern, SubTypeSearchJob job, int waitingPolicy, IProgressMonitor monitor) {
+	// all subclasses of OBJECT are actually all types
+	char[] currentTypeName = query.simpleName;
+	char[] qualifiedTypeName = query.qualifiedName != null ? query.qualifiedName
+			: QualifierQuery.NO_CHARS;
+
+	if (CharOperation.equals(currentTypeName, IIndexConstants.OBJECT)) {
+		currentTypeName = null;
+	} else {
+		MatchLocator.setIndexQualifierQuery(pattern, QualifierQuery
+				.encodeQuery(new QueryCategory[] { QueryCategory.SUPER }, currentTypeName, qualifiedTypeName));
+	}
+
+	// search all index references to a given supertype
+	pattern.superSimpleName = currentTypeName;
+	JavaModelManager.getIndexManager().performConcurrentJob(job, waitingPolicy, monitor);
+	return currentTypeName != null;
+}
+
+/**
+ * Answers a collector which collects paths and queues new subtype names.
+ */
+private static IndexQueryRequestor newSubTypesRequestor(
+	final Queue queue,
+	final HashtableOfObject foundSuperNames,
+	final Map binariesFromIndexMatches,
+	final IPathRequestor pathRequestor) {
+
+	return new IndexQueryRequestor() {
 		@Override
 		public boolean acceptIndexMatch(String documentPath, SearchPattern indexRecord, SearchParticipant participant, AccessRuleSet access) {
 			SuperTypeReferencePattern record = (SuperTypeReferencePattern)indexRecord;
@@ -537,54 +825,5 @@ private static void legacySearchAllPossibleSubTypes(
 			return true;
 		}
 	};
-
-	int superRefKind;
-	try {
-		superRefKind = type.isClass() ? SuperTypeReferencePattern.ONLY_SUPER_CLASSES : SuperTypeReferencePattern.ALL_SUPER_TYPES;
-	} catch (JavaModelException e) {
-		superRefKind = SuperTypeReferencePattern.ALL_SUPER_TYPES;
-	}
-	SuperTypeReferencePattern pattern =
-		new SuperTypeReferencePattern(null, null, superRefKind, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
-	MatchLocator.setFocus(pattern, type);
-	SubTypeSearchJob job = new SubTypeSearchJob(
-		pattern,
-		new JavaSearchParticipant(), // java search only
-		scope,
-		searchRequestor);
-
-	queue.add(new SubtypeQuery(type.getFullyQualifiedName().toCharArray(), type.getElementName().toCharArray()));
-	long startTime = System.currentTimeMillis();
-	try {
-		while (queue.start <= queue.end) {
-			subMonitor.setWorkRemaining(Math.max(queue.end - queue.start + 1, 100));
-
-			// all subclasses of OBJECT are actually all types
-			SubtypeQuery query = queue.retrieve();
-			char[] currentTypeName = query.simpleName;
-			char[] qualifiedTypeName = query.qualifiedName != null ? query.qualifiedName
-					: QualifierQuery.NO_CHARS;
-
-			if (CharOperation.equals(currentTypeName, IIndexConstants.OBJECT)) {
-				currentTypeName = null;
-			} else {
-				MatchLocator.setIndexQualifierQuery(pattern, QualifierQuery
-						.encodeQuery(new QueryCategory[] { QueryCategory.SUPER }, currentTypeName, qualifiedTypeName));
-			}
-
-			// search all index references to a given supertype
-			pattern.superSimpleName = currentTypeName;
-			indexManager.performConcurrentJob(job, waitingPolicy, subMonitor.split(1));
-
-			// in case, we search all subtypes, no need to search further
-			if (currentTypeName == null) break;
-		}
-	} finally {
-		job.finished();
-		if (JobManager.VERBOSE) {
-			long wallClockTime = System.currentTimeMillis() - startTime;
-			JavaModelManager.trace("-> execution time: " + wallClockTime + "ms - " + IndexBasedHierarchyBuilder.class.getSimpleName());//$NON-NLS-1$//$NON-NLS-2$
-		}
-	}
 }
 }
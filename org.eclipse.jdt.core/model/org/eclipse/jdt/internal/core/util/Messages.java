@@ -204,6 +204,7 @@ public final class Messages extends NLS {
 	public static String cache_invalidLoadFactor;
 	public static String savedState_jobName;
 	public static String refreshing_external_folders;
+	public static String closing_idle_archives;
 	public static String synchronizing_projects_job;
 	public static String convention_unit_nullName;
 	public static String convention_unit_notJavaName;
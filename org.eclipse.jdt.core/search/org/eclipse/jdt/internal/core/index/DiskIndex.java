@@ -24,6 +24,7 @@ import java.io.RandomAccessFile;
 import java.io.UTFDataFormatException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.regex.Pattern;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -54,6 +55,7 @@ private int cacheUserCount;
 private String[][] cachedChunks; // decompressed chunks of document names
 private HashtableOfObject categoryTables; // category name -> HashtableOfObject(words -> int[] of document #'s) or offset if not read yet
 private char[] cachedCategoryName;
+private HashtableOfObject sortedWordTables; // category name -> SortedWordTable, kept as long as this index
 
 private static final int DEFAULT_BUFFER_SIZE = 2048;
 private static int BUFFER_READ_SIZE = DEFAULT_BUFFER_SIZE;
@@ -68,10 +70,19 @@ public static final String SIGNATURE = "INDEX VERSION " + INDEX_VERSION; //$NON-
 private static final char[] SIGNATURE_CHARS = SIGNATURE.toCharArray();
 public static boolean DEBUG = false;
 
+/**
+ * System property which, when set to true, keeps the words of the category tables queried by prefix or camel case,
+ * the queries answering code completion, sorted in memory for the lifetime of the index.
+ */
+public static final String SORTED_WORDS_PROPERTY = "jdt.core.index.sortedWords"; //$NON-NLS-1$
+
 private static final int RE_INDEXED = -1;
 private static final int DELETED = -2;
 
 private static final int CHUNK_SIZE = 100;
+private static final int CACHED_TABLE_SIZE = 20000; // larger category tables are not kept once the query is done
+private static final int MIN_TABLE_ENTRY_SIZE = 6; // length of the word followed by a document number, see writeCategoryTable()
+private static final Object NOT_SCANNED = new Object();
 
 private static final SimpleSetOfCharArray INTERNED_CATEGORY_NAMES = new SimpleSetOfCharArray(20);
 private static final String TMP_EXT = ".tmp"; //$NON-NLS-1$
@@ -100,6 +111,57 @@ int[] asArray() {
 }
 }
 
+/**
+ * The words of a category table sorted ignoring case, with their document numbers (int[]) or the offset to them
+ * (Integer). The words which start with a given prefix, whatever its case, follow each other.
+ */
+static class SortedWordTable {
+
+final char[][] words;
+final Object[] docs;
+
+SortedWordTable(HashtableOfObject wordsToDocs) {
+	int size = wordsToDocs.elementSize;
+	char[][] keys = new char[size][];
+	int count = 0;
+	for (char[] key : wordsToDocs.keyTable)
+		if (key != null)
+			keys[count++] = key;
+	Arrays.sort(keys, SortedWordTable::compareIgnoreCase);
+	this.words = keys;
+	this.docs = new Object[size];
+	for (int i = 0; i < size; i++)
+		this.docs[i] = wordsToDocs.get(keys[i]);
+}
+/**
+ * Answers the index of the first word which starts with the given prefix ignoring case, or of the word which would
+ * follow it if there is none.
+ */
+int start(char[] prefix) {
+	int low = 0, high = this.words.length;
+	while (low < high) {
+		int middle = (low + high) >>> 1;
+		if (compareIgnoreCase(this.words[middle], prefix) < 0)
+			low = middle + 1;
+		else
+			high = middle;
+	}
+	return low;
+}
+static int compareIgnoreCase(char[] word1, char[] word2) {
+	int length = Math.min(word1.length, word2.length);
+	for (int i = 0; i < length; i++) {
+		char c1 = word1[i], c2 = word2[i];
+		if (c1 != c2) {
+			int diff = Character.toLowerCase(c1) - Character.toLowerCase(c2);
+			if (diff != 0)
+				return diff;
+		}
+	}
+	return word1.length - word2.length;
+}
+}
+
 
 DiskIndex() {
 	this.headerInfoOffset = -1;
@@ -200,13 +262,29 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 		}
 		if (results != null && this.cachedChunks == null)
 			cacheDocumentNames();
+	} else if (key.length > 0 && sortedWordsPrefix(key, matchRule) != null && Boolean.getBoolean(SORTED_WORDS_PROPERTY)) {
+		// only the words which start with the prefix of the key, ignoring case, can match
+		char[] prefix = sortedWordsPrefix(key, matchRule);
+		for (char[] category : categories) {
+			SortedWordTable table = readSortedWordTable(category);
+			if (table != null) {
+				char[][] words = table.words;
+				for (int j = table.start(prefix), m = words.length; j < m; j++) {
+					char[] word = words[j];
+					if (!CharOperation.prefixEquals(prefix, word, false))
+						break;
+					if (Index.isMatch(key, word, matchRule))
+						results = addQueryResult(results, word, table.docs[j], memoryIndex, prevResults);
+				}
+			}
+			prevResults = results != null;
+		}
 	} else {
 		switch (matchRule) {
 			case SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE:
 				for (char[] category : categories) {
-					HashtableOfObject wordsToDocNumbers = readCategoryTable(category, false);
-					Object value;
-					if (wordsToDocNumbers != null && (value = wordsToDocNumbers.get(key)) != null)
+					Object value = readDocumentTable(category, key);
+					if (value != null)
 						results = addQueryResult(results, key, value, memoryIndex, prevResults);
 					prevResults = results != null;
 				}
@@ -261,6 +339,41 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 
 	return results;
 }
+/**
+ * Answers the prefix that the words matching the given key must start with, ignoring case, or null if they can
+ * start with anything.
+ */
+private static char[] sortedWordsPrefix(char[] key, int matchRule) {
+	switch (matchRule) {
+		case SearchPattern.R_EXACT_MATCH:
+		case SearchPattern.R_PREFIX_MATCH:
+		case SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE:
+			return key;
+		case SearchPattern.R_CAMELCASE_MATCH:
+		case SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH:
+		case SearchPattern.R_CAMELCASE_MATCH | SearchPattern.R_CASE_SENSITIVE:
+		case SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH | SearchPattern.R_CASE_SENSITIVE:
+			// the first character of a camel case match must be the same, else the key must be a prefix
+			return new char[] {key[0]};
+		default:
+			return null; // pattern, regular expression, substring and subword matches can match anywhere
+	}
+}
+private synchronized SortedWordTable readSortedWordTable(char[] categoryName) throws IOException {
+	if (this.sortedWordTables == null) {
+		this.sortedWordTables = new HashtableOfObject(3);
+	} else {
+		SortedWordTable table = (SortedWordTable) this.sortedWordTables.get(categoryName);
+		if (table != null)
+			return table;
+	}
+	HashtableOfObject wordsToDocNumbers = readCategoryTable(categoryName, false);
+	if (wordsToDocNumbers == null)
+		return null;
+	SortedWordTable table = new SortedWordTable(wordsToDocNumbers);
+	this.sortedWordTables.put(INTERNED_CATEGORY_NAMES.get(categoryName), table);
+	return table;
+}
 private synchronized void cacheDocumentNames() throws IOException {
 	// will need all document names so get them now
 	this.cachedChunks = new String[this.numberOfChunks][];
@@ -722,7 +835,7 @@ private synchronized HashtableOfObject readCategoryTable(char[] categoryName, bo
 			this.categoryTables.put(INTERNED_CATEGORY_NAMES.get(categoryName), categoryTable);
 			// cache the table as long as its not too big
 			// in practice, some tables can be greater than 500K when they contain more than 10K elements
-			this.cachedCategoryName = categoryTable.elementSize < 20000 ? categoryName : null;
+			this.cachedCategoryName = categoryTable.elementSize < CACHED_TABLE_SIZE ? categoryName : null;
 		} catch (IOException ioe) {
 			this.streamBuffer = null;
 			throw ioe;
@@ -754,6 +867,146 @@ private synchronized HashtableOfObject readCategoryTable(char[] categoryName, bo
 	this.streamBuffer = null;
 	return categoryTable;
 }
+/**
+ * Answers the document numbers (int[]) or the offset to the document numbers (Integer) of the given word in the given
+ * category, or null if the category does not contain the word.
+ */
+private Object readDocumentTable(char[] categoryName, char[] word) throws IOException {
+	HashtableOfObject wordsToDocNumbers;
+	synchronized (this) {
+		if (this.categoryTables != null
+				&& (wordsToDocNumbers = (HashtableOfObject) this.categoryTables.get(categoryName)) != null)
+			return wordsToDocNumbers.get(word);
+	}
+	Object value = scanCategoryTable(categoryName, word);
+	if (value != NOT_SCANNED)
+		return value;
+	wordsToDocNumbers = readCategoryTable(categoryName, false);
+	return wordsToDocNumbers == null ? null : wordsToDocNumbers.get(word);
+}
+/*
+ * Large category tables are not kept once the query is done, so building the whole table only to look up a
+ * single word is wasted: instead the table is scanned in place, comparing the encoded word with the encoded
+ * entries. No char[] is decoded and no hashtable is built while scanning.
+ * Answers NOT_SCANNED for tables which are small enough to be read and cached by readCategoryTable().
+ * The length of the table in the file is a bound of its number of entries, so most small tables are answered
+ * without opening the file.
+ */
+private synchronized Object scanCategoryTable(char[] categoryName, char[] word) throws IOException {
+	int offset = this.categoryOffsets.get(categoryName);
+	if (offset == HashtableOfIntValues.NO_VALUE)
+		return null;
+	int end = this.categoryEnds.get(categoryName);
+	if (end == HashtableOfIntValues.NO_VALUE || end - offset < 4 + CACHED_TABLE_SIZE * MIN_TABLE_ENTRY_SIZE)
+		return NOT_SCANNED;
+	byte[] encodedWord = encodeChars(word);
+	if (encodedWord.length + 2 >= DEFAULT_BUFFER_SIZE)
+		return NOT_SCANNED; // must fit into the buffer to be compared
+	this.streamBuffer = new byte[DEFAULT_BUFFER_SIZE];
+	try (InputStream stream = this.indexLocation.getInputStream()) {
+		stream.skip(offset);
+		this.bufferIndex = 0;
+		this.bufferEnd = 0;
+		fillStreamBuffer(stream, 4);
+		int size = readStreamInt(stream);
+		if (size < CACHED_TABLE_SIZE)
+			return NOT_SCANNED;
+		int largeArraySize = 256;
+		for (int i = 0; i < size; i++) {
+			boolean matches = matchStreamChars(stream, word.length, encodedWord);
+			fillStreamBuffer(stream, 4);
+			int arrayOffset = readStreamInt(stream);
+			// see readCategoryTable() for the meaning of arrayOffset
+			if (arrayOffset <= 0) {
+				if (matches)
+					return new int[] {-arrayOffset};
+			} else if (arrayOffset < largeArraySize) {
+				if (matches)
+					return readStreamDocumentArray(stream, arrayOffset);
+				skipStreamBytes(stream, arrayOffset * (this.documentReferenceSize <= 2 ? this.documentReferenceSize : 4));
+			} else {
+				fillStreamBuffer(stream, 4);
+				arrayOffset = readStreamInt(stream); // read actual offset
+				if (matches)
+					return Integer.valueOf(arrayOffset);
+			}
+		}
+		return null;
+	} finally {
+		this.indexLocation.close();
+		this.streamBuffer = null;
+	}
+}
+private static byte[] encodeChars(char[] array) {
+	// same encoding as writeStreamChars(OutputStream, char[], int, int)
+	byte[] bytes = new byte[array.length * 3];
+	int index = 0;
+	for (char ch : array) {
+		if ((ch & 0x007F) == ch) {
+			bytes[index++] = (byte) ch;
+		} else if ((ch & 0x07FF) == ch) {
+			bytes[index++] = (byte) (0xC0 | ((ch >> 6) & 0x1F));
+			bytes[index++] = (byte) (0x80 | (ch & 0x3F));
+		} else {
+			bytes[index++] = (byte) (0xE0 | ((ch >> 12) & 0x0F));
+			bytes[index++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+			bytes[index++] = (byte) (0x80 | (ch & 0x3F));
+		}
+	}
+	return index == bytes.length ? bytes : Arrays.copyOf(bytes, index);
+}
+/*
+ * Reads over the next chars written by writeStreamChars() and answers whether they are the given encoded word.
+ * A word of the same length whose leading bytes are the encoded word is the same word since the encoding of
+ * each char is unique.
+ */
+private boolean matchStreamChars(InputStream stream, int wordLength, byte[] encodedWord) throws IOException {
+	fillStreamBuffer(stream, 2);
+	int length = (this.streamBuffer[this.bufferIndex++] & 0xFF) << 8;
+	length += this.streamBuffer[this.bufferIndex++] & 0xFF;
+	if (length == wordLength) {
+		int byteLength = encodedWord.length;
+		fillStreamBuffer(stream, byteLength);
+		if (Arrays.equals(this.streamBuffer, this.bufferIndex, this.bufferIndex + byteLength, encodedWord, 0, byteLength)) {
+			this.bufferIndex += byteLength;
+			return true;
+		}
+	}
+	for (int i = 0; i < length; i++) {
+		fillStreamBuffer(stream, 1);
+		byte b = this.streamBuffer[this.bufferIndex];
+		int charLength = b >= 0 ? 1 : ((b & 0xE0) == 0xC0 ? 2 : 3);
+		fillStreamBuffer(stream, charLength);
+		this.bufferIndex += charLength;
+	}
+	return false;
+}
+private void skipStreamBytes(InputStream stream, int numberOfBytes) throws IOException {
+	while (numberOfBytes > this.bufferEnd - this.bufferIndex) {
+		numberOfBytes -= this.bufferEnd - this.bufferIndex;
+		this.bufferIndex = this.bufferEnd;
+		fillStreamBuffer(stream, 1);
+	}
+	this.bufferIndex += numberOfBytes;
+}
+/*
+ * Makes sure the stream buffer holds the given number of bytes from the buffer index on, reading as many times as
+ * needed since a read can answer fewer bytes than requested. Unlike readStreamBuffer(), never leaves the buffer
+ * short: throws an EOFException if the stream ends first.
+ */
+private void fillStreamBuffer(InputStream stream, int numberOfBytes) throws IOException {
+	while (this.bufferIndex + numberOfBytes > this.bufferEnd) {
+		int bytesInBuffer = this.bufferEnd - this.bufferIndex;
+		if (bytesInBuffer > 0)
+			System.arraycopy(this.streamBuffer, this.bufferIndex, this.streamBuffer, 0, bytesInBuffer);
+		this.bufferIndex = 0;
+		this.bufferEnd = bytesInBuffer;
+		int bytesRead = stream.read(this.streamBuffer, bytesInBuffer, this.streamBuffer.length - bytesInBuffer);
+		if (bytesRead <= 0)
+			throw new EOFException();
+		this.bufferEnd += bytesRead;
+	}
+}
 private void readChunk(String[] docNames, InputStream stream, int index, int size) throws IOException {
 	String current = new String(readStreamChars(stream));
 	docNames[index++] = current;
@@ -1170,6 +1423,7 @@ private void writeCategoryTable(char[] categoryName, HashtableOfObject wordsToDo
 			}
 		}
 	}
+	this.categoryEnds.put(categoryName, this.streamEnd); // remember the end of the table
 }
 private void writeDocumentNumbers(int[] documentNumbers, OutputStream stream) throws IOException {
 	// must store length as a positive int to detect in-lined array of 1 element
@@ -19,6 +19,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.IPreferencesService;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchPattern;
@@ -46,6 +49,14 @@ static final char JAR_SEPARATOR = IJavaSearchScope.JAR_FILE_ENTRY_SEPARATOR.char
 
 protected DiskIndex diskIndex;
 protected MemoryIndex memoryIndex;
+private volatile SuperTypeGraph superTypeGraph; // created when super type references are first queried, dropped when saved
+
+/**
+ * Preference which, when true, keeps the super type references queried by the type hierarchies and the subtype
+ * searches in the supertype graph of each index until the index is saved.
+ */
+public static final String ENABLE_SUPERTYPE_GRAPH = "enableSuperTypeGraph"; //$NON-NLS-1$
+public static final boolean ENABLE_SUPERTYPE_GRAPH_DEFAULT = false;
 
 /**
  * Mask used on match rule for indexing.
@@ -123,6 +134,16 @@ public Index(IndexLocation location, String containerPath, boolean reuseExisting
 }
 public void addIndexEntry(char[] category, char[] key, String containerRelativePath) {
 	this.memoryIndex.addIndexEntry(category, key, containerRelativePath);
+	SuperTypeGraph graph = this.superTypeGraph;
+	if (graph != null && CharOperation.equals(category, IIndexConstants.SUPER_REF))
+		graph.addReference(key, containerRelativePath);
+}
+public static boolean isSuperTypeGraphEnabled() {
+	IPreferencesService preferenceService = Platform.getPreferencesService();
+	if (preferenceService == null) {
+		return ENABLE_SUPERTYPE_GRAPH_DEFAULT;
+	}
+	return preferenceService.getBoolean(JavaCore.PLUGIN_ID, ENABLE_SUPERTYPE_GRAPH, ENABLE_SUPERTYPE_GRAPH_DEFAULT, null);
 }
 public String containerRelativePath(String documentPath) {
 	int index = documentPath.indexOf(IJavaSearchScope.JAR_FILE_ENTRY_SEPARATOR);
@@ -205,13 +226,42 @@ public String[] queryDocumentNames(String substring) throws IOException {
 			documentNames[count++] = (String) path;
 	return documentNames;
 }
+/**
+ * Returns the super type references to the given supertype simple name, or null if there are none.
+ * The references are read from the index once, then answered by the supertype graph of this index which is kept up
+ * to date as documents are added and removed. The graph is dropped when the index is saved or reset, so that it only
+ * holds the references queried since the last changes were written.
+ */
+public EntryResult[] querySuperTypeReferences(char[] superSimpleName) throws IOException {
+	SuperTypeGraph graph = this.superTypeGraph;
+	if (graph == null) {
+		synchronized (this) {
+			if ((graph = this.superTypeGraph) == null)
+				this.superTypeGraph = graph = new SuperTypeGraph();
+		}
+	}
+	EntryResult[] results = graph.get(superSimpleName);
+	if (results == null) {
+		EntryResult[] entries = query(
+			new char[][] {IIndexConstants.SUPER_REF},
+			CharOperation.append(superSimpleName, IIndexConstants.SEPARATOR),
+			SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE);
+		graph.put(superSimpleName, entries, this);
+		results = graph.get(superSimpleName);
+	}
+	return results.length == 0 ? null : results;
+}
 public void remove(String containerRelativePath) {
 	this.memoryIndex.remove(containerRelativePath);
+	SuperTypeGraph graph = this.superTypeGraph;
+	if (graph != null)
+		graph.remove(containerRelativePath);
 }
 /**
  * Reset memory and disk indexes.
  */
 public void reset() throws IOException {
+	this.superTypeGraph = null;
 	this.memoryIndex = new MemoryIndex();
 	this.diskIndex = new DiskIndex(this.diskIndex.indexLocation);
 	this.diskIndex.initialize(false/*do not reuse the index file*/);
@@ -228,6 +278,7 @@ public boolean save() throws IOException {
 	this.diskIndex.separator = this.separator;
 	this.diskIndex = this.diskIndex.mergeWith(this.memoryIndex);
 	this.memoryIndex = new MemoryIndex();
+	this.superTypeGraph = null;
 	return true;
 }
 public void startQuery() {
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.index;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
+import org.eclipse.jdt.internal.compiler.util.SimpleSet;
+import org.eclipse.jdt.internal.core.search.indexing.IIndexConstants;
+
+/**
+ * The super type references of an index, grouped by the simple name of the supertype: each reference leads from a
+ * supertype to the documents which declare one of its possible subtypes.
+ * <p>
+ * The references to a supertype are read from the index the first time they are queried, then kept up to date as
+ * documents are added to and removed from the index, so that searching the subtypes of a type again only costs the
+ * number of its subtypes. The index drops its graph when it is saved or reset.
+ */
+final class SuperTypeGraph {
+
+// supertype simple name -> (super type reference -> names of the documents containing it)
+private final HashtableOfObject supertypes = new HashtableOfObject(13);
+// document name -> the sets of document names it was added to
+private final Map<String, List<SimpleSet>> documents = new HashMap<>();
+
+/**
+ * Answers the references to the given supertype, or null if they were not read from the index yet.
+ */
+synchronized EntryResult[] get(char[] superSimpleName) {
+	HashtableOfObject references = (HashtableOfObject) this.supertypes.get(superSimpleName);
+	if (references == null)
+		return null;
+	List<EntryResult> results = new ArrayList<>(references.elementSize);
+	char[][] words = references.keyTable;
+	Object[] names = references.valueTable;
+	for (int i = 0, l = words.length; i < l; i++) {
+		SimpleSet documentNames = (SimpleSet) names[i];
+		if (documentNames == null || documentNames.elementSize == 0)
+			continue;
+		EntryResult result = new EntryResult(words[i], null);
+		for (Object documentName : documentNames.values)
+			if (documentName != null)
+				result.addDocumentName((String) documentName);
+		results.add(result);
+	}
+	return results.toArray(new EntryResult[results.size()]);
+}
+
+/**
+ * Records the references to the given supertype read from the given index.
+ */
+synchronized void put(char[] superSimpleName, EntryResult[] entries, Index index) throws IOException {
+	HashtableOfObject references = new HashtableOfObject(entries == null ? 0 : entries.length);
+	if (entries != null) {
+		for (EntryResult entry : entries) {
+			for (String documentName : entry.getDocumentNames(index))
+				add(references, entry.getWord(), documentName);
+		}
+	}
+	this.supertypes.put(superSimpleName, references);
+}
+
+/**
+ * Records a super type reference added to the index, if the references to its supertype were read.
+ */
+synchronized void addReference(char[] word, String documentName) {
+	int separator = CharOperation.indexOf(IIndexConstants.SEPARATOR, word);
+	if (separator == -1)
+		return;
+	HashtableOfObject references = (HashtableOfObject) this.supertypes.get(CharOperation.subarray(word, 0, separator));
+	if (references != null)
+		add(references, word, documentName);
+}
+
+/**
+ * Forgets the references of a document removed from the index.
+ */
+synchronized void remove(String documentName) {
+	List<SimpleSet> sets = this.documents.remove(documentName);
+	if (sets != null) {
+		for (SimpleSet documentNames : sets)
+			documentNames.remove(documentName);
+	}
+}
+
+private void add(HashtableOfObject references, char[] word, String documentName) {
+	SimpleSet documentNames = (SimpleSet) references.get(word);
+	if (documentNames == null)
+		references.put(word, documentNames = new SimpleSet(3));
+	if (!documentNames.includes(documentName)) {
+		documentNames.add(documentName);
+		this.documents.computeIfAbsent(documentName, name -> new ArrayList<>(3)).add(documentNames);
+	}
+}
+}
@@ -137,9 +137,10 @@ private static int canSeeFocus(IJavaElement focus, JavaProject javaProject, char
 					State projectState = (State) JavaModelManager.getJavaModelManager().getLastBuiltState(javaProject.getProject(), null);
 					if (projectState != null) {
 						Collection<ReferenceCollection> values = projectState.getReferences().values();
+						ReferenceCollection.Query query = ReferenceCollection.query(focusQualifiedNames, null, null);
 						for (ReferenceCollection references : values) {
 							if (references == null) continue;
-							if (references.includes(focusQualifiedNames, null, null)) {
+							if (references.includes(query)) {
 								return PROJECT_CAN_SEE_FOCUS;
 							}
 						}
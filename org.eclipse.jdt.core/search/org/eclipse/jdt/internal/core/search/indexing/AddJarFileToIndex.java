@@ -107,6 +107,20 @@ class AddJarFileToIndex extends BinaryContainer {
 				return true;
 			}
 
+			// start from the index of an identical jar found in the shared store, unless there is an index file already
+			SharedIndexStore sharedIndexStore = this.forceIndexUpdate ? null : SharedIndexStore.getStore();
+			File sharedIndexFile = null;
+			boolean sharedIndexCopied = false;
+			if (sharedIndexStore != null) {
+				File indexFile = this.manager.computeIndexLocation(this.containerPath).getIndexFile();
+				File jarFile = getLocalJarFile();
+				if (indexFile != null && !indexFile.exists() && jarFile != null) {
+					sharedIndexFile = sharedIndexStore.getIndexFile(jarFile);
+					if (sharedIndexFile != null)
+						sharedIndexCopied = sharedIndexStore.copyTo(sharedIndexFile, indexFile);
+				}
+			}
+
 			index = this.manager.getIndexForUpdate(this.containerPath, true, /*reuse index file*/ true /*create if none*/);
 			if (index == null) {
 				if (JobManager.VERBOSE)
@@ -204,6 +218,8 @@ class AddJarFileToIndex extends BinaryContainer {
 								trace("-> no indexing required (index is consistent with library) for " //$NON-NLS-1$
 								+ zip.getName() + " (" //$NON-NLS-1$
 								+ (System.currentTimeMillis() - initialTime) + "ms)"); //$NON-NLS-1$
+							if (sharedIndexCopied)
+								this.manager.updateMetaIndex(index); // the copied index was not saved by this workspace
 							this.manager.saveIndex(index); // to ensure its placed into the saved state
 							return true;
 						}
@@ -266,6 +282,9 @@ class AddJarFileToIndex extends BinaryContainer {
 				}
 				else {
 					this.manager.saveIndex(index);
+					File indexFile = index.getIndexFile();
+					if (sharedIndexFile != null && indexFile != null && indexFile.exists())
+						sharedIndexStore.add(indexFile, sharedIndexFile);
 				}
 				if (JobManager.VERBOSE)
 					trace("-> done indexing of " //$NON-NLS-1$
@@ -293,6 +312,12 @@ class AddJarFileToIndex extends BinaryContainer {
 		}
 		return true;
 	}
+	private File getLocalJarFile() {
+		if (this.resource == null)
+			return this.containerPath.toFile(); // external jar
+		IPath location = this.resource.getLocation();
+		return location == null ? null : location.toFile();
+	}
 	@Override
 	public String getJobFamily() {
 		if (this.resource != null)
@@ -312,6 +337,10 @@ class AddJarFileToIndex extends BinaryContainer {
 		return updateState;
 	}
 	@Override
+	protected boolean updatesContainerIndexOnly() {
+		return true;
+	}
+	@Override
 	public String toString() {
 		return "indexing " + this.containerPath.toString(); //$NON-NLS-1$
 	}
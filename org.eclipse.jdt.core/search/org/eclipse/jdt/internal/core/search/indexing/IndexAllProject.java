@@ -285,6 +285,10 @@ public class IndexAllProject extends IndexRequest {
 		return IndexManager.REBUILDING_STATE;
 	}
 	@Override
+	protected boolean updatesContainerIndexOnly() {
+		return true;
+	}
+	@Override
 	public String toString() {
 		return "indexing project " + this.project.getFullPath(); //$NON-NLS-1$
 	}
@@ -151,6 +151,10 @@ public class IndexBinaryFolder extends IndexRequest {
 		return IndexManager.REBUILDING_STATE;
 	}
 	@Override
+	protected boolean updatesContainerIndexOnly() {
+		return true;
+	}
+	@Override
 	public String toString() {
 		return "indexing binary folder " + this.folder.getFullPath(); //$NON-NLS-1$
 	}
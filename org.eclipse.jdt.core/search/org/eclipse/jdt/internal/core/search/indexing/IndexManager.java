@@ -143,6 +143,9 @@ public class IndexManager extends JobManager implements IIndexConstants {
 	public static final String INDEX_MANAGER_NOTIFY_IDLE_WAIT_PROPERTY = "jdt.core.indexManager.notifyIdleWait"; //$NON-NLS-1$
 	private static final long INDEX_MANAGER_NOTIFY_IDLE_WAIT = getNotifyIdleWait();
 
+	// number of jars, binary folders and projects indexed at the same time, see JobManager.maxConcurrentJobs()
+	public static final String INDEX_MANAGER_THREADS_PROPERTY = "jdt.core.indexManager.threads"; //$NON-NLS-1$
+
 	// Debug
 	public static boolean DEBUG = false;
 
@@ -828,6 +831,10 @@ protected synchronized void moveToNextJob() {
 	this.needToSave = true;
 	super.moveToNextJob();
 }
+@Override
+protected int maxConcurrentJobs() {
+	return Math.max(1, Integer.getInteger(INDEX_MANAGER_THREADS_PROPERTY, 1)); // read for each job, can be changed at any time
+}
 /**
  * No more job awaiting.
  */
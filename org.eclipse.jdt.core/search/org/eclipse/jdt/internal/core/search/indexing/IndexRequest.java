@@ -42,6 +42,20 @@ public abstract class IndexRequest implements IJob {
 		// tag the index as inconsistent
 		this.manager.aboutToUpdateIndex(this.containerPath, updatedIndexState());
 	}
+	/**
+	 * Answers whether this request only updates the index of its container (possibly requesting more jobs), so that it
+	 * can run concurrently with requests updating other indexes. Default implementation returns {@code false}.
+	 */
+	protected boolean updatesContainerIndexOnly() {
+		return false;
+	}
+	@Override
+	public boolean canRunConcurrently(IJob job) {
+		return updatesContainerIndexOnly()
+			&& job instanceof IndexRequest request
+			&& request.updatesContainerIndexOnly()
+			&& !this.containerPath.equals(request.containerPath);
+	}
 	@Override
 	public String getJobFamily() {
 		return this.containerPath.toString();
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.eclipse.jdt.internal.core.index.DiskIndex;
+import org.eclipse.jdt.internal.core.search.processing.JobManager;
+
+/**
+ * Local store of jar indexes shared by all the workspaces of the machine (or of a shared file system), where the
+ * index of a jar is found by the SHA-256 hash of the jar content.
+ * <p>
+ * The store is enabled by setting the system property {@value #LOCATION_PROPERTY} to a directory. Before indexing a
+ * jar which has no index yet, {@link AddJarFileToIndex} copies the index of an identical jar from the store into the
+ * workspace, where it is checked against the jar like any other existing index file. Indexes built from scratch are
+ * added to the store.
+ * <p>
+ * The index of a jar which is not a module depends on its file name as well (automatic module name), so the file
+ * name is part of the key. Index files of different index versions are kept apart. Files are renamed into place so
+ * that concurrent readers only ever see complete files, and failing to read or write the store is not an error: the
+ * jar is then indexed as if the store was not enabled.
+ * <p>
+ * Unlike the pre-built indexes of the {@code jdt.core.sharedIndexLocation} property (see
+ * {@link org.eclipse.jdt.internal.core.ClasspathEntry#getLibraryIndexLocation()}), which are found by the path of the
+ * jar and used in place, the store finds the index of a jar wherever the jar is, and each workspace works on its own
+ * copy of the index.
+ */
+final class SharedIndexStore {
+	static final String LOCATION_PROPERTY = "jdt.core.sharedIndexStore"; //$NON-NLS-1$
+
+	private static final String SUFFIX = ".index"; //$NON-NLS-1$
+	private static final char[] HEX = "0123456789abcdef".toCharArray(); //$NON-NLS-1$
+
+	private final File directory;
+
+	private SharedIndexStore(File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Answers the store, or null when it is not enabled.
+	 */
+	static SharedIndexStore getStore() {
+		String location = System.getProperty(LOCATION_PROPERTY);
+		if (location == null || location.isEmpty())
+			return null;
+		return new SharedIndexStore(new File(location, DiskIndex.INDEX_VERSION));
+	}
+
+	/**
+	 * Answers the store file of the given jar (which may not exist), or null if the jar cannot be read.
+	 */
+	File getIndexFile(File jarFile) {
+		try (InputStream stream = Files.newInputStream(jarFile.toPath())) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = stream.read(buffer)) != -1)
+				digest.update(buffer, 0, read);
+			byte[] hash = digest.digest();
+			char[] hex = new char[hash.length * 2];
+			for (int i = 0; i < hash.length; i++) {
+				hex[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+				hex[i * 2 + 1] = HEX[hash[i] & 0xF];
+			}
+			return new File(this.directory, jarFile.getName() + '-' + new String(hex) + SUFFIX);
+		} catch (IOException | NoSuchAlgorithmException e) {
+			if (JobManager.VERBOSE)
+				trace("-> cannot compute the shared index key of " + jarFile, e); //$NON-NLS-1$
+			return null;
+		}
+	}
+
+	/**
+	 * Copies the store file into the given index file, answers whether it existed and could be copied.
+	 */
+	boolean copyTo(File storeFile, File indexFile) {
+		if (!storeFile.isFile())
+			return false;
+		try {
+			copy(storeFile, indexFile);
+			if (JobManager.VERBOSE)
+				trace("-> reusing shared index " + storeFile); //$NON-NLS-1$
+			return true;
+		} catch (IOException e) {
+			if (JobManager.VERBOSE)
+				trace("-> cannot reuse shared index " + storeFile, e); //$NON-NLS-1$
+			return false;
+		}
+	}
+
+	/**
+	 * Adds the given index file to the store.
+	 */
+	void add(File indexFile, File storeFile) {
+		try {
+			Files.createDirectories(this.directory.toPath());
+			copy(indexFile, storeFile);
+			if (JobManager.VERBOSE)
+				trace("-> added shared index " + storeFile); //$NON-NLS-1$
+		} catch (IOException e) {
+			if (JobManager.VERBOSE)
+				trace("-> cannot add shared index " + storeFile, e); //$NON-NLS-1$
+		}
+	}
+
+	private static void copy(File source, File target) throws IOException {
+		File temp = File.createTempFile(target.getName(), ".tmp", target.getParentFile()); //$NON-NLS-1$
+		try {
+			Files.copy(source.toPath(), temp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			try {
+				Files.move(temp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp.toPath());
+		}
+	}
+}
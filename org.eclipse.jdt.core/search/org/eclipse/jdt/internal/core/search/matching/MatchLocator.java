@@ -28,6 +28,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.zip.ZipFile;
 import org.eclipse.core.resources.IResource;
@@ -111,6 +115,20 @@ static {
 	}
 }
 
+/**
+ * Name of the system property giving the number of threads locating matches, 1 (the default) locates the matches
+ * of all projects in the calling thread.
+ * <p>
+ * With more threads, the possible matches of each project are split in one batch per thread, each batch is located by
+ * its own locator (with its own parser and lookup environment) which reuses its name environment for all the units of
+ * the batch. The units of a batch are still processed in groups smaller than {@link #MAX_AT_ONCE}, so that the units
+ * parsed at the same time take about as much memory as in a sequential search. The matches of a batch are reported
+ * to the requestor in the calling thread, in the order of the batches, so that the results of a search do not depend
+ * on the scheduling of the threads.
+ */
+public static final String THREADS_PROPERTY = "jdt.core.search.matchLocator.threads"; //$NON-NLS-1$
+private static final int MIN_CONCURRENT_BATCH = 50;
+
 // permanent state
 public SearchPattern pattern;
 public PatternLocator patternLocator;
@@ -165,6 +183,14 @@ private final boolean searchPackageDeclaration;
 private int sourceStartOfMethodToRetain;
 private int sourceEndOfMethodToRetain;
 
+// batches of possible matches located concurrently, null when locating sequentially
+private ExecutorService workers;
+private int workerCount;
+private List<Future<MatchLocator>> concurrentBatches;
+private int concurrentBatchSize;
+// the project of the name environment which initialize() reuses, null when it creates a new one each time
+private JavaProject sharedNameEnvironmentProject;
+
 public static class WorkingCopyDocument extends JavaSearchDocument {
 	public org.eclipse.jdt.core.ICompilationUnit workingCopy;
 	WorkingCopyDocument(org.eclipse.jdt.core.ICompilationUnit workingCopy, SearchParticipant participant) {
@@ -178,6 +204,19 @@ public static class WorkingCopyDocument extends JavaSearchDocument {
 	}
 }
 
+/**
+ * Collects the matches of a batch located by a worker thread, the calling thread reports them to the requestor of
+ * the search once the batch is done. The matches of the batches which are still running after the search failed are
+ * dropped.
+ */
+private static final class CollectingRequestor extends SearchRequestor {
+	final List<SearchMatch> matches = new ArrayList<>();
+	@Override
+	public void acceptSearchMatch(SearchMatch match) {
+		this.matches.add(match);
+	}
+}
+
 public static class WrappedCoreException extends RuntimeException {
 	private static final long serialVersionUID = 8354329870126121212L; // backward compatible
 	public CoreException coreException;
@@ -1223,21 +1262,25 @@ protected boolean hasAlreadyDefinedType(CompilationUnitDeclaration parsedUnit) {
 public void initialize(JavaProject project, int possibleMatchSize) throws JavaModelException {
 	// clean up name environment only if there are several possible match as it is reused
 	// when only one possible match (bug 58581)
-	if (this.nameEnvironment != null && possibleMatchSize != 1) {
+	// a locator of a concurrent batch keeps the name environment of its project for all its units
+	boolean reuseNameEnvironment = this.nameEnvironment != null && project.equals(this.sharedNameEnvironmentProject);
+	if (this.nameEnvironment != null && possibleMatchSize != 1 && !reuseNameEnvironment) {
 		this.nameEnvironment.cleanup();
 		this.unitScope = null; // don't leak a reference to the cleaned-up name environment
 	}
 
 	SearchableEnvironment searchableEnvironment = project.newSearchableNameEnvironment(this.workingCopies);
 
-	List<IJavaProject> projects = new ArrayList<>();
-	if (this.pattern.focus != null) {
-		IJavaProject focusProject = this.pattern.focus.getJavaProject();
-		if (!project.equals(focusProject)) {
-			projects.add(focusProject);
+	if (!reuseNameEnvironment) {
+		List<IJavaProject> projects = new ArrayList<>();
+		if (this.pattern.focus != null) {
+			IJavaProject focusProject = this.pattern.focus.getJavaProject();
+			if (!project.equals(focusProject)) {
+				projects.add(focusProject);
+			}
 		}
+		this.nameEnvironment = JavaSearchNameEnvironment.createWithReferencedProjects(project, projects, this.workingCopies);
 	}
-	this.nameEnvironment = JavaSearchNameEnvironment.createWithReferencedProjects(project, projects, this.workingCopies);
 
 	// create lookup environment
 	Map<String, String> map = project.getOptions(true);
@@ -1395,6 +1438,17 @@ protected void locateMatches(JavaProject javaProject, PossibleMatchSet matchSet,
 		this.progressWorked += expected-length;
 		this.progressMonitor.worked( expected-length);
 	}
+	if (this.workers != null) {
+		// one batch per thread, unless the batches would be too small to pay for their lookup environments
+		int batchSize = Math.max((length + this.workerCount - 1) / this.workerCount, MIN_CONCURRENT_BATCH);
+		for (int index = 0; index < length;) {
+			int max = Math.min(batchSize, length - index);
+			locateMatchesConcurrently(javaProject, possibleMatches, index, max);
+			index += max;
+		}
+		reportConcurrentMatches(false);
+		return;
+	}
 	// locate matches (processed matches are limited to avoid problem while using VM default memory heap size)
 	for (int index = 0; index < length;) {
 		int max = Math.min(MAX_AT_ONCE, length - index);
@@ -1403,6 +1457,75 @@ protected void locateMatches(JavaProject javaProject, PossibleMatchSet matchSet,
 	}
 	this.patternLocator.clear();
 }
+/**
+ * Submits the given batch of possible matches to a worker thread, which locates the matches with a new locator in
+ * groups of at most {@link #concurrentBatchSize} units.
+ */
+private void locateMatchesConcurrently(JavaProject javaProject, PossibleMatch[] possibleMatches, int start, int length) {
+	MatchLocator locator = new MatchLocator(this.pattern, new CollectingRequestor(), this.scope, this.progressMonitor);
+	locator.workingCopies = this.workingCopies;
+	locator.handleFactory = new HandleFactory();
+	locator.progressStep = Integer.MAX_VALUE; // progress is reported by this locator when the batch is done
+	locator.sharedNameEnvironmentProject = javaProject;
+	locator.patternLocator.initializePolymorphicSearch(locator, this.patternLocator);
+	this.concurrentBatches.add(this.workers.submit(() -> {
+		JavaModelManager manager = JavaModelManager.getJavaModelManager();
+		manager.cacheZipFiles(locator);
+		try {
+			for (int index = start, end = start + length; index < end;) {
+				int max = Math.min(this.concurrentBatchSize, end - index);
+				locator.locateMatches(javaProject, possibleMatches, index, max);
+				index += max;
+			}
+		} catch (JavaModelException e) {
+			// problem with classpath in this project -> skip the rest of the batch
+		} finally {
+			if (locator.nameEnvironment != null)
+				locator.nameEnvironment.cleanup();
+			locator.unitScope = null;
+			manager.flushZipFiles(locator);
+		}
+		return locator;
+	}));
+}
+/**
+ * Reports the matches of the batches submitted to the worker threads in the order the batches were submitted, stops
+ * at the first batch still running unless all the batches should be waited for. Rethrows the first failure.
+ */
+private void reportConcurrentMatches(boolean wait) throws CoreException {
+	while (!this.concurrentBatches.isEmpty()) {
+		Future<MatchLocator> batch = this.concurrentBatches.get(0);
+		if (!wait && !batch.isDone())
+			return;
+		this.concurrentBatches.remove(0);
+		MatchLocator locator;
+		try {
+			locator = batch.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof CoreException)
+				throw (CoreException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+		this.resultCollectorTime += locator.resultCollectorTime;
+		if (this.progressMonitor != null) {
+			this.progressWorked += locator.progressWorked;
+			this.progressMonitor.worked(locator.progressWorked);
+		}
+		long start = System.currentTimeMillis();
+		for (SearchMatch match : ((CollectingRequestor) locator.requestor).matches) {
+			this.requestor.acceptSearchMatch(match);
+		}
+		this.resultCollectorTime += System.currentTimeMillis() - start;
+	}
+}
 /**
  * Locate the matches in the given files and report them using the search requestor.
  */
@@ -1443,6 +1566,18 @@ public void locateMatches(SearchDocument[] searchDocuments) throws CoreException
 	JavaModelManager manager = JavaModelManager.getJavaModelManager();
 	this.bindingsByPattern = new HashMap<>();
 	this.bindingsByName = new HashMap<>();
+	int threads = Integer.getInteger(THREADS_PROPERTY, 1).intValue();
+	if (threads > 1 && JavaSearchDelegateDiscovery.getInstance() == null) {
+		// a search delegate may not expect to be called concurrently
+		this.concurrentBatchSize = Math.max(MAX_AT_ONCE / threads, MIN_CONCURRENT_BATCH);
+		this.workerCount = threads;
+		this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "Java Search Match Locator"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.concurrentBatches = new ArrayList<>();
+	}
 	try {
 		// optimize access to zip files during search operation
 		manager.cacheZipFiles(this);
@@ -1547,12 +1682,20 @@ public void locateMatches(SearchDocument[] searchDocuments) throws CoreException
 				// problem with classpath in last project -> ignore
 			}
 		}
+		if (this.workers != null)
+			reportConcurrentMatches(true);
 
 		if (this.searchPackageDeclaration) {
 			locatePackageDeclarations(searchParticipant, javaModelProjects);
 		}
 
 	} finally {
+		if (this.workers != null) {
+			// batches are only left after a failure, drop them
+			this.workers.shutdownNow();
+			this.workers = null;
+			this.concurrentBatches = null;
+		}
 		if (this.progressMonitor != null)
 			this.progressMonitor.done();
 		if (this.nameEnvironment != null)
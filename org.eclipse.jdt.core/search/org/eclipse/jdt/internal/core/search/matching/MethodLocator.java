@@ -143,6 +143,14 @@ public void initializePolymorphicSearch(MatchLocator locator) {
 		trace("Time to initialize polymorphic search: "+(System.currentTimeMillis()-start)); //$NON-NLS-1$
 	}
 }
+@Override
+public void initializePolymorphicSearch(MatchLocator locator, PatternLocator initialized) {
+	MethodLocator other = (MethodLocator) initialized;
+	this.allSuperDeclaringTypeNames = other.allSuperDeclaringTypeNames;
+	this.samePkgSuperDeclaringTypeNames = other.samePkgSuperDeclaringTypeNames;
+	if (other.matchLocator != null) // otherwise the super types could not be collected
+		this.matchLocator = locator;
+}
 /*
  * Return whether a type name is in pattern all super declaring types names.
  */
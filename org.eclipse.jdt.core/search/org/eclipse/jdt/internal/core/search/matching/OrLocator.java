@@ -43,6 +43,12 @@ public void initializePolymorphicSearch(MatchLocator locator) {
 		patternLocator.initializePolymorphicSearch(locator);
 }
 @Override
+public void initializePolymorphicSearch(MatchLocator locator, PatternLocator initialized) {
+	PatternLocator[] initializedLocators = ((OrLocator) initialized).patternLocators;
+	for (int i = 0, length = this.patternLocators.length; i < length; i++)
+		this.patternLocators[i].initializePolymorphicSearch(locator, initializedLocators[i]);
+}
+@Override
 public int match(Annotation node, MatchingNodeSet nodeSet) {
 	int level = IMPOSSIBLE_MATCH;
 	for (PatternLocator patternLocator : this.patternLocators) {
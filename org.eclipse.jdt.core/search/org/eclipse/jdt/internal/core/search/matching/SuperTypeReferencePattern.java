@@ -259,8 +259,11 @@ public EntryResult[] queryIn(Index index) throws IOException {
 			// do a prefix query with the superSimpleName
 			matchRule &= ~R_EXACT_MATCH;
 			matchRule |= R_PREFIX_MATCH;
-			if (this.superSimpleName != null)
+			if (this.superSimpleName != null) {
+				if (isCaseSensitive() && Index.isSuperTypeGraphEnabled())
+					return index.querySuperTypeReferences(this.superSimpleName);
 				key = CharOperation.append(this.superSimpleName, SEPARATOR);
+			}
 			break;
 		case R_PREFIX_MATCH :
 			// do a prefix query with the superSimpleName
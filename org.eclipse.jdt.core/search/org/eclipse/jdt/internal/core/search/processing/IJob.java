@@ -58,4 +58,14 @@ public interface IJob {
 	public default boolean waitNeeded() {
 		return false;
 	}
+
+	/**
+	 * Answers if this job can be executed by another thread at the same time as the given job. Default implementation
+	 * returns {@code false}.
+	 *
+	 * @return true if neither job depends on the effects of the other one.
+	 */
+	public default boolean canRunConcurrently(IJob job) {
+		return false;
+	}
 }
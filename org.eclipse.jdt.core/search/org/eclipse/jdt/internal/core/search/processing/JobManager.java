@@ -15,14 +15,23 @@ package org.eclipse.jdt.internal.core.search.processing;
 
 import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -42,6 +51,30 @@ public abstract class JobManager {
 
 	private volatile boolean executing;
 
+	/**
+	 * jobs following the current job in the queue which are executed by the workers at the same time as the current
+	 * job, they stay in the queue until they have all completed
+	 * <br>
+	 * synchronized by JobManager.this
+	 */
+	private final List<IJob> concurrentJobs = new ArrayList<>();
+
+	/**
+	 * threads executing the {@link #concurrentJobs}, created on first use and resized when {@link #maxConcurrentJobs()}
+	 * changes
+	 * <br>
+	 * synchronized by JobManager.this
+	 */
+	private ThreadPoolExecutor workers;
+
+	/**
+	 * progress monitor of the {@link #concurrentJobs}, cancelled when all the jobs are discarded or when the progress
+	 * job is cancelled
+	 * <br>
+	 * synchronized by JobManager.this
+	 */
+	private IProgressMonitor concurrentJobsMonitor = new NullProgressMonitor();
+
 	/**
 	 * background processing
 	 * <br>
@@ -142,13 +175,28 @@ public abstract class JobManager {
 
 		try {
 			IJob currentJob;
+			List<IJob> runningJobs;
 			// cancel current job if it belongs to the given family
 			synchronized(this){
 				currentJob = currentJob();
+				runningJobs = new ArrayList<>(this.concurrentJobs);
 				disable();
 			}
+			if (jobFamily == null) {
+				cancelConcurrentJobs();
+			}
+			boolean cancelled = false;
+			for (IJob runningJob : runningJobs) {
+				if (jobFamily == null || runningJob.belongsTo(jobFamily)) {
+					runningJob.cancel();
+					cancelled = true;
+				}
+			}
 			if (currentJob != null && (jobFamily == null || currentJob.belongsTo(jobFamily))) {
 				currentJob.cancel();
+				cancelled = true;
+			}
+			if (cancelled) {
 
 				synchronized (this) {
 					// wait until current active job has finished
@@ -218,6 +266,10 @@ public abstract class JobManager {
 			if(job == first) {
 				break;
 			}
+			// neither the jobs executed concurrently with it
+			if (isConcurrentJob(job)) {
+				continue;
+			}
 			if (request.test(job)) {
 				return true;
 			}
@@ -241,6 +293,151 @@ public abstract class JobManager {
 			}
 		}
 	}
+	private boolean isConcurrentJob(IJob job) {
+		return containsJob(this.concurrentJobs, job);
+	}
+
+	private static boolean containsJob(List<IJob> jobs, IJob job) {
+		for (IJob each : jobs) {
+			if (each == job) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Answers the maximum number of jobs executed at the same time by the background processing: the current job and
+	 * the jobs following it in the queue which can run concurrently with it and with each other
+	 * ({@link IJob#canRunConcurrently(IJob)}). Default implementation returns 1, jobs are executed one after the other.
+	 */
+	protected int maxConcurrentJobs() {
+		return 1;
+	}
+
+	/**
+	 * Starts executing the jobs directly following the current job in the queue, as long as they can run concurrently
+	 * with the current job and with each other. Only consecutive jobs are started, so that no job runs before a job
+	 * requested earlier which it may depend on.
+	 */
+	private List<Future<?>> startConcurrentJobs(IJob currentJob) {
+		int maxJobs = maxConcurrentJobs();
+		if (maxJobs <= 1) {
+			return Collections.emptyList();
+		}
+		List<Future<?>> futures = new ArrayList<>();
+		synchronized (this) {
+			if (this.awaitingJobs.isEmpty() || this.awaitingJobs.get(0) != currentJob) {
+				return futures;
+			}
+			Iterator<IJob> iterator = this.awaitingJobs.listIterator(1);
+			next : while (iterator.hasNext() && this.concurrentJobs.size() < maxJobs - 1) {
+				IJob job = iterator.next();
+				if (!currentJob.canRunConcurrently(job) || !job.canRunConcurrently(currentJob)) {
+					break;
+				}
+				for (IJob concurrentJob : this.concurrentJobs) {
+					if (!concurrentJob.canRunConcurrently(job) || !job.canRunConcurrently(concurrentJob)) {
+						break next;
+					}
+				}
+				this.concurrentJobs.add(job);
+			}
+			if (this.concurrentJobs.isEmpty()) {
+				return futures;
+			}
+			if (this.workers == null) {
+				ClassLoader contextClassLoader = this.getClass().getClassLoader();
+				this.workers = new ThreadPoolExecutor(maxJobs - 1, maxJobs - 1, 0L, TimeUnit.MILLISECONDS,
+						new LinkedBlockingQueue<>(), runnable -> {
+					Thread t = new Thread(runnable, processName());
+					t.setDaemon(true);
+					t.setPriority(Thread.NORM_PRIORITY-1);
+					t.setContextClassLoader(contextClassLoader);
+					return t;
+				});
+			} else if (this.workers.getMaximumPoolSize() < maxJobs - 1) {
+				this.workers.setMaximumPoolSize(maxJobs - 1);
+				this.workers.setCorePoolSize(maxJobs - 1);
+			} else if (this.workers.getMaximumPoolSize() > maxJobs - 1) {
+				this.workers.setCorePoolSize(maxJobs - 1); // idle threads beyond it terminate
+				this.workers.setMaximumPoolSize(maxJobs - 1);
+			}
+			if (this.concurrentJobsMonitor.isCanceled()) {
+				this.concurrentJobsMonitor = new NullProgressMonitor();
+			}
+			IProgressMonitor monitor = this.concurrentJobsMonitor;
+			for (IJob job : this.concurrentJobs) {
+				futures.add(this.workers.submit(() -> executeConcurrentJob(job, monitor)));
+			}
+		}
+		return futures;
+	}
+
+	private void executeConcurrentJob(IJob job, IProgressMonitor monitor) {
+		if (VERBOSE) {
+			trace("STARTING concurrent background job - " + job); //$NON-NLS-1$
+		}
+		JavaModelManager modelManager = JavaModelManager.getJavaModelManager();
+		modelManager.cacheZipFiles(this);
+		try {
+			job.execute(monitor); // may enqueue a new job
+		} finally {
+			modelManager.flushZipFiles(this);
+			if (VERBOSE) {
+				trace("FINISHED concurrent background job - " + job); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Cancels the progress monitor of the jobs being executed by the workers.
+	 */
+	private synchronized void cancelConcurrentJobs() {
+		this.concurrentJobsMonitor.setCanceled(true);
+	}
+
+	/**
+	 * Waits until the workers are done with the given jobs. The indexes they update are in use until then, so the wait
+	 * cannot be interrupted: an interruption is only reported once the jobs are done, by setting the interrupted status
+	 * of the current thread again.
+	 */
+	private void awaitConcurrentJobs(List<Future<?>> futures) {
+		boolean interrupted = false;
+		for (Future<?> future : futures) {
+			while (true) {
+				try {
+					future.get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				} catch (ExecutionException e) {
+					// some indexes will be inconsistent
+					Util.log(e.getCause(), "Background Indexer Crash Recovery"); //$NON-NLS-1$
+					break;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Removes the completed concurrent jobs from the queue, answers them.
+	 */
+	private synchronized List<IJob> removeConcurrentJobs() {
+		if (this.concurrentJobs.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<IJob> jobs = new ArrayList<>(this.concurrentJobs);
+		this.concurrentJobs.clear();
+		// discardJobs(String) may have removed some of them already, and equal jobs may have been requested since
+		this.awaitingJobs.removeIf(job -> containsJob(jobs, job));
+		notifyAll(); // notify waiters for awaitingJobsCount()
+		return jobs;
+	}
+
 	/**
 	 * When idle, give chance to do something
 	 */
@@ -476,6 +673,9 @@ public abstract class JobManager {
 						}
 						job = currentJob();
 					}
+					if (monitor.isCanceled()) {
+						cancelConcurrentJobs();
+					}
 					//make sure next index job will schedule new ProgressJob:
 					JobManager.this.progressJob = null;
 					return Status.OK_STATUS;
@@ -538,14 +738,23 @@ public abstract class JobManager {
 							JavaModelManager.getJavaModelManager().cacheZipFiles(this);
 							cacheZipFiles = true;
 						}
-						job.execute(null); // may enqueue a new job
+						List<Future<?>> futures = startConcurrentJobs(job);
+						try {
+							job.execute(null); // may enqueue a new job
+						} finally {
+							awaitConcurrentJobs(futures);
+						}
 					} finally {
 						this.executing = false;
 						if (VERBOSE) {
 							trace("FINISHED background job - " + job); //$NON-NLS-1$
 						}
+						boolean waitNeeded = job.waitNeeded();
+						for (IJob concurrentJob : removeConcurrentJobs()) {
+							waitNeeded |= concurrentJob.waitNeeded();
+						}
 						moveToNextJob();
-						if (this.awaitingClients.get() == 0 && job.waitNeeded()) {
+						if (this.awaitingClients.get() == 0 && waitNeeded) {
 							if (VERBOSE) {
 								trace("WAITING after job - " + job); //$NON-NLS-1$
 							}
@@ -606,6 +815,14 @@ public abstract class JobManager {
 				job.cancel();
 				job.join();
 			}
+			ExecutorService executor;
+			synchronized (this) {
+				executor = this.workers;
+				this.workers = null;
+			}
+			if (executor != null) {
+				executor.shutdown();
+			}
 		} catch (InterruptedException e) {
 			// ignore
 		}